@@ -0,0 +1,48 @@
+package org.example.newsfeedapiv2.benchmark.jmh;
+
+import org.example.newsfeedapiv2.dto.NewsDTO;
+import org.example.newsfeedapiv2.entity.Category;
+import org.example.newsfeedapiv2.entity.News;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.stream.IntStream;
+
+final class BenchmarkData {
+
+    private static final Instant DATE = Instant.parse("2024-03-01T10:15:30.123456Z");
+
+    private BenchmarkData() {
+    }
+
+    static Category category() {
+        return new Category()
+                .setId(1L)
+                .setTitle("Sport")
+                .setVersion(3L)
+                .setUpdatedAt(DATE);
+    }
+
+    static News news(long id, Category category) {
+        return new News()
+                .setId(id)
+                .setTitle("Football final tonight " + id)
+                .setText("The match starts at eight, gates open two hours earlier. Tickets are sold out.")
+                .setDate(DATE.plusMillis(id))
+                .setVersion(1L)
+                .setUpdatedAt(DATE)
+                .setCategory(category);
+    }
+
+    static List<NewsDTO> newsDTOs(int size) {
+        return IntStream.range(0, size)
+                .mapToObj(i -> new NewsDTO()
+                        .setId((long) i)
+                        .setTitle("Football final tonight " + i)
+                        .setText("The match starts at eight, gates open two hours earlier. Tickets are sold out.")
+                        .setDate(DATE.plusSeconds(i))
+                        .setCategoryTitle("Sport"))
+                .toList();
+    }
+
+}
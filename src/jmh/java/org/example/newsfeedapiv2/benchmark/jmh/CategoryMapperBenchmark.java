@@ -0,0 +1,41 @@
+package org.example.newsfeedapiv2.benchmark.jmh;
+
+import org.example.newsfeedapiv2.dto.CategoryDTO;
+import org.example.newsfeedapiv2.entity.Category;
+import org.example.newsfeedapiv2.mappers.CategoryMapper;
+import org.example.newsfeedapiv2.mappers.CategoryMapperImpl;
+import org.example.newsfeedapiv2.mappers.NewsMapperImpl;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class CategoryMapperBenchmark {
+
+    @Param({"0", "100"})
+    private int newsCount;
+
+    private CategoryMapper mapper;
+    private Category category;
+
+    @Setup
+    public void setUp() {
+        mapper = new CategoryMapperImpl();
+        ReflectionTestUtils.setField(mapper, "newsMapper", new NewsMapperImpl());
+
+        category = BenchmarkData.category();
+        category.setNewsList(LongStream.range(0, newsCount)
+                .mapToObj(id -> BenchmarkData.news(id, category))
+                .toList());
+    }
+
+    @Benchmark
+    public CategoryDTO mapToDTO() {
+        return mapper.mapToDTO(category);
+    }
+
+}
@@ -0,0 +1,41 @@
+package org.example.newsfeedapiv2.benchmark.jmh;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs the JMH benchmarks of this package with the GC profiler, so every result carries
+ * {@code gc.alloc.rate.norm} (bytes allocated per operation). Run it with
+ * {@code mvn test -Pbenchmark -Dtest=JmhBenchmarkTest}; narrow the selection with {@code -Djmh.include=regex}.
+ * Results are also written to {@code target/jmh-result.json}.
+ */
+@Tag("benchmark")
+public class JmhBenchmarkTest {
+
+    @Test
+    @DisplayName("Mapping and JSON serialization benchmarks")
+    public void runBenchmarks() throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(System.getProperty("jmh.include", getClass().getPackageName() + ".*Benchmark"))
+                .addProfiler(GCProfiler.class)
+                .forks(Integer.getInteger("jmh.forks", 1))
+                .warmupIterations(Integer.getInteger("jmh.warmup-iterations", 3))
+                .measurementIterations(Integer.getInteger("jmh.iterations", 5))
+                .jvmArgs("-Xms1g", "-Xmx1g")
+                .resultFormat(ResultFormatType.JSON)
+                .result("target/jmh-result.json")
+                .build();
+
+        assertThat(new Runner(options).run()).isNotEmpty();
+    }
+
+}
@@ -0,0 +1,46 @@
+package org.example.newsfeedapiv2.benchmark.jmh;
+
+import org.example.newsfeedapiv2.dto.NewsDTO;
+import org.example.newsfeedapiv2.entity.Category;
+import org.example.newsfeedapiv2.entity.News;
+import org.example.newsfeedapiv2.mappers.NewsMapper;
+import org.example.newsfeedapiv2.mappers.NewsMapperImpl;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class NewsMapperBenchmark {
+
+    private NewsMapper mapper;
+    private News news;
+    private Category category;
+    private Instant date;
+
+    @Setup
+    public void setUp() {
+        mapper = new NewsMapperImpl();
+        category = BenchmarkData.category();
+        news = BenchmarkData.news(1L, category);
+        date = news.getDate();
+    }
+
+    @Benchmark
+    public NewsDTO mapToDTO() {
+        return mapper.mapToDTO(news);
+    }
+
+    @Benchmark
+    public Instant truncateToSeconds() {
+        return mapper.truncateToSeconds(date);
+    }
+
+    @Benchmark
+    public String extractCategoryTitle() {
+        return mapper.extractCategoryTitle(category);
+    }
+
+}
@@ -0,0 +1,73 @@
+package org.example.newsfeedapiv2.benchmark.jmh;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.example.newsfeedapiv2.config.BinaryFormatsConfiguration;
+import org.example.newsfeedapiv2.dto.NewsDTO;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Encodes and decodes news lists in every format the REST controllers negotiate, with the mappers of the
+ * corresponding message converters. The payload size of each format is printed once per trial, since JMH only
+ * reports times and allocations.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class NewsWireFormatBenchmark {
+
+    private static final TypeReference<List<NewsDTO>> NEWS_LIST = new TypeReference<>() {
+    };
+
+    @Param({"json", "smile", "cbor"})
+    private String format;
+
+    @Param({"100", "10000"})
+    private int size;
+
+    private ObjectWriter writer;
+    private ObjectReader reader;
+    private List<NewsDTO> news;
+    private byte[] payload;
+
+    @Setup
+    public void setUp() throws IOException {
+        ObjectMapper mapper = mapper(format);
+        writer = mapper.writerFor(NEWS_LIST);
+        reader = mapper.readerFor(NEWS_LIST);
+        news = BenchmarkData.newsDTOs(size);
+        payload = writer.writeValueAsBytes(news);
+        System.out.printf("%n%s payload of %d news: %d bytes (%.1f per news)%n",
+                format, size, payload.length, (double) payload.length / size);
+    }
+
+    @Benchmark
+    public byte[] encode() throws IOException {
+        return writer.writeValueAsBytes(news);
+    }
+
+    @Benchmark
+    public List<NewsDTO> decode() throws IOException {
+        return reader.readValue(payload);
+    }
+
+    private static ObjectMapper mapper(String format) {
+        BinaryFormatsConfiguration binaryFormats = new BinaryFormatsConfiguration();
+        return switch (format) {
+            case "json" -> Jackson2ObjectMapperBuilder.json().build();
+            case "smile" -> binaryFormats.smileHttpMessageConverter(Jackson2ObjectMapperBuilder.json())
+                    .getObjectMapper();
+            case "cbor" -> binaryFormats.cborHttpMessageConverter(Jackson2ObjectMapperBuilder.json())
+                    .getObjectMapper();
+            default -> throw new IllegalArgumentException("Unknown format: " + format);
+        };
+    }
+
+}
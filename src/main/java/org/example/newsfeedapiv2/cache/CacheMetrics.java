@@ -0,0 +1,51 @@
+package org.example.newsfeedapiv2.cache;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Supplier;
+
+/**
+ * Publishes {@link CacheStats} of the in-process caches under Micrometer's usual cache meter names.
+ */
+@RequiredArgsConstructor
+@Component
+public class CacheMetrics implements MeterBinder {
+
+    private final CategoryCache categoryCache;
+    private final NewsFeedCache feedCache;
+    private final LatestNewsBuffer latestNews;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        bind(registry, "categories", categoryCache::getStats);
+        bind(registry, "feeds", feedCache::getStats);
+        bind(registry, "latest", latestNews::getStats);
+    }
+
+    private static void bind(MeterRegistry registry, String cache, Supplier<CacheStats> stats) {
+        FunctionCounter.builder("cache.gets", stats, s -> s.get().hits())
+                .tags("cache", cache, "result", "hit")
+                .description("Number of cache lookups that found an entry")
+                .register(registry);
+        FunctionCounter.builder("cache.gets", stats, s -> s.get().misses())
+                .tags("cache", cache, "result", "miss")
+                .description("Number of cache lookups that found nothing")
+                .register(registry);
+        FunctionCounter.builder("cache.evictions", stats, s -> s.get().evictions())
+                .tag("cache", cache)
+                .register(registry);
+        Gauge.builder("cache.size", stats, s -> s.get().size())
+                .tag("cache", cache)
+                .register(registry);
+        Gauge.builder("cache.weight", stats, s -> s.get().weight())
+                .tag("cache", cache)
+                .description("Summed entry weight, compared against the configured maximum")
+                .register(registry);
+    }
+
+}
@@ -0,0 +1,13 @@
+package org.example.newsfeedapiv2.cache;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+public record CacheStats(long hits, long misses, long evictions, long size, long weight) {
+
+    @JsonProperty("hitRatio")
+    public double hitRatio() {
+        long requests = hits + misses;
+        return requests == 0 ? 0.0 : (double) hits / requests;
+    }
+
+}
@@ -0,0 +1,136 @@
+package org.example.newsfeedapiv2.cache;
+
+import org.example.newsfeedapiv2.entity.Category;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * In-process dictionary of categories keyed by id and by title.
+ * <p>
+ * Callers always get a fresh detached {@link Category} copy, so cached state is never shared. Copies keep the
+ * version, so Hibernate treats them as detached rather than transient when news reference them.
+ * Loads read {@link #stamp()} before going to the database and pass it back to {@link #put(Category, long)};
+ * a put that raced with an invalidation is dropped instead of resurrecting a stale entry.
+ * <p>
+ * Once the cache is full, admitting a new category evicts the least recently read one. Reads only stamp the
+ * entry with a tick and stay lock-free; the eviction scan runs under the write lock and only when a category
+ * that is not cached yet is admitted.
+ */
+@Component
+public class CategoryCache {
+
+    private final int maxSize;
+    private final Map<Long, Entry> byId = new ConcurrentHashMap<>();
+    private final Map<String, Entry> byTitle = new ConcurrentHashMap<>();
+    private final AtomicLong invalidations = new AtomicLong();
+    private final AtomicLong ticks = new AtomicLong();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public CategoryCache(@Value("${news.cache.categories.max-size:1024}") int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    public Optional<Category> getById(Long id) {
+        return record(id == null ? null : byId.get(id));
+    }
+
+    public Optional<Category> getByTitle(String title) {
+        return record(title == null ? null : byTitle.get(title));
+    }
+
+    public long stamp() {
+        return invalidations.get();
+    }
+
+    public synchronized void put(Category category, long stamp) {
+        if (category.getId() == null || category.getTitle() == null || stamp != invalidations.get()) {
+            return;
+        }
+        if (!byId.containsKey(category.getId()) && byId.size() >= maxSize) {
+            evictLeastRecentlyUsed();
+        }
+        remove(category.getId());
+        Entry entry = new Entry(category.getId(), category.getTitle(), category.getVersion(), category.getUpdatedAt(),
+                ticks.incrementAndGet());
+        byId.put(entry.id, entry);
+        byTitle.put(entry.title, entry);
+    }
+
+    public synchronized void invalidate(Long id) {
+        invalidations.incrementAndGet();
+        remove(id);
+    }
+
+    public synchronized void invalidateAll() {
+        invalidations.incrementAndGet();
+        byId.clear();
+        byTitle.clear();
+    }
+
+    public CacheStats getStats() {
+        int size = byId.size();
+        return new CacheStats(hits.sum(), misses.sum(), evictions.sum(), size, size);
+    }
+
+    private void remove(Long id) {
+        Entry entry = byId.remove(id);
+        if (entry != null) {
+            byTitle.remove(entry.title, entry);
+        }
+    }
+
+    private void evictLeastRecentlyUsed() {
+        Entry eldest = null;
+        for (Entry entry : byId.values()) {
+            if (eldest == null || entry.lastRead < eldest.lastRead) {
+                eldest = entry;
+            }
+        }
+        if (eldest != null) {
+            remove(eldest.id);
+            evictions.increment();
+        }
+    }
+
+    private Optional<Category> record(Entry entry) {
+        if (entry == null) {
+            misses.increment();
+            return Optional.empty();
+        }
+        hits.increment();
+        entry.lastRead = ticks.incrementAndGet();
+        return Optional.of(new Category()
+                .setId(entry.id)
+                .setTitle(entry.title)
+                .setVersion(entry.version)
+                .setUpdatedAt(entry.updatedAt));
+    }
+
+    private static final class Entry {
+
+        private final Long id;
+        private final String title;
+        private final Long version;
+        private final Instant updatedAt;
+        private volatile long lastRead;
+
+        private Entry(Long id, String title, Long version, Instant updatedAt, long lastRead) {
+            this.id = id;
+            this.title = title;
+            this.version = version;
+            this.updatedAt = updatedAt;
+            this.lastRead = lastRead;
+        }
+
+    }
+
+}
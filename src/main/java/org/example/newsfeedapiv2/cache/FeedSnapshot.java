@@ -0,0 +1,32 @@
+package org.example.newsfeedapiv2.cache;
+
+import org.example.newsfeedapiv2.dto.ResourceVersion;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * A category feed serialized to JSON once, plus its gzip encoding when the JSON is large enough to be worth
+ * compressing. Both arrays are shared by every response that serves the snapshot and must not be modified.
+ * The snapshot carries the validators of the feed it was serialized from, so a response takes its entity tag
+ * and its body from the same read.
+ */
+public record FeedSnapshot(byte[] json, byte[] gzip, ResourceVersion version) {
+
+    public static FeedSnapshot of(byte[] json, ResourceVersion version, int minCompressedSize) {
+        return new FeedSnapshot(json, json.length >= minCompressedSize ? gzip(json) : null, version);
+    }
+
+    private static byte[] gzip(byte[] json) {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(json.length / 4);
+        try (GZIPOutputStream out = new GZIPOutputStream(compressed)) {
+            out.write(json);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return compressed.toByteArray();
+    }
+
+}
@@ -0,0 +1,34 @@
+package org.example.newsfeedapiv2.cache;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Write counters for the stamp protocol, kept per category so a write only drops the loads of its own
+ * categories. Categories are hashed onto a fixed number of stripes; two categories sharing a stripe only
+ * means a write to one occasionally drops a load of the other.
+ */
+final class Generations {
+
+    private static final int STRIPES = 256;
+
+    private final AtomicLongArray stripes = new AtomicLongArray(STRIPES);
+
+    long get(Long categoryId) {
+        return stripes.get(stripe(categoryId));
+    }
+
+    void advance(Long categoryId) {
+        stripes.incrementAndGet(stripe(categoryId));
+    }
+
+    void advanceAll() {
+        for (int i = 0; i < STRIPES; i++) {
+            stripes.incrementAndGet(i);
+        }
+    }
+
+    private static int stripe(Long categoryId) {
+        return Long.hashCode(categoryId) & (STRIPES - 1);
+    }
+
+}
@@ -0,0 +1,300 @@
+package org.example.newsfeedapiv2.cache;
+
+import org.example.newsfeedapiv2.dto.NewsDTO;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per-category ring buffers of the newest news, ordered like the category pages: by date, then id, newest first.
+ * <p>
+ * A buffer always holds an exact prefix of its category, so any request for no more items than it holds is
+ * answered from memory; a buffer that knows it holds the whole category answers every request. A new item usually
+ * becomes the head, which costs one slot write once the ring is full. Removing an item shortens the prefix instead
+ * of reading the next one, and the next request that needs more refills the buffer.
+ * <p>
+ * Every buffer has its own lock, so readers and writers of different categories never contend. Fills use the
+ * same per-category stamp protocol as {@link NewsFeedCache}: a fill that raced with a write to its category is
+ * dropped, so writers name every category they touched, including the one a moved news item came from. Buffered
+ * {@link NewsDTO}s are shared between callers and must be treated as read-only.
+ */
+@Component
+public class LatestNewsBuffer {
+
+    private static final Comparator<NewsDTO> NEWEST_FIRST = Comparator
+            .comparing(NewsDTO::getDate, Comparator.nullsLast(Comparator.reverseOrder()))
+            .thenComparing(NewsDTO::getId, Comparator.reverseOrder());
+
+    private final int capacity;
+    private final Map<Long, Ring> rings = new ConcurrentHashMap<>();
+    private final Map<Long, Long> categoryIdsByNewsId = new ConcurrentHashMap<>();
+    private final Generations generations = new Generations();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public LatestNewsBuffer(@Value("${news.cache.latest.capacity:50}") int capacity) {
+        this.capacity = capacity;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Returns the newest {@code limit} news of a category, or nothing when the buffer cannot tell what they are.
+     */
+    public Optional<List<NewsDTO>> get(Long categoryId, int limit) {
+        Ring ring = rings.get(categoryId);
+        List<NewsDTO> latest = ring == null ? null : ring.latest(limit);
+        if (latest == null) {
+            misses.increment();
+            return Optional.empty();
+        }
+        hits.increment();
+        return Optional.of(latest);
+    }
+
+    public long stamp(Long categoryId) {
+        return generations.get(categoryId);
+    }
+
+    /**
+     * Replaces the buffer of a category with its newest news, as read from the database after {@code stamp} was
+     * taken. {@code complete} tells whether {@code newest} is the whole category.
+     */
+    public void fill(Long categoryId, List<NewsDTO> newest, boolean complete, long stamp) {
+        Ring ring = rings.computeIfAbsent(categoryId, Ring::new);
+        synchronized (ring) {
+            if (stamp == generations.get(categoryId)) {
+                ring.fill(newest, complete);
+            }
+        }
+    }
+
+    /**
+     * Records a created or updated news item, moving it out of the buffer of its previous category if needed.
+     * {@code previousCategoryId} is the category the item belonged to before the write, or {@code null} for a
+     * new item.
+     */
+    public void put(Long categoryId, NewsDTO news, Long previousCategoryId) {
+        generations.advance(categoryId);
+        if (previousCategoryId != null && !previousCategoryId.equals(categoryId)) {
+            generations.advance(previousCategoryId);
+        }
+        Long bufferedCategoryId = categoryIdsByNewsId.get(news.getId());
+        if (bufferedCategoryId != null && !bufferedCategoryId.equals(categoryId)) {
+            removeFrom(bufferedCategoryId, news.getId());
+        }
+        Ring ring = rings.get(categoryId);
+        if (ring != null) {
+            synchronized (ring) {
+                ring.put(news);
+            }
+        }
+    }
+
+    public void remove(Long categoryId, Long newsId) {
+        removeAll(List.of(categoryId), List.of(newsId));
+    }
+
+    /**
+     * Removes news items that belonged to the given categories.
+     */
+    public void removeAll(Collection<Long> categoryIds, Collection<Long> newsIds) {
+        categoryIds.forEach(generations::advance);
+        for (Long newsId : newsIds) {
+            Long categoryId = categoryIdsByNewsId.get(newsId);
+            if (categoryId != null) {
+                removeFrom(categoryId, newsId);
+            }
+        }
+    }
+
+    /**
+     * Drops the buffer of a category, for changes that touch every item in it such as a new category title.
+     */
+    public void invalidate(Long categoryId) {
+        generations.advance(categoryId);
+        Ring ring = rings.remove(categoryId);
+        if (ring != null) {
+            synchronized (ring) {
+                ring.clear();
+            }
+        }
+    }
+
+    public void invalidateAll() {
+        generations.advanceAll();
+        rings.keySet().forEach(this::invalidate);
+    }
+
+    public CacheStats getStats() {
+        long buffered = 0;
+        for (Ring ring : rings.values()) {
+            synchronized (ring) {
+                buffered += ring.size;
+            }
+        }
+        return new CacheStats(hits.sum(), misses.sum(), evictions.sum(), rings.size(), buffered);
+    }
+
+    private void removeFrom(Long categoryId, Long newsId) {
+        Ring ring = rings.get(categoryId);
+        if (ring != null) {
+            synchronized (ring) {
+                ring.remove(newsId);
+            }
+        }
+    }
+
+    /**
+     * Circular array holding the newest news of one category at logical positions {@code 0..size-1}. Guarded by
+     * its own monitor.
+     */
+    private final class Ring {
+
+        private final Long categoryId;
+        private final NewsDTO[] slots = new NewsDTO[capacity];
+        private int head;
+        private int size;
+        private boolean loaded;
+        private boolean complete;
+
+        private Ring(Long categoryId) {
+            this.categoryId = categoryId;
+        }
+
+        private synchronized List<NewsDTO> latest(int limit) {
+            if (!loaded || (limit > size && !complete)) {
+                return null;
+            }
+            int count = Math.min(limit, size);
+            List<NewsDTO> latest = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                latest.add(at(i));
+            }
+            return latest;
+        }
+
+        private void fill(List<NewsDTO> newest, boolean complete) {
+            clear();
+            int count = Math.min(newest.size(), capacity);
+            for (int i = 0; i < count; i++) {
+                slots[i] = newest.get(i);
+                categoryIdsByNewsId.put(slots[i].getId(), categoryId);
+            }
+            size = count;
+            loaded = true;
+            this.complete = complete && newest.size() <= capacity;
+        }
+
+        private void put(NewsDTO news) {
+            if (!loaded) {
+                return;
+            }
+            int existing = indexOf(news.getId());
+            if (existing >= 0) {
+                removeAt(existing);
+            }
+
+            int position = 0;
+            while (position < size && NEWEST_FIRST.compare(at(position), news) < 0) {
+                position++;
+            }
+            if (position == size && !complete && existing < 0) {
+                // Older than everything buffered while older news exist: it is not part of the prefix.
+                return;
+            }
+            if (size == capacity) {
+                if (position == size) {
+                    complete = false;
+                    return;
+                }
+                evictOldest();
+            }
+            insertAt(position, news);
+            categoryIdsByNewsId.put(news.getId(), categoryId);
+        }
+
+        private void remove(Long newsId) {
+            int index = indexOf(newsId);
+            if (index >= 0) {
+                removeAt(index);
+            }
+        }
+
+        private void clear() {
+            for (int i = 0; i < size; i++) {
+                categoryIdsByNewsId.remove(at(i).getId(), categoryId);
+                slots[slot(i)] = null;
+            }
+            head = 0;
+            size = 0;
+            loaded = false;
+            complete = false;
+        }
+
+        private void evictOldest() {
+            int last = slot(size - 1);
+            categoryIdsByNewsId.remove(slots[last].getId(), categoryId);
+            slots[last] = null;
+            size--;
+            complete = false;
+            evictions.increment();
+        }
+
+        private void insertAt(int position, NewsDTO news) {
+            if (position == 0) {
+                head = (head - 1 + capacity) % capacity;
+            } else {
+                for (int i = size; i > position; i--) {
+                    slots[slot(i)] = slots[slot(i - 1)];
+                }
+            }
+            slots[slot(position)] = news;
+            size++;
+        }
+
+        private void removeAt(int index) {
+            categoryIdsByNewsId.remove(at(index).getId(), categoryId);
+            if (index == 0) {
+                slots[head] = null;
+                head = (head + 1) % capacity;
+            } else {
+                for (int i = index; i < size - 1; i++) {
+                    slots[slot(i)] = slots[slot(i + 1)];
+                }
+                slots[slot(size - 1)] = null;
+            }
+            size--;
+        }
+
+        private int indexOf(Long newsId) {
+            for (int i = 0; i < size; i++) {
+                if (at(i).getId().equals(newsId)) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        private NewsDTO at(int index) {
+            return slots[slot(index)];
+        }
+
+        private int slot(int index) {
+            return (head + index) % capacity;
+        }
+
+    }
+
+}
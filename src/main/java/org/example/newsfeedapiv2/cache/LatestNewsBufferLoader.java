@@ -0,0 +1,40 @@
+package org.example.newsfeedapiv2.cache;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.newsfeedapiv2.dto.CategoryDTO;
+import org.example.newsfeedapiv2.exceptions.NotFoundException;
+import org.example.newsfeedapiv2.services.CategoryServiceImpl;
+import org.example.newsfeedapiv2.services.NewsServiceImpl;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@RequiredArgsConstructor
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@Component
+public class LatestNewsBufferLoader {
+
+    private final LatestNewsBuffer buffer;
+    private final CategoryServiceImpl categoryService;
+    private final NewsServiceImpl newsService;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        long start = System.nanoTime();
+        int categories = 0;
+        for (CategoryDTO category : categoryService.getAll()) {
+            try {
+                newsService.loadLatest(category.getId(), buffer.getCapacity());
+                categories++;
+            } catch (NotFoundException e) {
+                log.debug("Category {} was deleted before its latest news were buffered", category.getId());
+            }
+        }
+        log.info("Latest news buffered for {} categories in {} ms",
+                categories, (System.nanoTime() - start) / 1_000_000);
+    }
+
+}
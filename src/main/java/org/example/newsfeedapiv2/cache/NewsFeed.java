@@ -0,0 +1,55 @@
+package org.example.newsfeedapiv2.cache;
+
+import org.example.newsfeedapiv2.dto.NewsDTO;
+import org.example.newsfeedapiv2.dto.ResourceVersion;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * The news of a category together with the validators they were loaded under, so a cached feed answers
+ * conditional requests without going back to the database.
+ */
+public record NewsFeed(List<NewsDTO> news, ResourceVersion version) {
+
+    /**
+     * Validators of a feed body. The entity tag is a digest of every field the body renders, in order, so two
+     * feeds share a tag only when they render the same. Deleting news does not leave a newer modification date
+     * behind, so the feed has no {@code Last-Modified}.
+     */
+    public static ResourceVersion versionOf(Long categoryId, List<NewsDTO> news) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        for (NewsDTO item : news) {
+            update(digest, item.getId() == null ? null : item.getId().toString());
+            update(digest, item.getTitle());
+            update(digest, item.getText());
+            update(digest, item.getDate() == null ? null : item.getDate().toString());
+            update(digest, item.getCategoryTitle());
+        }
+        byte[] hash = Arrays.copyOf(digest.digest(), 16);
+        return new ResourceVersion(
+                "feed-" + categoryId + "-" + Base64.getUrlEncoder().withoutPadding().encodeToString(hash), null);
+    }
+
+    private static void update(MessageDigest digest, String value) {
+        if (value == null) {
+            digest.update((byte) 0);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        digest.update((byte) 1);
+        digest.update(ByteBuffer.allocate(Integer.BYTES).putInt(bytes.length).array());
+        digest.update(bytes);
+    }
+
+}
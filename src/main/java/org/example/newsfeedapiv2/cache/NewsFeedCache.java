@@ -0,0 +1,200 @@
+package org.example.newsfeedapiv2.cache;
+
+import org.example.newsfeedapiv2.dto.NewsDTO;
+import org.example.newsfeedapiv2.dto.ResourceVersion;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * Per-category cache of mapped news feeds with least-recently-used eviction by weight.
+ * <p>
+ * Every feed is cached with the {@link ResourceVersion} it was loaded under, so a hit also answers
+ * conditional requests.
+ * <p>
+ * An entry weighs one unit per news item plus one for the entry itself, so a handful of huge feeds cannot
+ * push out every small one unnoticed. An attached snapshot adds one unit per started kilobyte of its JSON and
+ * gzip bytes, since it can easily outweigh the mapped news it was built from. Cached lists are unmodifiable and their {@link NewsDTO}s are shared
+ * between callers, so they must be treated as read-only. Loads use the same stamp protocol as
+ * {@link CategoryCache}, with a stamp per category: a put that raced with an invalidation of its category is
+ * dropped, while writes to other categories leave it alone. Writers pass every category a write touched,
+ * including the one a moved news item came from.
+ * <p>
+ * Reads only stamp the entry with a tick and stay lock-free; puts, invalidations and the eviction scan run
+ * under the cache lock.
+ * <p>
+ * A cached feed can carry a {@link FeedSnapshot} of its serialized form. Snapshots live and die with their feed
+ * entry; when a write invalidates a feed that had one, the snapshot listener is told so it can rebuild it ahead
+ * of the next request.
+ */
+@Component
+public class NewsFeedCache {
+
+    private static final int SNAPSHOT_BYTES_PER_UNIT = 1024;
+
+    private final long maxWeight;
+    private final Map<Long, Entry> entries = new ConcurrentHashMap<>();
+    private final Generations generations = new Generations();
+    private final AtomicLong ticks = new AtomicLong();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private long weight;
+    private Consumer<Long> snapshotListener = categoryId -> {
+    };
+
+    public NewsFeedCache(@Value("${news.cache.feeds.max-weight:100000}") long maxWeight) {
+        this.maxWeight = maxWeight;
+    }
+
+    public Optional<NewsFeed> get(Long categoryId) {
+        Entry entry = entries.get(categoryId);
+        if (entry == null) {
+            misses.increment();
+            return Optional.empty();
+        }
+        hits.increment();
+        entry.lastRead = ticks.incrementAndGet();
+        return Optional.of(entry.feed);
+    }
+
+    public Optional<FeedSnapshot> getSnapshot(Long categoryId) {
+        Entry entry = entries.get(categoryId);
+        FeedSnapshot snapshot = entry == null ? null : entry.snapshot;
+        if (snapshot == null) {
+            return Optional.empty();
+        }
+        hits.increment();
+        entry.lastRead = ticks.incrementAndGet();
+        return Optional.of(snapshot);
+    }
+
+    /**
+     * Attaches a snapshot to a cached feed. Dropped when the feed is no longer cached or its category was
+     * invalidated since {@code stamp} was taken. The added weight may evict other feeds, or this one.
+     */
+    public synchronized void putSnapshot(Long categoryId, FeedSnapshot snapshot, long stamp) {
+        Entry entry = entries.get(categoryId);
+        if (entry == null || stamp != generations.get(categoryId)) {
+            return;
+        }
+        weight -= weigh(entry);
+        entry.snapshot = snapshot;
+        weight += weigh(entry);
+        evictIfOverweight();
+    }
+
+    /**
+     * Registers the callback told about every category whose snapshot a write invalidated. It runs under the
+     * cache lock and must only hand the work off.
+     */
+    public synchronized void onSnapshotInvalidated(Consumer<Long> listener) {
+        this.snapshotListener = listener;
+    }
+
+    public long stamp(Long categoryId) {
+        return generations.get(categoryId);
+    }
+
+    public synchronized NewsFeed put(Long categoryId, List<NewsDTO> news, ResourceVersion version, long stamp) {
+        NewsFeed cached = new NewsFeed(List.copyOf(news), version);
+        if (stamp != generations.get(categoryId) || weigh(cached) > maxWeight) {
+            return cached;
+        }
+        remove(categoryId);
+        Entry entry = new Entry(cached, ticks.incrementAndGet());
+        entries.put(categoryId, entry);
+        weight += weigh(entry);
+        evictIfOverweight();
+        return cached;
+    }
+
+    public synchronized void invalidate(Long categoryId) {
+        generations.advance(categoryId);
+        drop(categoryId);
+    }
+
+    /**
+     * Drops the cached feeds of every given category, under a single lock.
+     */
+    public synchronized void invalidate(Collection<Long> categoryIds) {
+        categoryIds.forEach(this::invalidate);
+    }
+
+    public synchronized void invalidateAll() {
+        generations.advanceAll();
+        entries.clear();
+        weight = 0;
+    }
+
+    public synchronized CacheStats getStats() {
+        return new CacheStats(hits.sum(), misses.sum(), evictions.sum(), entries.size(), weight);
+    }
+
+    private void drop(Long categoryId) {
+        Entry entry = entries.get(categoryId);
+        boolean hadSnapshot = entry != null && entry.snapshot != null;
+        remove(categoryId);
+        if (hadSnapshot) {
+            snapshotListener.accept(categoryId);
+        }
+    }
+
+    private void remove(Long categoryId) {
+        Entry entry = entries.remove(categoryId);
+        if (entry != null) {
+            weight -= weigh(entry);
+        }
+    }
+
+    private void evictIfOverweight() {
+        while (weight > maxWeight) {
+            Map.Entry<Long, Entry> eldest = null;
+            for (Map.Entry<Long, Entry> entry : entries.entrySet()) {
+                if (eldest == null || entry.getValue().lastRead < eldest.getValue().lastRead) {
+                    eldest = entry;
+                }
+            }
+            if (eldest == null) {
+                return;
+            }
+            remove(eldest.getKey());
+            evictions.increment();
+        }
+    }
+
+    private static long weigh(NewsFeed feed) {
+        return feed.news().size() + 1L;
+    }
+
+    private static long weigh(Entry entry) {
+        FeedSnapshot snapshot = entry.snapshot;
+        if (snapshot == null) {
+            return weigh(entry.feed);
+        }
+        long bytes = snapshot.json().length + (snapshot.gzip() == null ? 0L : snapshot.gzip().length);
+        return weigh(entry.feed) + (bytes + SNAPSHOT_BYTES_PER_UNIT - 1) / SNAPSHOT_BYTES_PER_UNIT;
+    }
+
+    private static final class Entry {
+
+        private final NewsFeed feed;
+        private volatile FeedSnapshot snapshot;
+        private volatile long lastRead;
+
+        private Entry(NewsFeed feed, long lastRead) {
+            this.feed = feed;
+            this.lastRead = lastRead;
+        }
+
+    }
+
+}
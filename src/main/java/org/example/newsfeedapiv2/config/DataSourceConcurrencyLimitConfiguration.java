@@ -0,0 +1,81 @@
+package org.example.newsfeedapiv2.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.time.Duration;
+
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(name = "news.datasource.concurrency-limit.enabled", havingValue = "true")
+public class DataSourceConcurrencyLimitConfiguration {
+
+    /**
+     * Runs before {@link ReplicaRoutingConfiguration}'s post-processor, so the limit wraps the primary pool itself
+     * and is sized from it rather than from the routing proxy built around it.
+     */
+    public static final int POST_PROCESSOR_ORDER = Ordered.HIGHEST_PRECEDENCE + 10;
+
+    /**
+     * Wraps the application data source once the pool has been configured. Without an explicit
+     * {@code permits} value the limit follows the Hikari maximum pool size.
+     */
+    @Bean
+    public static BeanPostProcessor concurrencyLimitedDataSourcePostProcessor(
+            @Value("${news.datasource.concurrency-limit.permits:0}") int permits,
+            @Value("${news.datasource.concurrency-limit.acquire-timeout:30s}") Duration acquireTimeout) {
+        return new LimitingPostProcessor(permits, acquireTimeout);
+    }
+
+    @Bean
+    public MeterBinder concurrencyLimitedDataSourceMetrics(DataSource dataSource) throws SQLException {
+        ConcurrencyLimitedDataSource limited = dataSource.unwrap(ConcurrencyLimitedDataSource.class);
+        return registry -> {
+            Gauge.builder("jdbc.concurrency.permits.available", limited,
+                            ConcurrencyLimitedDataSource::getAvailablePermits)
+                    .description("Connection permits not currently held")
+                    .register(registry);
+            Gauge.builder("jdbc.concurrency.queued", limited, ConcurrencyLimitedDataSource::getQueueLength)
+                    .description("Callers waiting for a connection permit")
+                    .register(registry);
+        };
+    }
+
+    /**
+     * Limits a single pool. Replica pools are limited through this as well, each to its own size.
+     */
+    static DataSource limit(DataSource dataSource, int permits, Duration acquireTimeout) {
+        if (dataSource instanceof ConcurrencyLimitedDataSource) {
+            return dataSource;
+        }
+        int maxConcurrency = permits > 0 ? permits : poolSize(dataSource);
+        return new ConcurrencyLimitedDataSource(dataSource, maxConcurrency, acquireTimeout);
+    }
+
+    private static int poolSize(DataSource dataSource) {
+        return dataSource instanceof HikariDataSource hikari ? hikari.getMaximumPoolSize() : 10;
+    }
+
+    private record LimitingPostProcessor(int permits, Duration acquireTimeout) implements BeanPostProcessor, Ordered {
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            return bean instanceof DataSource dataSource ? limit(dataSource, permits, acquireTimeout) : bean;
+        }
+
+        @Override
+        public int getOrder() {
+            return POST_PROCESSOR_ORDER;
+        }
+
+    }
+
+}
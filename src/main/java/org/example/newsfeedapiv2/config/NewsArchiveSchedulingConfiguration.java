@@ -0,0 +1,14 @@
+package org.example.newsfeedapiv2.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Runs the news archival job on {@code news.archive.cron}. Without it the job only runs when called directly.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(name = "news.archive.enabled", havingValue = "true")
+@EnableScheduling
+public class NewsArchiveSchedulingConfiguration {
+}
@@ -0,0 +1,38 @@
+package org.example.newsfeedapiv2.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.orm.jpa.support.OpenEntityManagerInViewInterceptor;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Replaces Spring Boot's open-in-view registration to leave out the news streams. The entity manager of an
+ * asynchronous request stays open, and holds its pooled connection, until the response completes, which for a
+ * stream can be the whole stream timeout; a handful of subscribers would drain the pool. Streams only check that
+ * their category exists, inside the repository's own transaction, so they have nothing to load lazily.
+ */
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@ConditionalOnProperty(prefix = "spring.jpa", name = "open-in-view", havingValue = "true", matchIfMissing = true)
+@Configuration(proxyBeanMethods = false)
+public class OpenEntityManagerInViewConfiguration {
+
+    @Bean
+    public OpenEntityManagerInViewInterceptor openEntityManagerInViewInterceptor() {
+        return new OpenEntityManagerInViewInterceptor();
+    }
+
+    @Bean
+    public WebMvcConfigurer openEntityManagerInViewWebMvcConfigurer(OpenEntityManagerInViewInterceptor interceptor) {
+        return new WebMvcConfigurer() {
+            @Override
+            public void addInterceptors(InterceptorRegistry interceptors) {
+                interceptors.addWebRequestInterceptor(interceptor)
+                        .excludePathPatterns("/api/news/category/*/stream");
+            }
+        };
+    }
+
+}
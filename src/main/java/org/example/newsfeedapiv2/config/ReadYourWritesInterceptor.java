@@ -0,0 +1,124 @@
+package org.example.newsfeedapiv2.config;
+
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Set;
+
+/**
+ * Keeps a client on the primary for a while after it has written.
+ * <p>
+ * Every write request runs against the primary and leaves a cookie holding the end of the read-your-writes
+ * window. Reads carrying an unexpired cookie are sent to the primary as well, so a client never sees a replica
+ * that has not caught up with its own changes yet. Other reads are pinned to one replica for the whole
+ * request.
+ * <p>
+ * The cookie carries an HMAC of its expiry, and an expiry further away than one window is cut back to it, so a
+ * client cannot keep itself, or a crafted flood of requests, on the primary.
+ */
+public class ReadYourWritesInterceptor implements AsyncHandlerInterceptor {
+
+    public static final String COOKIE_NAME = "news-primary-until";
+
+    private static final Set<String> READ_METHODS = Set.of("GET", "HEAD", "OPTIONS", "TRACE");
+    private static final String MAC_ALGORITHM = "HmacSHA256";
+
+    private final Duration window;
+    private final SecretKeySpec key;
+
+    public ReadYourWritesInterceptor(Duration window, byte[] key) {
+        this.window = window;
+        this.key = new SecretKeySpec(key, MAC_ALGORITHM);
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        long now = System.currentTimeMillis();
+        if (!READ_METHODS.contains(request.getMethod())) {
+            Cookie cookie = new Cookie(COOKIE_NAME, sign(now + window.toMillis()));
+            cookie.setPath("/");
+            cookie.setHttpOnly(true);
+            cookie.setMaxAge((int) Math.max(1, window.toSeconds()));
+            response.addCookie(cookie);
+            ReplicaRoutingContext.forcePrimary();
+        } else if (Math.min(primaryUntil(request), now + window.toMillis()) > now) {
+            ReplicaRoutingContext.forcePrimary();
+        } else {
+            ReplicaRoutingContext.pinReplica();
+        }
+        return true;
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response,
+                                               Object handler) {
+        ReplicaRoutingContext.clear();
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                Exception ex) {
+        ReplicaRoutingContext.clear();
+    }
+
+    private long primaryUntil(HttpServletRequest request) {
+        Cookie[] cookies = request.getCookies();
+        if (cookies == null) {
+            return 0;
+        }
+        for (Cookie cookie : cookies) {
+            if (COOKIE_NAME.equals(cookie.getName())) {
+                return verify(cookie.getValue());
+            }
+        }
+        return 0;
+    }
+
+    private String sign(long until) {
+        String value = Long.toString(until);
+        return value + "." + mac(value);
+    }
+
+    /**
+     * Returns the expiry held by a signed cookie value, or {@code 0} when the value is malformed or its
+     * signature does not match.
+     */
+    private long verify(String signed) {
+        int separator = signed.indexOf('.');
+        if (separator < 0) {
+            return 0;
+        }
+        String value = signed.substring(0, separator);
+        byte[] expected = mac(value).getBytes(StandardCharsets.US_ASCII);
+        byte[] actual = signed.substring(separator + 1).getBytes(StandardCharsets.US_ASCII);
+        if (!MessageDigest.isEqual(expected, actual)) {
+            return 0;
+        }
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    private String mac(String value) {
+        try {
+            Mac mac = Mac.getInstance(MAC_ALGORITHM);
+            mac.init(key);
+            return Base64.getUrlEncoder().withoutPadding()
+                    .encodeToString(mac.doFinal(value.getBytes(StandardCharsets.US_ASCII)));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Cannot sign the read-your-writes cookie", e);
+        }
+    }
+
+}
@@ -0,0 +1,169 @@
+package org.example.newsfeedapiv2.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import javax.sql.DataSource;
+import java.nio.charset.StandardCharsets;
+import java.security.SecureRandom;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(name = "news.datasource.replicas.enabled", havingValue = "true")
+public class ReplicaRoutingConfiguration {
+
+    public static final int POST_PROCESSOR_ORDER = DataSourceConcurrencyLimitConfiguration.POST_PROCESSOR_ORDER + 1;
+
+    /**
+     * Wraps the application data source so read-only transactions are served by the replicas listed in
+     * {@code news.datasource.replicas.urls}, a comma-separated list. Replica pools reuse the primary credentials
+     * unless their own are set, and start lazily so an unreachable replica does not block startup.
+     * <p>
+     * Runs after the concurrency limit has wrapped the primary pool. When the limit is enabled every replica pool
+     * gets a limit of its own as well, so reads routed to a replica are held to it too.
+     */
+    @Bean
+    public static BeanPostProcessor replicaRoutingDataSourcePostProcessor(
+            @Value("${news.datasource.replicas.urls}") List<String> urls,
+            @Value("${news.datasource.replicas.username:${spring.datasource.username:}}") String username,
+            @Value("${news.datasource.replicas.password:${spring.datasource.password:}}") String password,
+            @Value("${news.datasource.replicas.maximum-pool-size:10}") int maximumPoolSize,
+            @Value("${news.datasource.replicas.connection-timeout:2s}") Duration connectionTimeout,
+            @Value("${news.datasource.replicas.selection:round-robin}") String selection,
+            @Value("${news.datasource.replicas.retry-after:30s}") Duration retryAfter,
+            @Value("${news.datasource.concurrency-limit.enabled:false}") boolean limited,
+            @Value("${news.datasource.concurrency-limit.permits:0}") int permits,
+            @Value("${news.datasource.concurrency-limit.acquire-timeout:30s}") Duration acquireTimeout) {
+        return new RoutingPostProcessor(() -> IntStream.range(0, urls.size())
+                .mapToObj(i -> {
+                    DataSource replica = replica(i, urls.get(i).trim(), username, password,
+                            maximumPoolSize, connectionTimeout);
+                    return limited ? DataSourceConcurrencyLimitConfiguration.limit(replica, permits, acquireTimeout)
+                            : replica;
+                })
+                .toList(),
+                ReplicaRoutingDataSource.Selection.valueOf(selection.toUpperCase().replace('-', '_')),
+                retryAfter);
+    }
+
+    @Bean
+    public DisposableBean replicaPoolsShutdown(DataSource dataSource) throws SQLException {
+        return dataSource.unwrap(ReplicaRoutingDataSource.class)::close;
+    }
+
+    /**
+     * Registers the read-your-writes interceptor. Its cookies are signed with
+     * {@code news.datasource.replicas.read-your-writes-key}; without one a random key is generated, which is only
+     * enough for a single instance, since cookies signed by another instance are then ignored.
+     */
+    @Bean
+    public WebMvcConfigurer readYourWritesWebMvcConfigurer(
+            @Value("${news.datasource.replicas.read-your-writes-window:5s}") Duration window,
+            @Value("${news.datasource.replicas.read-your-writes-key:}") String key) {
+        ReadYourWritesInterceptor interceptor = new ReadYourWritesInterceptor(window, signingKey(key));
+        return new WebMvcConfigurer() {
+            @Override
+            public void addInterceptors(InterceptorRegistry interceptors) {
+                interceptors.addInterceptor(interceptor).addPathPatterns("/api/**");
+            }
+        };
+    }
+
+    @Bean
+    public MeterBinder replicaRoutingMetrics(DataSource dataSource) throws SQLException {
+        ReplicaRoutingDataSource routing = dataSource.unwrap(ReplicaRoutingDataSource.class);
+        return registry -> {
+            FunctionCounter.builder("jdbc.routing.connections", routing,
+                            ReplicaRoutingDataSource::getPrimaryConnections)
+                    .description("Connections handed out by the primary or a replica")
+                    .tag("target", "primary")
+                    .register(registry);
+            FunctionCounter.builder("jdbc.routing.failovers", routing, ReplicaRoutingDataSource::getFailovers)
+                    .description("Replica connection failures that moved a read elsewhere")
+                    .register(registry);
+            for (int i = 0; i < routing.getReplicaCount(); i++) {
+                int replica = i;
+                FunctionCounter.builder("jdbc.routing.connections", routing,
+                                r -> r.getReplicaConnections(replica))
+                        .description("Connections handed out by the primary or a replica")
+                        .tag("target", "replica-" + replica)
+                        .register(registry);
+                Gauge.builder("jdbc.routing.replica.active", routing, r -> r.getActiveConnections(replica))
+                        .description("Replica connections currently in use")
+                        .tag("target", "replica-" + replica)
+                        .register(registry);
+                Gauge.builder("jdbc.routing.replica.available", routing, r -> r.isAvailable(replica) ? 1 : 0)
+                        .description("Whether a replica is currently eligible for reads")
+                        .tag("target", "replica-" + replica)
+                        .register(registry);
+            }
+        };
+    }
+
+    private static byte[] signingKey(String key) {
+        if (!key.isEmpty()) {
+            return key.getBytes(StandardCharsets.UTF_8);
+        }
+        byte[] random = new byte[32];
+        new SecureRandom().nextBytes(random);
+        return random;
+    }
+
+    private static boolean isRouted(DataSource dataSource) {
+        try {
+            return dataSource.isWrapperFor(ReplicaRoutingDataSource.class);
+        } catch (SQLException e) {
+            return false;
+        }
+    }
+
+    private static DataSource replica(int index, String url, String username, String password,
+                                      int maximumPoolSize, Duration connectionTimeout) {
+        HikariDataSource replica = new HikariDataSource();
+        replica.setPoolName("replica-" + index);
+        replica.setJdbcUrl(url);
+        replica.setUsername(username);
+        replica.setPassword(password);
+        replica.setMaximumPoolSize(maximumPoolSize);
+        replica.setConnectionTimeout(connectionTimeout.toMillis());
+        replica.setReadOnly(true);
+        return replica;
+    }
+
+    private record RoutingPostProcessor(Supplier<List<DataSource>> replicas,
+                                        ReplicaRoutingDataSource.Selection selection,
+                                        Duration retryAfter) implements BeanPostProcessor, Ordered {
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if (!(bean instanceof DataSource dataSource) || isRouted(dataSource)) {
+                return bean;
+            }
+            return new LazyConnectionDataSourceProxy(new ReplicaRoutingDataSource(dataSource, replicas.get(),
+                    selection, retryAfter));
+        }
+
+        @Override
+        public int getOrder() {
+            return POST_PROCESSOR_ORDER;
+        }
+
+    }
+
+}
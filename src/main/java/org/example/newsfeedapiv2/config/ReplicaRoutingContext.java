@@ -0,0 +1,82 @@
+package org.example.newsfeedapiv2.config;
+
+import java.util.function.Supplier;
+
+/**
+ * Per-thread routing state.
+ * <p>
+ * Forcing the primary sends every new connection to it, even inside read-only transactions; it is used for
+ * requests inside a read-your-writes window and for background jobs that must not read stale data. Pinning
+ * keeps the thread on the first replica it is given, so the separate reads of one request, such as a version
+ * check and the body it guards, see the same replica instead of replicas at different replication lags.
+ */
+public final class ReplicaRoutingContext {
+
+    public static final int NO_REPLICA = -1;
+
+    private static final ThreadLocal<Boolean> PRIMARY_FORCED = new ThreadLocal<>();
+    private static final ThreadLocal<Integer> PINNED_REPLICA = new ThreadLocal<>();
+
+    private ReplicaRoutingContext() {
+    }
+
+    public static void forcePrimary() {
+        PRIMARY_FORCED.set(Boolean.TRUE);
+    }
+
+    public static void pinReplica() {
+        PINNED_REPLICA.set(NO_REPLICA);
+    }
+
+    public static void clear() {
+        PRIMARY_FORCED.remove();
+        PINNED_REPLICA.remove();
+    }
+
+    public static boolean isPrimaryForced() {
+        return PRIMARY_FORCED.get() != null;
+    }
+
+    /**
+     * Returns the replica this thread is pinned to, or {@link #NO_REPLICA} when it is not pinned or has not
+     * read from a replica yet.
+     */
+    public static int getPinnedReplica() {
+        Integer replica = PINNED_REPLICA.get();
+        return replica == null ? NO_REPLICA : replica;
+    }
+
+    /**
+     * Records the replica that served the thread, if the thread is pinned.
+     */
+    static void replicaChosen(int replica) {
+        if (PINNED_REPLICA.get() != null) {
+            PINNED_REPLICA.set(replica);
+        }
+    }
+
+    public static void runOnPrimary(Runnable task) {
+        callOnPrimary(() -> {
+            task.run();
+            return null;
+        });
+    }
+
+    /**
+     * Runs {@code task} with the primary forced and returns its result. Reads that fill a shared in-process
+     * cache go through here: a value read from a lagging replica would be served from memory to every request,
+     * including those inside a read-your-writes window. A replica the thread is pinned to stays pinned.
+     */
+    public static <T> T callOnPrimary(Supplier<T> task) {
+        boolean alreadyForced = isPrimaryForced();
+        forcePrimary();
+        try {
+            return task.get();
+        } finally {
+            if (!alreadyForced) {
+                PRIMARY_FORCED.remove();
+            }
+        }
+    }
+
+}
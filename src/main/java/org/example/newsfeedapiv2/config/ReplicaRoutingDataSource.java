@@ -0,0 +1,203 @@
+package org.example.newsfeedapiv2.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Data source that serves connections for read-only transactions from a set of replicas and everything else
+ * from the primary it wraps.
+ * <p>
+ * The routing decision is taken when the connection is requested, so this data source has to sit behind a
+ * {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}: the transaction manager asks for
+ * a connection before the read-only flag of the transaction has been published. A replica that fails to hand
+ * out a connection is skipped for {@code retryAfter}; when no replica is available reads fall back to the
+ * primary. A thread pinned through {@link ReplicaRoutingContext#pinReplica()} keeps reading from the replica it
+ * was first given for as long as that replica is available.
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends DelegatingDataSource implements Closeable {
+
+    public enum Selection {
+        ROUND_ROBIN,
+        LEAST_BUSY
+    }
+
+    private final List<Replica> replicas;
+    private final Selection selection;
+    private final Duration retryAfter;
+    private final AtomicInteger next = new AtomicInteger();
+    private final LongAdder primaryConnections = new LongAdder();
+    private final LongAdder failovers = new LongAdder();
+
+    public ReplicaRoutingDataSource(DataSource primary, List<DataSource> replicas, Selection selection,
+                                    Duration retryAfter) {
+        super(primary);
+        this.replicas = replicas.stream()
+                .map(Replica::new)
+                .toList();
+        this.selection = selection;
+        this.retryAfter = retryAfter;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (!ReplicaRoutingContext.isPrimaryForced()
+                && TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            Connection connection = getReplicaConnection();
+            if (connection != null) {
+                return connection;
+            }
+        }
+        primaryConnections.increment();
+        return obtainTargetDataSource().getConnection();
+    }
+
+    public int getReplicaCount() {
+        return replicas.size();
+    }
+
+    public int getActiveConnections(int replica) {
+        return replicas.get(replica).active.get();
+    }
+
+    public boolean isAvailable(int replica) {
+        return replicas.get(replica).isAvailable(System.nanoTime());
+    }
+
+    public long getReplicaConnections(int replica) {
+        return replicas.get(replica).connections.sum();
+    }
+
+    public long getPrimaryConnections() {
+        return primaryConnections.sum();
+    }
+
+    public long getFailovers() {
+        return failovers.sum();
+    }
+
+    public DataSource getReplica(int replica) {
+        return replicas.get(replica).dataSource;
+    }
+
+    /**
+     * Closes the replica pools, looking through any data source wrapped around them.
+     */
+    @Override
+    public void close() throws IOException {
+        for (Replica replica : replicas) {
+            try {
+                if (replica.dataSource.isWrapperFor(Closeable.class)) {
+                    replica.dataSource.unwrap(Closeable.class).close();
+                }
+            } catch (SQLException e) {
+                throw new IOException(e);
+            }
+        }
+    }
+
+    private Connection getReplicaConnection() {
+        int count = replicas.size();
+        int pinned = ReplicaRoutingContext.getPinnedReplica();
+        int first = pinned != ReplicaRoutingContext.NO_REPLICA ? pinned
+                : selection == Selection.LEAST_BUSY ? leastBusy() : Math.floorMod(next.getAndIncrement(), count);
+        long now = System.nanoTime();
+        for (int i = 0; i < count; i++) {
+            int index = (first + i) % count;
+            Replica replica = replicas.get(index);
+            if (!replica.isAvailable(now)) {
+                continue;
+            }
+            try {
+                Connection connection = replica.connect();
+                ReplicaRoutingContext.replicaChosen(index);
+                return connection;
+            } catch (SQLException | RuntimeException e) {
+                replica.downUntil = now + retryAfter.toNanos();
+                failovers.increment();
+                log.warn("Replica {} is unavailable, retrying it in {} ms: {}",
+                        index, retryAfter.toMillis(), e.getMessage());
+            }
+        }
+        return null;
+    }
+
+    private int leastBusy() {
+        long now = System.nanoTime();
+        int best = 0;
+        int bestActive = Integer.MAX_VALUE;
+        for (int i = 0; i < replicas.size(); i++) {
+            Replica replica = replicas.get(i);
+            int active = replica.active.get();
+            if (replica.isAvailable(now) && active < bestActive) {
+                best = i;
+                bestActive = active;
+            }
+        }
+        return best;
+    }
+
+    private static final class Replica {
+
+        private final DataSource dataSource;
+        private final AtomicInteger active = new AtomicInteger();
+        private final LongAdder connections = new LongAdder();
+        private volatile long downUntil;
+
+        private Replica(DataSource dataSource) {
+            this.dataSource = dataSource;
+        }
+
+        private boolean isAvailable(long now) {
+            return downUntil == 0 || now - downUntil >= 0;
+        }
+
+        private Connection connect() throws SQLException {
+            Connection connection = dataSource.getConnection();
+            downUntil = 0;
+            active.incrementAndGet();
+            connections.increment();
+            AtomicBoolean released = new AtomicBoolean();
+            return (Connection) Proxy.newProxyInstance(
+                    Connection.class.getClassLoader(),
+                    new Class<?>[]{Connection.class},
+                    (proxy, method, args) -> switch (method.getName()) {
+                        case "equals" -> proxy == args[0];
+                        case "hashCode" -> System.identityHashCode(proxy);
+                        case "close" -> {
+                            try {
+                                connection.close();
+                            } finally {
+                                if (released.compareAndSet(false, true)) {
+                                    active.decrementAndGet();
+                                }
+                            }
+                            yield null;
+                        }
+                        default -> {
+                            try {
+                                yield method.invoke(connection, args);
+                            } catch (InvocationTargetException e) {
+                                throw e.getTargetException();
+                            }
+                        }
+                    });
+        }
+
+    }
+
+}
@@ -0,0 +1,73 @@
+package org.example.newsfeedapiv2.config;
+
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+/**
+ * The body formats the REST API writes, as negotiated from {@code Accept}.
+ * <p>
+ * The same resource version is a different byte sequence in every format, so each format gets its own strong
+ * entity tag: JSON keeps the plain tag, the binary formats add a suffix. A handler that tags a response by
+ * format also pins its content type through {@link #ok()}, so the tag and the body always agree.
+ */
+public enum ResponseFormat {
+
+    JSON(MediaType.APPLICATION_JSON, ""),
+    SMILE(MediaType.parseMediaType("application/x-jackson-smile"), "-smile"),
+    CBOR(MediaType.APPLICATION_CBOR, "-cbor");
+
+    private final MediaType mediaType;
+    private final String eTagSuffix;
+
+    ResponseFormat(MediaType mediaType, String eTagSuffix) {
+        this.mediaType = mediaType;
+        this.eTagSuffix = eTagSuffix;
+    }
+
+    /**
+     * Picks the format of the most preferred {@code Accept} entry that any format satisfies, JSON first. JSON is
+     * also the answer when nothing is acceptable, and the message converters reject the request as usual.
+     */
+    public static ResponseFormat negotiate(String accept) {
+        if (accept == null || accept.isBlank()) {
+            return JSON;
+        }
+        ResponseFormat negotiated = JSON;
+        double quality = 0;
+        try {
+            for (MediaType acceptable : MediaType.parseMediaTypes(accept)) {
+                if (acceptable.getQualityValue() <= quality) {
+                    continue;
+                }
+                for (ResponseFormat format : values()) {
+                    if (acceptable.includes(format.mediaType)) {
+                        negotiated = format;
+                        quality = acceptable.getQualityValue();
+                        break;
+                    }
+                }
+            }
+        } catch (InvalidMediaTypeException e) {
+            return JSON;
+        }
+        return negotiated;
+    }
+
+    public MediaType getMediaType() {
+        return mediaType;
+    }
+
+    public String eTag(String eTag) {
+        return eTag + eTagSuffix;
+    }
+
+    /**
+     * A 200 response in this format. JSON is left to the message converters, so unacceptable requests still
+     * get a 406.
+     */
+    public ResponseEntity.BodyBuilder ok() {
+        return this == JSON ? ResponseEntity.ok() : ResponseEntity.ok().contentType(mediaType);
+    }
+
+}
@@ -0,0 +1,32 @@
+package org.example.newsfeedapiv2.controllers;
+
+import lombok.RequiredArgsConstructor;
+import org.example.newsfeedapiv2.cache.CacheStats;
+import org.example.newsfeedapiv2.cache.CategoryCache;
+import org.example.newsfeedapiv2.cache.LatestNewsBuffer;
+import org.example.newsfeedapiv2.cache.NewsFeedCache;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+@RequiredArgsConstructor
+@RestController
+@RequestMapping("/api/cache")
+public class CacheRestController {
+
+    private final CategoryCache categoryCache;
+    private final NewsFeedCache feedCache;
+    private final LatestNewsBuffer latestNews;
+
+    @GetMapping("/stats")
+    public ResponseEntity<Map<String, CacheStats>> getStats() {
+        return ResponseEntity.ok(Map.of(
+                "categories", categoryCache.getStats(),
+                "feeds", feedCache.getStats(),
+                "latest", latestNews.getStats()));
+    }
+
+}
@@ -1,20 +1,31 @@
 package org.example.newsfeedapiv2.controllers;
 
 import lombok.RequiredArgsConstructor;
+import org.example.newsfeedapiv2.config.ResponseFormat;
 import org.example.newsfeedapiv2.dto.CategoryDTO;
+import org.example.newsfeedapiv2.dto.CategoryPurgeJobDTO;
+import org.example.newsfeedapiv2.dto.ResourceVersion;
+import org.example.newsfeedapiv2.services.CategoryPurgeService;
 import org.example.newsfeedapiv2.services.CategoryServiceImpl;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.net.URI;
 import java.util.Collection;
+import java.util.UUID;
 
 @RequiredArgsConstructor
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @RestController
 @RequestMapping("/api/categories")
 public class CategoryRestController {
 
     private final CategoryServiceImpl categoryService;
+    private final CategoryPurgeService purgeService;
 
     @GetMapping
     public ResponseEntity<Collection<CategoryDTO>> getAll() {
@@ -22,8 +33,13 @@ public class CategoryRestController {
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<CategoryDTO> get(@PathVariable Long id) {
-        return ResponseEntity.ok(categoryService.getById(id));
+    public ResponseEntity<CategoryDTO> get(@PathVariable Long id, WebRequest request) {
+        ResponseFormat format = ResponseFormat.negotiate(request.getHeader(HttpHeaders.ACCEPT));
+        ResourceVersion version = categoryService.getVersionById(id);
+        if (request.checkNotModified(format.eTag(version.eTag()), version.lastModifiedMillis())) {
+            return null;
+        }
+        return format.ok().body(categoryService.getById(id));
     }
 
     @PostMapping
@@ -38,10 +54,23 @@ public class CategoryRestController {
         return ResponseEntity.ok(categoryService.update(categoryDTO));
     }
 
+    @PatchMapping("/{id}")
+    public ResponseEntity<CategoryDTO> patch(@PathVariable Long id, @RequestBody CategoryDTO patch) {
+        return ResponseEntity.ok(categoryService.patch(id, patch));
+    }
+
     @DeleteMapping("/{id}")
-    public ResponseEntity<?> delete(@PathVariable Long id) {
-        categoryService.delete(id);
-        return ResponseEntity.ok().build();
+    public ResponseEntity<CategoryPurgeJobDTO> delete(@PathVariable Long id) {
+        CategoryPurgeJobDTO job = purgeService.submit(id);
+        return ResponseEntity
+                .accepted()
+                .location(URI.create("/api/categories/purges/" + job.getId()))
+                .body(job);
+    }
+
+    @GetMapping("/purges/{jobId}")
+    public ResponseEntity<CategoryPurgeJobDTO> getPurge(@PathVariable UUID jobId) {
+        return ResponseEntity.ok(purgeService.getById(jobId));
     }
 
 }
\ No newline at end of file
@@ -1,34 +1,146 @@
 package org.example.newsfeedapiv2.controllers;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import lombok.RequiredArgsConstructor;
+import org.example.newsfeedapiv2.cache.FeedSnapshot;
+import org.example.newsfeedapiv2.cache.NewsFeed;
+import org.example.newsfeedapiv2.config.ResponseFormat;
+import org.example.newsfeedapiv2.dto.NewsBatchItemDTO;
 import org.example.newsfeedapiv2.dto.NewsDTO;
+import org.example.newsfeedapiv2.dto.NewsPageDTO;
+import org.example.newsfeedapiv2.dto.NewsPatchDTO;
+import org.example.newsfeedapiv2.dto.ResourceVersion;
+import org.example.newsfeedapiv2.services.FeedSnapshotService;
 import org.example.newsfeedapiv2.services.NewsServiceImpl;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.*;
 
 @RequiredArgsConstructor
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @RestController
 @RequestMapping("/api/news")
 public class NewsRestController {
 
     private final NewsServiceImpl newsService;
+    private final ObjectMapper objectMapper;
+    private final FeedSnapshotService snapshotService;
 
     @GetMapping
     public ResponseEntity<Collection<NewsDTO>> getAll() {
         return ResponseEntity.ok(newsService.getAll());
     }
 
+    @GetMapping("/page")
+    public ResponseEntity<NewsPageDTO> getPage(@RequestParam(required = false) String cursor,
+                                               @RequestParam(defaultValue = "20") int limit) {
+        return ResponseEntity.ok(newsService.getPage(cursor, limit));
+    }
+
+    @GetMapping("/search")
+    public ResponseEntity<List<NewsDTO>> search(@RequestParam("q") String query,
+                                                @RequestParam(defaultValue = "20") int limit) {
+        return ResponseEntity.ok(newsService.search(query, limit));
+    }
+
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> export() {
+        ObjectWriter writer = objectMapper.writerFor(NewsDTO.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+
+        StreamingResponseBody body = out -> {
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+                generator.setRootValueSeparator(null);
+                newsService.exportAll(news -> {
+                    try {
+                        writer.writeValue(generator, news);
+                        generator.writeRaw('\n');
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            }
+        };
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
     @GetMapping("/{id}")
-    public ResponseEntity<NewsDTO> get(@PathVariable Long id) {
-        return ResponseEntity.ok(newsService.getById(id));
+    public ResponseEntity<NewsDTO> get(@PathVariable Long id, WebRequest request) {
+        ResponseFormat format = ResponseFormat.negotiate(request.getHeader(HttpHeaders.ACCEPT));
+        ResourceVersion version = newsService.getVersionById(id);
+        if (request.checkNotModified(format.eTag(version.eTag()), version.lastModifiedMillis())) {
+            return null;
+        }
+        return format.ok().body(newsService.getById(id));
     }
 
+    /**
+     * Serves JSON requests from the pre-serialized feed snapshot, compressed when the client accepts gzip.
+     * Other formats go through the message converters as usual, tagged per {@link ResponseFormat}. Either way
+     * the entity tag comes from the same cached read as the body. The gzip body is a different byte sequence
+     * from the identity one, so its strong entity tag gets a {@code -gzip} suffix.
+     */
     @GetMapping("/category/{id}")
-    public ResponseEntity<List<NewsDTO>> getByCategoryId(@PathVariable Long id) {
-        return ResponseEntity.ok(newsService.getByCategoryId(id));
+    public ResponseEntity<?> getByCategoryId(@PathVariable Long id, WebRequest request) {
+        if (!prefersJson(request.getHeader(HttpHeaders.ACCEPT))) {
+            ResponseFormat format = ResponseFormat.negotiate(request.getHeader(HttpHeaders.ACCEPT));
+            NewsFeed feed = newsService.getFeedByCategoryId(id);
+            if (request.checkNotModified(format.eTag(feed.version().eTag()), feed.version().lastModifiedMillis())) {
+                return null;
+            }
+            return format.ok().body(feed.news());
+        }
+
+        FeedSnapshot snapshot = snapshotService.getByCategoryId(id);
+        boolean gzip = snapshot.gzip() != null && acceptsGzip(request.getHeader(HttpHeaders.ACCEPT_ENCODING));
+        String eTag = gzip ? snapshot.version().eTag() + "-gzip" : snapshot.version().eTag();
+        if (request.checkNotModified(eTag, snapshot.version().lastModifiedMillis())) {
+            return null;
+        }
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .varyBy(HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            return response
+                    .header(HttpHeaders.CONTENT_ENCODING, "gzip")
+                    .body(snapshot.gzip());
+        }
+        return response.body(snapshot.json());
+    }
+
+    @GetMapping(value = "/category/{id}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamByCategoryId(@PathVariable Long id) {
+        return newsService.subscribe(id);
+    }
+
+    @GetMapping("/category/{id}/latest")
+    public ResponseEntity<List<NewsDTO>> getLatestByCategoryId(@PathVariable Long id,
+                                                               @RequestParam(defaultValue = "20") int n) {
+        return ResponseEntity.ok(newsService.getLatestByCategoryId(id, n));
+    }
+
+    @GetMapping("/category/{id}/page")
+    public ResponseEntity<NewsPageDTO> getPageByCategoryId(@PathVariable Long id,
+                                                           @RequestParam(required = false) String cursor,
+                                                           @RequestParam(defaultValue = "20") int limit) {
+        return ResponseEntity.ok(newsService.getPageByCategoryId(id, cursor, limit));
     }
 
     @PostMapping
@@ -38,15 +150,63 @@ public class NewsRestController {
                 .body(newsService.create(newsDTO));
     }
 
+    @PostMapping("/batch")
+    public ResponseEntity<List<NewsBatchItemDTO>> createAll(@RequestBody List<NewsDTO> newsDTOList) {
+        List<NewsBatchItemDTO> results = newsService.createAll(newsDTOList);
+        boolean allCreated = results.stream()
+                .allMatch(result -> result.getStatus() == NewsBatchItemDTO.Status.CREATED);
+        return ResponseEntity
+                .status(allCreated ? HttpStatus.CREATED : HttpStatus.MULTI_STATUS)
+                .body(results);
+    }
+
     @PutMapping
     public ResponseEntity<NewsDTO> update(@RequestBody NewsDTO newsDTO) {
         return ResponseEntity.ok(newsService.update(newsDTO));
     }
 
+    @PatchMapping("/{id}")
+    public ResponseEntity<NewsDTO> patch(@PathVariable Long id, @RequestBody NewsPatchDTO patch) {
+        return ResponseEntity.ok(newsService.patch(id, patch));
+    }
+
     @DeleteMapping("/{id}")
     public ResponseEntity<?> delete(@PathVariable Long id) {
         newsService.delete(id);
         return ResponseEntity.ok().build();
     }
 
-}
\ No newline at end of file
+    private static boolean prefersJson(String accept) {
+        if (accept == null || accept.isBlank()) {
+            return true;
+        }
+        List<MediaType> mediaTypes;
+        try {
+            mediaTypes = MediaType.parseMediaTypes(accept);
+        } catch (InvalidMediaTypeException e) {
+            return false;
+        }
+        MediaType preferred = null;
+        for (MediaType mediaType : mediaTypes) {
+            if (preferred == null || mediaType.getQualityValue() > preferred.getQualityValue()) {
+                preferred = mediaType;
+            }
+        }
+        return preferred != null && preferred.getQualityValue() > 0
+                && preferred.includes(MediaType.APPLICATION_JSON);
+    }
+
+    private static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.trim().split(";");
+            if (parts[0].trim().equalsIgnoreCase("gzip")) {
+                return parts.length == 1 || !parts[1].replace(" ", "").matches("q=0(\\.0*)?");
+            }
+        }
+        return false;
+    }
+
+}
@@ -0,0 +1,54 @@
+package org.example.newsfeedapiv2.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Data;
+import lombok.experimental.Accessors;
+
+import java.time.Instant;
+import java.util.UUID;
+
+@Accessors(chain = true, fluent = false)
+@Data
+public class CategoryPurgeJobDTO {
+
+    @JsonProperty("id")
+    private UUID id;
+
+    @JsonProperty("categoryId")
+    private Long categoryId;
+
+    @JsonProperty("status")
+    private Status status;
+
+    @JsonProperty("totalNews")
+    private long totalNews;
+
+    @JsonProperty("deletedNews")
+    private long deletedNews;
+
+    @JsonProperty("chunks")
+    private int chunks;
+
+    @JsonProperty("newsPerSecond")
+    private double newsPerSecond;
+
+    @JsonProperty("submittedAt")
+    private Instant submittedAt;
+
+    @JsonProperty("startedAt")
+    private Instant startedAt;
+
+    @JsonProperty("finishedAt")
+    private Instant finishedAt;
+
+    @JsonProperty("error")
+    private String error;
+
+    public enum Status {
+        QUEUED,
+        RUNNING,
+        COMPLETED,
+        FAILED
+    }
+
+}
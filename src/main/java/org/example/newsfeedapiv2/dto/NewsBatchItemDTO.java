@@ -0,0 +1,28 @@
+package org.example.newsfeedapiv2.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Data;
+import lombok.experimental.Accessors;
+
+@Accessors(chain = true, fluent = false)
+@Data
+public class NewsBatchItemDTO {
+
+    @JsonProperty("index")
+    private int index;
+
+    @JsonProperty("status")
+    private Status status;
+
+    @JsonProperty("news")
+    private NewsDTO news;
+
+    @JsonProperty("error")
+    private String error;
+
+    public enum Status {
+        CREATED,
+        FAILED
+    }
+
+}
@@ -0,0 +1,19 @@
+package org.example.newsfeedapiv2.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Data;
+import lombok.experimental.Accessors;
+
+import java.util.List;
+
+@Accessors(chain = true, fluent = false)
+@Data
+public class NewsPageDTO {
+
+    @JsonProperty("items")
+    private List<NewsDTO> items;
+
+    @JsonProperty("next")
+    private String next;
+
+}
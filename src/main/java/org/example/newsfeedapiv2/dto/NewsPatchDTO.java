@@ -0,0 +1,29 @@
+package org.example.newsfeedapiv2.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Data;
+import lombok.experimental.Accessors;
+
+/**
+ * Partial news document for {@code PATCH}. Fields that are absent or {@code null} are left unchanged.
+ */
+@Accessors(chain = true, fluent = false)
+@Data
+public class NewsPatchDTO {
+
+    @JsonProperty("title")
+    private String title;
+
+    @JsonProperty("text")
+    private String text;
+
+    @JsonProperty("category")
+    private String categoryTitle;
+
+    @JsonIgnore
+    public boolean isEmpty() {
+        return title == null && text == null && categoryTitle == null;
+    }
+
+}
@@ -0,0 +1,15 @@
+package org.example.newsfeedapiv2.dto;
+
+import java.time.Instant;
+
+/**
+ * Validators of a resource representation for conditional requests.
+ * {@code lastModified} is {@code null} when the representation has no reliable modification date.
+ */
+public record ResourceVersion(String eTag, Instant lastModified) {
+
+    public long lastModifiedMillis() {
+        return lastModified == null ? -1 : lastModified.toEpochMilli();
+    }
+
+}
@@ -0,0 +1,50 @@
+package org.example.newsfeedapiv2.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.experimental.Accessors;
+import org.hibernate.annotations.Immutable;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+import java.time.Instant;
+
+/**
+ * News moved out of the {@code news} table by the archival job. Rows keep the id, version and timestamps they
+ * had, and are only ever written by the {@code INSERT ... SELECT} of the job.
+ */
+@Accessors(chain = true, fluent = false)
+@Data
+@Entity
+@Immutable
+@Table(name = "news_archive")
+public class ArchivedNews {
+
+    @Id
+    @Column(name = "id")
+    private Long id;
+
+    @Column(name = "title")
+    private String title;
+
+    @Column(name = "text")
+    private String text;
+
+    @Column(name = "date")
+    private Instant date;
+
+    @Column(name = "version")
+    private Long version;
+
+    @Column(name = "updated_at")
+    private Instant updatedAt;
+
+    @Column(name = "archived_at")
+    private Instant archivedAt;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "category_id")
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Category category;
+
+}
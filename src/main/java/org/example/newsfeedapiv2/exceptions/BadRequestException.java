@@ -0,0 +1,10 @@
+package org.example.newsfeedapiv2.exceptions;
+
+/**
+ * Thrown for invalid client input. Like {@link NotFoundException} it carries no stack trace.
+ */
+public class BadRequestException extends RuntimeException {
+    public BadRequestException(String message) {
+        super(message, null, false, false);
+    }
+}
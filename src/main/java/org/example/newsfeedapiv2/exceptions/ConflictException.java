@@ -0,0 +1,11 @@
+package org.example.newsfeedapiv2.exceptions;
+
+/**
+ * Thrown when a write would break a uniqueness rule, such as a second category with the same title. Like
+ * {@link NotFoundException} it carries no stack trace.
+ */
+public class ConflictException extends RuntimeException {
+    public ConflictException(String message) {
+        super(message, null, false, false);
+    }
+}
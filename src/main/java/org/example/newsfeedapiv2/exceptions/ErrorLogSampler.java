@@ -0,0 +1,66 @@
+package org.example.newsfeedapiv2.exceptions;
+
+import org.slf4j.Logger;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Lets through at most {@code maxPerWindow} log entries per exception type and window.
+ * <p>
+ * Entries over the limit are only counted. The count is reported by the first entry of that type after the
+ * window has ended, so a burst of crawler 404s turns into a handful of lines plus one summary.
+ */
+public class ErrorLogSampler {
+
+    private final Logger log;
+    private final int maxPerWindow;
+    private final Duration window;
+    private final Map<Class<?>, Window> windows = new ConcurrentHashMap<>();
+
+    public ErrorLogSampler(Logger log, int maxPerWindow, Duration window) {
+        this.log = log;
+        this.maxPerWindow = maxPerWindow;
+        this.window = window;
+    }
+
+    public boolean tryAcquire(Class<?> type) {
+        Window current = windows.computeIfAbsent(type, t -> new Window(System.nanoTime()));
+        int suppressed = 0;
+        boolean acquired;
+        synchronized (current) {
+            long now = System.nanoTime();
+            if (now - current.startedAt >= window.toNanos()) {
+                suppressed = current.suppressed;
+                current.startedAt = now;
+                current.logged = 0;
+                current.suppressed = 0;
+            }
+            acquired = current.logged < maxPerWindow;
+            if (acquired) {
+                current.logged++;
+            } else {
+                current.suppressed++;
+            }
+        }
+        if (suppressed > 0) {
+            log.warn("Suppressed {} {} log entries in the previous {} ms window",
+                    suppressed, type.getSimpleName(), window.toMillis());
+        }
+        return acquired;
+    }
+
+    private static final class Window {
+
+        private long startedAt;
+        private int logged;
+        private int suppressed;
+
+        private Window(long startedAt) {
+            this.startedAt = startedAt;
+        }
+
+    }
+
+}
@@ -1,7 +1,11 @@
 package org.example.newsfeedapiv2.exceptions;
 
+/**
+ * Thrown for missing resources. A miss is an expected outcome rather than a fault, so the exception skips
+ * filling in a stack trace and costs no more than an ordinary allocation.
+ */
 public class NotFoundException extends RuntimeException {
     public NotFoundException(String message) {
-        super(message);
+        super(message, null, false, false);
     }
-}
\ No newline at end of file
+}
@@ -5,29 +5,82 @@ import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import org.hibernate.service.spi.ServiceException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.servlet.mvc.method.annotation.ResponseEntityExceptionHandler;
 
+import java.time.Duration;
+
 @ControllerAdvice
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @Slf4j
 public class RestResponseEntityExceptionHandler extends ResponseEntityExceptionHandler {
 
+    private final ErrorLogSampler sampler;
+
+    public RestResponseEntityExceptionHandler(
+            @Value("${news.logging.sampling.max-per-window:10}") int maxPerWindow,
+            @Value("${news.logging.sampling.window:10s}") Duration window) {
+        this.sampler = new ErrorLogSampler(log, maxPerWindow, window);
+    }
+
     @ExceptionHandler(NotFoundException.class)
     public ResponseEntity<Object> handleNotFoundException(NotFoundException e, HttpServletRequest request) {
-        log.error("Request URI: {}", request.getRequestURI());
-        log.error("NotFoundException occurred: ", e);
+        if (sampler.tryAcquire(NotFoundException.class)) {
+            log.warn("NotFoundException at {}: {}", request.getRequestURI(), e.getMessage());
+        }
         return ResponseEntity
                 .status(HttpStatus.NOT_FOUND)
                 .body(new ErrorMessage(e.getMessage()));
     }
 
+    @ExceptionHandler(BadRequestException.class)
+    public ResponseEntity<Object> handleBadRequestException(BadRequestException e, HttpServletRequest request) {
+        if (sampler.tryAcquire(BadRequestException.class)) {
+            log.warn("BadRequestException at {}: {}", request.getRequestURI(), e.getMessage());
+        }
+        return ResponseEntity
+                .status(HttpStatus.BAD_REQUEST)
+                .body(new ErrorMessage(e.getMessage()));
+    }
+
+    @ExceptionHandler(ConflictException.class)
+    public ResponseEntity<Object> handleConflictException(ConflictException e, HttpServletRequest request) {
+        if (sampler.tryAcquire(ConflictException.class)) {
+            log.warn("ConflictException at {}: {}", request.getRequestURI(), e.getMessage());
+        }
+        return ResponseEntity
+                .status(HttpStatus.CONFLICT)
+                .body(new ErrorMessage(e.getMessage()));
+    }
+
+    /**
+     * Constraint violations the services do not translate themselves. The database message is logged but not
+     * sent, as it names tables and values.
+     */
+    @ExceptionHandler(DataIntegrityViolationException.class)
+    public ResponseEntity<Object> handleDataIntegrityViolationException(DataIntegrityViolationException e,
+                                                                        HttpServletRequest request) {
+        if (sampler.tryAcquire(DataIntegrityViolationException.class)) {
+            log.warn("DataIntegrityViolationException at {}: {}", request.getRequestURI(),
+                    e.getMostSpecificCause().getMessage());
+        }
+        return ResponseEntity
+                .status(HttpStatus.CONFLICT)
+                .body(new ErrorMessage("Request conflicts with existing data"));
+    }
+
     @ExceptionHandler(ServiceException.class)
     public ResponseEntity<Object> handleServiceException(ServiceException e, HttpServletRequest request) {
-        log.error("Request URI: {}", request.getRequestURI());
-        log.error("ServiceException occurred: ", e);
+        if (sampler.tryAcquire(ServiceException.class)) {
+            log.error("Request URI: {}", request.getRequestURI());
+            log.error("ServiceException occurred: ", e);
+        }
         return ResponseEntity
                 .status(HttpStatus.INTERNAL_SERVER_ERROR)
                 .body(new ErrorMessage(e.getMessage()));
@@ -39,4 +92,4 @@ public class RestResponseEntityExceptionHandler extends ResponseEntityExceptionH
         private final String message;
     }
 
-}
\ No newline at end of file
+}
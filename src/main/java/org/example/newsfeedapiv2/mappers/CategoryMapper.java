@@ -2,11 +2,20 @@ package org.example.newsfeedapiv2.mappers;
 
 import org.example.newsfeedapiv2.dto.CategoryDTO;
 import org.example.newsfeedapiv2.entity.Category;
+import org.example.newsfeedapiv2.projections.CategorySummary;
 import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
 import org.mapstruct.MappingConstants;
 
 @Mapper(componentModel = MappingConstants.ComponentModel.SPRING, uses = NewsMapper.class)
 public interface CategoryMapper {
+    @Mapping(target = "version", ignore = true)
+    @Mapping(target = "updatedAt", ignore = true)
     Category mapToEntity(CategoryDTO categoryDTO);
+
+    @Mapping(target = "newsList", ignore = true)
     CategoryDTO mapToDTO(Category category);
-}
\ No newline at end of file
+
+    @Mapping(target = "newsList", ignore = true)
+    CategoryDTO mapToDTO(CategorySummary category);
+}
@@ -1,6 +1,7 @@
 package org.example.newsfeedapiv2.mappers;
 
 import org.example.newsfeedapiv2.dto.NewsDTO;
+import org.example.newsfeedapiv2.entity.ArchivedNews;
 import org.example.newsfeedapiv2.entity.Category;
 import org.example.newsfeedapiv2.entity.News;
 import org.mapstruct.*;
@@ -10,12 +11,19 @@ import java.time.temporal.ChronoUnit;
 
 @Mapper(componentModel = MappingConstants.ComponentModel.SPRING)
 public interface NewsMapper {
+    @Mapping(target = "version", ignore = true)
+    @Mapping(target = "updatedAt", ignore = true)
     News mapToEntity(NewsDTO newsDTO);
 
+
     @Mapping(target = "categoryTitle", source = "news.category", qualifiedByName = "extractCategoryTitle")
     @Mapping(target = "date", source = "news.date", qualifiedByName = "truncateToSeconds")
     NewsDTO mapToDTO(News news);
 
+    @Mapping(target = "categoryTitle", source = "news.category", qualifiedByName = "extractCategoryTitle")
+    @Mapping(target = "date", source = "news.date", qualifiedByName = "truncateToSeconds")
+    NewsDTO mapToDTO(ArchivedNews news);
+
     @Named("extractCategoryTitle")
     default String extractCategoryTitle(Category category) {
         return category != null ? category.getTitle() : null;
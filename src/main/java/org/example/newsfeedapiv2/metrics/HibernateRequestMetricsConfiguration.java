@@ -0,0 +1,55 @@
+package org.example.newsfeedapiv2.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(name = "news.metrics.hibernate.per-request", havingValue = "true", matchIfMissing = true)
+public class HibernateRequestMetricsConfiguration {
+
+    @Bean
+    public HibernateRequestStatistics hibernateRequestStatistics() {
+        return new HibernateRequestStatistics();
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer hibernateRequestStatementInspector(HibernateRequestStatistics statistics) {
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, statistics);
+    }
+
+    @Bean
+    public SmartInitializingSingleton hibernateRequestEventListeners(EntityManagerFactory entityManagerFactory,
+                                                                     HibernateRequestStatistics statistics) {
+        return () -> {
+            EventListenerRegistry listeners = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                    .getServiceRegistry()
+                    .getService(EventListenerRegistry.class);
+            listeners.appendListeners(EventType.POST_LOAD, statistics);
+            listeners.appendListeners(EventType.INIT_COLLECTION, statistics);
+        };
+    }
+
+    @Bean
+    public WebMvcConfigurer hibernateRequestMetricsWebMvcConfigurer(HibernateRequestStatistics statistics,
+                                                                    MeterRegistry registry) {
+        HibernateRequestMetricsInterceptor interceptor = new HibernateRequestMetricsInterceptor(statistics, registry);
+        return new WebMvcConfigurer() {
+            @Override
+            public void addInterceptors(InterceptorRegistry interceptors) {
+                interceptors.addInterceptor(interceptor).addPathPatterns("/api/**");
+            }
+        };
+    }
+
+}
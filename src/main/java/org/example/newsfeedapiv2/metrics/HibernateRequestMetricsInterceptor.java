@@ -0,0 +1,62 @@
+package org.example.newsfeedapiv2.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * Records the Hibernate work of each request as distribution summaries tagged like {@code http.server.requests},
+ * so statement counts can be read next to the latency of the same endpoint.
+ */
+@RequiredArgsConstructor
+public class HibernateRequestMetricsInterceptor implements AsyncHandlerInterceptor {
+
+    private final HibernateRequestStatistics statistics;
+    private final MeterRegistry registry;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        statistics.begin();
+        return true;
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response,
+                                               Object handler) {
+        record(request, statistics.end());
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                Exception ex) {
+        record(request, statistics.end());
+    }
+
+    private void record(HttpServletRequest request, HibernateRequestStatistics.Counters counters) {
+        if (counters == null) {
+            return;
+        }
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+
+        summary("hibernate.request.statements", "JDBC statements prepared per request", uri, request)
+                .record(counters.statements());
+        summary("hibernate.request.entity.loads", "Entities loaded per request", uri, request)
+                .record(counters.entityLoads());
+        summary("hibernate.request.collection.fetches", "Lazy collections initialized per request", uri, request)
+                .record(counters.collectionFetches());
+    }
+
+    private DistributionSummary summary(String name, String description, String uri, HttpServletRequest request) {
+        return DistributionSummary.builder(name)
+                .description(description)
+                .tag("method", request.getMethod())
+                .tag("uri", uri)
+                .register(registry);
+    }
+
+}
@@ -0,0 +1,76 @@
+package org.example.newsfeedapiv2.metrics;
+
+import org.hibernate.event.spi.InitializeCollectionEvent;
+import org.hibernate.event.spi.InitializeCollectionEventListener;
+import org.hibernate.event.spi.PostLoadEvent;
+import org.hibernate.event.spi.PostLoadEventListener;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Counts the work Hibernate does on the current thread between {@link #begin()} and {@link #end()}.
+ * <p>
+ * Hibernate's own statistics are totals for the whole session factory, so they cannot tell which request ran
+ * the statements. A request is served on one thread, which makes a thread-local counter enough; work done on
+ * threads without an open scope (startup, async export streams) is not attributed.
+ */
+public class HibernateRequestStatistics
+        implements StatementInspector, PostLoadEventListener, InitializeCollectionEventListener {
+
+    private static final ThreadLocal<Counters> CURRENT = new ThreadLocal<>();
+
+    public void begin() {
+        CURRENT.set(new Counters());
+    }
+
+    public Counters end() {
+        Counters counters = CURRENT.get();
+        CURRENT.remove();
+        return counters;
+    }
+
+    @Override
+    public String inspect(String sql) {
+        Counters counters = CURRENT.get();
+        if (counters != null) {
+            counters.statements++;
+        }
+        return sql;
+    }
+
+    @Override
+    public void onPostLoad(PostLoadEvent event) {
+        Counters counters = CURRENT.get();
+        if (counters != null) {
+            counters.entityLoads++;
+        }
+    }
+
+    @Override
+    public void onInitializeCollection(InitializeCollectionEvent event) {
+        Counters counters = CURRENT.get();
+        if (counters != null) {
+            counters.collectionFetches++;
+        }
+    }
+
+    public static final class Counters {
+
+        private int statements;
+        private int entityLoads;
+        private int collectionFetches;
+
+        public int statements() {
+            return statements;
+        }
+
+        public int entityLoads() {
+            return entityLoads;
+        }
+
+        public int collectionFetches() {
+            return collectionFetches;
+        }
+
+    }
+
+}
@@ -0,0 +1,6 @@
+package org.example.newsfeedapiv2.projections;
+
+public interface CategorySummary {
+    Long getId();
+    String getTitle();
+}
@@ -0,0 +1,8 @@
+package org.example.newsfeedapiv2.projections;
+
+import java.time.Instant;
+
+public interface CategoryVersion {
+    Long getVersion();
+    Instant getUpdatedAt();
+}
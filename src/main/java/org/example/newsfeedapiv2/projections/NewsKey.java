@@ -0,0 +1,9 @@
+package org.example.newsfeedapiv2.projections;
+
+import java.time.Instant;
+
+public interface NewsKey {
+    Long getId();
+    Instant getDate();
+    Long getCategoryId();
+}
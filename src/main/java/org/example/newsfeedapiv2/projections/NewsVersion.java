@@ -0,0 +1,10 @@
+package org.example.newsfeedapiv2.projections;
+
+import java.time.Instant;
+
+public interface NewsVersion {
+    Long getVersion();
+    Instant getUpdatedAt();
+    Long getCategoryVersion();
+    Instant getCategoryUpdatedAt();
+}
@@ -0,0 +1,34 @@
+package org.example.newsfeedapiv2.reactive;
+
+import lombok.Data;
+import lombok.experimental.Accessors;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Version;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.time.Instant;
+
+/**
+ * R2DBC mapping of the {@code categories} table.
+ */
+@Accessors(chain = true, fluent = false)
+@Data
+@Table("categories")
+public class CategoryRow {
+
+    @Id
+    @Column("id")
+    private Long id;
+
+    @Column("title")
+    private String title;
+
+    @Version
+    @Column("version")
+    private Long version;
+
+    @Column("updated_at")
+    private Instant updatedAt;
+
+}
@@ -0,0 +1,43 @@
+package org.example.newsfeedapiv2.reactive;
+
+import lombok.Data;
+import lombok.experimental.Accessors;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Version;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.time.Instant;
+
+/**
+ * R2DBC mapping of the {@code news} table. Relations are not mapped, the category is referenced by id only.
+ */
+@Accessors(chain = true, fluent = false)
+@Data
+@Table("news")
+public class NewsRow {
+
+    @Id
+    @Column("id")
+    private Long id;
+
+    @Column("title")
+    private String title;
+
+    @Column("text")
+    private String text;
+
+    @Column("date")
+    private Instant date;
+
+    @Version
+    @Column("version")
+    private Long version;
+
+    @Column("updated_at")
+    private Instant updatedAt;
+
+    @Column("category_id")
+    private Long categoryId;
+
+}
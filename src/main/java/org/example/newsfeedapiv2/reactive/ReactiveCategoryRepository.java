@@ -0,0 +1,23 @@
+package org.example.newsfeedapiv2.reactive;
+
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+
+@Repository
+public interface ReactiveCategoryRepository extends R2dbcRepository<CategoryRow, Long> {
+
+    Mono<CategoryRow> findByTitle(String title);
+
+    @Modifying
+    @Query("""
+            update categories
+            set title = :title, version = version + 1, updated_at = :updatedAt
+            where id = :id""")
+    Mono<Integer> updateTitle(Long id, String title, Instant updatedAt);
+
+}
@@ -0,0 +1,61 @@
+package org.example.newsfeedapiv2.reactive;
+
+import lombok.RequiredArgsConstructor;
+import org.example.newsfeedapiv2.dto.CategoryDTO;
+import org.example.newsfeedapiv2.dto.CategoryPurgeJobDTO;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+import java.util.UUID;
+
+@Profile("reactive")
+@RequiredArgsConstructor
+@RestController
+@RequestMapping("/api/categories")
+public class ReactiveCategoryRestController {
+
+    private final ReactiveCategoryService categoryService;
+
+    @GetMapping
+    public Flux<CategoryDTO> getAll() {
+        return categoryService.getAll();
+    }
+
+    @GetMapping("/{id}")
+    public Mono<CategoryDTO> get(@PathVariable Long id) {
+        return categoryService.getById(id);
+    }
+
+    @PostMapping
+    public Mono<ResponseEntity<CategoryDTO>> create(@RequestBody CategoryDTO categoryDTO) {
+        return categoryService.create(categoryDTO)
+                .map(created -> ResponseEntity
+                        .status(HttpStatus.CREATED)
+                        .body(created));
+    }
+
+    @PutMapping
+    public Mono<CategoryDTO> update(@RequestBody CategoryDTO categoryDTO) {
+        return categoryService.update(categoryDTO);
+    }
+
+    @DeleteMapping("/{id}")
+    public Mono<ResponseEntity<CategoryPurgeJobDTO>> delete(@PathVariable Long id) {
+        return categoryService.delete(id)
+                .map(job -> ResponseEntity
+                        .accepted()
+                        .location(URI.create("/api/categories/purges/" + job.getId()))
+                        .body(job));
+    }
+
+    @GetMapping("/purges/{jobId}")
+    public Mono<CategoryPurgeJobDTO> getPurge(@PathVariable UUID jobId) {
+        return categoryService.getPurge(jobId);
+    }
+
+}
@@ -0,0 +1,90 @@
+package org.example.newsfeedapiv2.reactive;
+
+import lombok.RequiredArgsConstructor;
+import org.example.newsfeedapiv2.dto.CategoryDTO;
+import org.example.newsfeedapiv2.dto.CategoryPurgeJobDTO;
+import org.example.newsfeedapiv2.exceptions.ConflictException;
+import org.example.newsfeedapiv2.exceptions.NotFoundException;
+import org.example.newsfeedapiv2.services.CategoryPurgeService;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Non-blocking counterpart of {@code CategoryServiceImpl}. Deleting a category still goes through the chunked
+ * {@link CategoryPurgeService}, whose submission is handed to a worker thread since it checks the category over
+ * JDBC.
+ */
+@Profile("reactive")
+@RequiredArgsConstructor
+@Service
+public class ReactiveCategoryService {
+
+    private final ReactiveCategoryRepository repository;
+    private final CategoryPurgeService purgeService;
+
+    public Flux<CategoryDTO> getAll() {
+        return repository.findAll()
+                .map(ReactiveCategoryService::mapToDTO);
+    }
+
+    public Mono<CategoryDTO> getById(Long id) {
+        return repository.findById(id)
+                .map(ReactiveCategoryService::mapToDTO)
+                .switchIfEmpty(Mono.error(() -> new NotFoundException("Category not found with id: " + id)));
+    }
+
+    public Mono<CategoryDTO> create(CategoryDTO categoryDTO) {
+        return repository.save(new CategoryRow()
+                        .setTitle(categoryDTO.getTitle())
+                        .setUpdatedAt(Instant.now()))
+                .onErrorMap(DataIntegrityViolationException.class, e -> titleTaken(categoryDTO.getTitle()))
+                .map(ReactiveCategoryService::mapToDTO);
+    }
+
+    public Mono<CategoryDTO> update(CategoryDTO categoryDTO) {
+        return repository.updateTitle(categoryDTO.getId(), categoryDTO.getTitle(), Instant.now())
+                .onErrorMap(DataIntegrityViolationException.class, e -> titleTaken(categoryDTO.getTitle()))
+                .flatMap(updated -> updated == 0
+                        ? Mono.error(new NotFoundException("Category not found with id: " + categoryDTO.getId()))
+                        : Mono.just(new CategoryDTO()
+                                .setId(categoryDTO.getId())
+                                .setTitle(categoryDTO.getTitle())));
+    }
+
+    public Mono<CategoryPurgeJobDTO> delete(Long id) {
+        return Mono.fromCallable(() -> purgeService.submit(id))
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    public Mono<CategoryPurgeJobDTO> getPurge(UUID jobId) {
+        return Mono.fromCallable(() -> purgeService.getById(jobId));
+    }
+
+    public Mono<Boolean> existsById(Long id) {
+        return repository.existsById(id);
+    }
+
+    public Mono<CategoryRow> getCategoryByTitleOrThrow(String title) {
+        return Mono.justOrEmpty(title)
+                .flatMap(repository::findByTitle)
+                .switchIfEmpty(Mono.error(() -> new NotFoundException("Category not found with title: " + title)));
+    }
+
+    private static ConflictException titleTaken(String title) {
+        return new ConflictException("Category already exists with title: " + title);
+    }
+
+    private static CategoryDTO mapToDTO(CategoryRow category) {
+        return new CategoryDTO()
+                .setId(category.getId())
+                .setTitle(category.getTitle());
+    }
+
+}
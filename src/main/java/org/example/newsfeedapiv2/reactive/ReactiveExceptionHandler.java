@@ -0,0 +1,68 @@
+package org.example.newsfeedapiv2.reactive;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.newsfeedapiv2.exceptions.BadRequestException;
+import org.example.newsfeedapiv2.exceptions.ConflictException;
+import org.example.newsfeedapiv2.exceptions.ErrorLogSampler;
+import org.example.newsfeedapiv2.exceptions.NotFoundException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+
+import java.time.Duration;
+
+/**
+ * Maps the service exceptions of the reactive endpoints to the same responses as
+ * {@code RestResponseEntityExceptionHandler} does for the servlet ones.
+ */
+@Profile("reactive")
+@ControllerAdvice
+@Slf4j
+public class ReactiveExceptionHandler {
+
+    private final ErrorLogSampler sampler;
+
+    public ReactiveExceptionHandler(
+            @Value("${news.logging.sampling.max-per-window:10}") int maxPerWindow,
+            @Value("${news.logging.sampling.window:10s}") Duration window) {
+        this.sampler = new ErrorLogSampler(log, maxPerWindow, window);
+    }
+
+    @ExceptionHandler(NotFoundException.class)
+    public ResponseEntity<ErrorMessage> handleNotFoundException(NotFoundException e, ServerHttpRequest request) {
+        if (sampler.tryAcquire(NotFoundException.class)) {
+            log.warn("NotFoundException at {}: {}", request.getPath(), e.getMessage());
+        }
+        return ResponseEntity
+                .status(HttpStatus.NOT_FOUND)
+                .body(new ErrorMessage(e.getMessage()));
+    }
+
+    @ExceptionHandler(BadRequestException.class)
+    public ResponseEntity<ErrorMessage> handleBadRequestException(BadRequestException e, ServerHttpRequest request) {
+        if (sampler.tryAcquire(BadRequestException.class)) {
+            log.warn("BadRequestException at {}: {}", request.getPath(), e.getMessage());
+        }
+        return ResponseEntity
+                .status(HttpStatus.BAD_REQUEST)
+                .body(new ErrorMessage(e.getMessage()));
+    }
+
+    @ExceptionHandler(ConflictException.class)
+    public ResponseEntity<ErrorMessage> handleConflictException(ConflictException e, ServerHttpRequest request) {
+        if (sampler.tryAcquire(ConflictException.class)) {
+            log.warn("ConflictException at {}: {}", request.getPath(), e.getMessage());
+        }
+        return ResponseEntity
+                .status(HttpStatus.CONFLICT)
+                .body(new ErrorMessage(e.getMessage()));
+    }
+
+    record ErrorMessage(String message) {
+    }
+
+}
@@ -0,0 +1,26 @@
+package org.example.newsfeedapiv2.reactive;
+
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+
+@Repository
+public interface ReactiveNewsRepository extends R2dbcRepository<NewsRow, Long>, ReactiveNewsViewRepository {
+
+    @Modifying
+    @Query("""
+            update news
+            set title = :title, text = :text, category_id = :categoryId,
+                version = version + 1, updated_at = :updatedAt
+            where id = :id""")
+    Mono<Integer> updateContent(Long id, String title, String text, Long categoryId, Instant updatedAt);
+
+    @Modifying
+    @Query("delete from news where id = :id")
+    Mono<Integer> deleteNewsById(Long id);
+
+}
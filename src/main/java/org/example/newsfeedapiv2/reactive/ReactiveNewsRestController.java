@@ -0,0 +1,64 @@
+package org.example.newsfeedapiv2.reactive;
+
+import lombok.RequiredArgsConstructor;
+import org.example.newsfeedapiv2.dto.NewsDTO;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * The news endpoints of the reactive profile. Lists are written to the socket as the rows arrive, so a slow
+ * client holds back the database cursor instead of the server buffering the whole result.
+ */
+@Profile("reactive")
+@RequiredArgsConstructor
+@RestController
+@RequestMapping("/api/news")
+public class ReactiveNewsRestController {
+
+    private final ReactiveNewsService newsService;
+
+    @GetMapping
+    public Flux<NewsDTO> getAll() {
+        return newsService.getAll();
+    }
+
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<NewsDTO> export() {
+        return newsService.getAll();
+    }
+
+    @GetMapping("/{id}")
+    public Mono<NewsDTO> get(@PathVariable Long id) {
+        return newsService.getById(id);
+    }
+
+    @GetMapping("/category/{id}")
+    public Flux<NewsDTO> getByCategoryId(@PathVariable Long id) {
+        return newsService.getByCategoryId(id);
+    }
+
+    @PostMapping
+    public Mono<ResponseEntity<NewsDTO>> create(@RequestBody NewsDTO newsDTO) {
+        return newsService.create(newsDTO)
+                .map(created -> ResponseEntity
+                        .status(HttpStatus.CREATED)
+                        .body(created));
+    }
+
+    @PutMapping
+    public Mono<NewsDTO> update(@RequestBody NewsDTO newsDTO) {
+        return newsService.update(newsDTO);
+    }
+
+    @DeleteMapping("/{id}")
+    public Mono<ResponseEntity<Void>> delete(@PathVariable Long id) {
+        return newsService.delete(id)
+                .then(Mono.fromSupplier(() -> ResponseEntity.ok().build()));
+    }
+
+}
@@ -0,0 +1,85 @@
+package org.example.newsfeedapiv2.reactive;
+
+import lombok.RequiredArgsConstructor;
+import org.example.newsfeedapiv2.dto.NewsDTO;
+import org.example.newsfeedapiv2.exceptions.NotFoundException;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Non-blocking counterpart of the news reads and writes of {@code NewsServiceImpl}, straight on R2DBC. It has no
+ * caches of its own and does not feed the search index, the latest-news buffers or the live streams.
+ */
+@Profile("reactive")
+@RequiredArgsConstructor
+@Service
+public class ReactiveNewsService {
+
+    private final ReactiveNewsRepository repository;
+    private final ReactiveCategoryService categoryService;
+
+    public Flux<NewsDTO> getAll() {
+        return repository.streamAll();
+    }
+
+    /**
+     * Looks the news item up in the hot table first and falls back to the archive.
+     */
+    public Mono<NewsDTO> getById(Long id) {
+        return repository.findViewById(id)
+                .switchIfEmpty(Mono.defer(() -> repository.findArchivedViewById(id)))
+                .switchIfEmpty(Mono.error(() -> new NotFoundException("News not found with id: " + id)));
+    }
+
+    public Flux<NewsDTO> getByCategoryId(Long id) {
+        return repository.findViewsByCategoryId(id)
+                .switchIfEmpty(categoryService.existsById(id)
+                        .flatMapMany(exists -> exists
+                                ? Flux.empty()
+                                : Flux.error(new NotFoundException("Category not found with id: " + id))));
+    }
+
+    public Mono<NewsDTO> create(NewsDTO newsDTO) {
+        return categoryService.getCategoryByTitleOrThrow(newsDTO.getCategoryTitle())
+                .zipWith(repository.nextId(), (category, id) -> new NewsRow()
+                        .setId(id)
+                        .setTitle(newsDTO.getTitle())
+                        .setText(newsDTO.getText())
+                        .setDate(Instant.now())
+                        .setUpdatedAt(Instant.now())
+                        .setCategoryId(category.getId()))
+                .flatMap(repository::save)
+                .map(news -> mapToDTO(news, newsDTO.getCategoryTitle()));
+    }
+
+    public Mono<NewsDTO> update(NewsDTO newsDTO) {
+        return categoryService.getCategoryByTitleOrThrow(newsDTO.getCategoryTitle())
+                .flatMap(category -> repository.updateContent(newsDTO.getId(), newsDTO.getTitle(),
+                        newsDTO.getText(), category.getId(), Instant.now()))
+                .flatMap(updated -> updated == 0
+                        ? Mono.error(new NotFoundException("News not found with id: " + newsDTO.getId()))
+                        : repository.findViewById(newsDTO.getId()));
+    }
+
+    public Mono<Void> delete(Long id) {
+        return repository.deleteNewsById(id)
+                .flatMap(deleted -> deleted == 0
+                        ? Mono.error(new NotFoundException("News not found with id: " + id))
+                        : Mono.empty());
+    }
+
+    private static NewsDTO mapToDTO(NewsRow news, String categoryTitle) {
+        return new NewsDTO()
+                .setId(news.getId())
+                .setTitle(news.getTitle())
+                .setText(news.getText())
+                .setDate(news.getDate().truncatedTo(ChronoUnit.SECONDS))
+                .setCategoryTitle(categoryTitle);
+    }
+
+}
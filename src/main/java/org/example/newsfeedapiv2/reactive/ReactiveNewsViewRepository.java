@@ -0,0 +1,30 @@
+package org.example.newsfeedapiv2.reactive;
+
+import org.example.newsfeedapiv2.dto.NewsDTO;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+public interface ReactiveNewsViewRepository {
+
+    /**
+     * Streams every news item with its category title. Rows are fetched from the cursor in batches, and the next
+     * batch is only requested once the subscriber has asked for more.
+     */
+    Flux<NewsDTO> streamAll();
+
+    Mono<NewsDTO> findViewById(Long id);
+
+    Mono<NewsDTO> findArchivedViewById(Long id);
+
+    /**
+     * Streams the news of a category, newest first.
+     */
+    Flux<NewsDTO> findViewsByCategoryId(Long categoryId);
+
+    /**
+     * Claims an id from the sequence Hibernate allocates news ids from. Hibernate treats every sequence value as
+     * the upper end of a block of 50 ids, so the id handed out here is the only one of its block in use.
+     */
+    Mono<Long> nextId();
+
+}
@@ -0,0 +1,97 @@
+package org.example.newsfeedapiv2.reactive;
+
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.Readable;
+import org.example.newsfeedapiv2.dto.NewsDTO;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.r2dbc.dialect.DialectResolver;
+import org.springframework.data.r2dbc.dialect.H2Dialect;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+
+public class ReactiveNewsViewRepositoryImpl implements ReactiveNewsViewRepository {
+
+    private static final String SELECT_NEWS = """
+            select n.id, n.title, n.text, n.date, c.title as category_title
+            from news n left join categories c on c.id = n.category_id""";
+    private static final String SELECT_ARCHIVED_NEWS = """
+            select n.id, n.title, n.text, n.date, c.title as category_title
+            from news_archive n left join categories c on c.id = n.category_id""";
+
+    private final DatabaseClient databaseClient;
+    private final String nextIdQuery;
+    private final int fetchSize;
+
+    public ReactiveNewsViewRepositoryImpl(DatabaseClient databaseClient,
+                                          ConnectionFactory connectionFactory,
+                                          @Value("${news.reactive.fetch-size:500}") int fetchSize) {
+        this.databaseClient = databaseClient;
+        this.nextIdQuery = DialectResolver.getDialect(connectionFactory) instanceof H2Dialect
+                ? "select next value for news_seq"
+                : "select nextval('news_seq')";
+        this.fetchSize = fetchSize;
+    }
+
+    @Override
+    public Flux<NewsDTO> streamAll() {
+        return databaseClient.sql(SELECT_NEWS)
+                .filter(statement -> statement.fetchSize(fetchSize))
+                .map(ReactiveNewsViewRepositoryImpl::toDTO)
+                .all();
+    }
+
+    @Override
+    public Mono<NewsDTO> findViewById(Long id) {
+        return databaseClient.sql(SELECT_NEWS + " where n.id = :id")
+                .bind("id", id)
+                .map(ReactiveNewsViewRepositoryImpl::toDTO)
+                .one();
+    }
+
+    @Override
+    public Mono<NewsDTO> findArchivedViewById(Long id) {
+        return databaseClient.sql(SELECT_ARCHIVED_NEWS + " where n.id = :id")
+                .bind("id", id)
+                .map(ReactiveNewsViewRepositoryImpl::toDTO)
+                .one();
+    }
+
+    @Override
+    public Flux<NewsDTO> findViewsByCategoryId(Long categoryId) {
+        return databaseClient.sql(SELECT_NEWS + " where n.category_id = :categoryId order by n.date desc, n.id desc")
+                .bind("categoryId", categoryId)
+                .filter(statement -> statement.fetchSize(fetchSize))
+                .map(ReactiveNewsViewRepositoryImpl::toDTO)
+                .all();
+    }
+
+    @Override
+    public Mono<Long> nextId() {
+        return databaseClient.sql(nextIdQuery)
+                .map(row -> row.get(0, Long.class))
+                .one();
+    }
+
+    private static NewsDTO toDTO(Readable row) {
+        return new NewsDTO()
+                .setId(row.get("id", Long.class))
+                .setTitle(row.get("title", String.class))
+                .setText(row.get("text", String.class))
+                .setDate(toInstant(row.get("date", LocalDateTime.class)))
+                .setCategoryTitle(row.get("category_title", String.class));
+    }
+
+    // The columns are zone-less timestamps written by Hibernate in the JVM zone, so they are read back in it.
+    // Dates are served to the second, as NewsMapper does.
+    private static Instant toInstant(LocalDateTime timestamp) {
+        return timestamp == null ? null
+                : timestamp.atZone(ZoneId.systemDefault()).toInstant().truncatedTo(ChronoUnit.SECONDS);
+    }
+
+}
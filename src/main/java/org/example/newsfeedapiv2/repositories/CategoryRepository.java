@@ -1,12 +1,49 @@
 package org.example.newsfeedapiv2.repositories;
 
 import org.example.newsfeedapiv2.entity.Category;
+import org.example.newsfeedapiv2.projections.CategorySummary;
+import org.example.newsfeedapiv2.projections.CategoryVersion;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
+@Transactional(readOnly = true)
 public interface CategoryRepository extends JpaRepository<Category, Long> {
     Optional<Category> findByTitle(String title);
-}
\ No newline at end of file
+
+    List<Category> findByTitleIn(Collection<String> titles);
+
+    @Query("select c.id as id, c.title as title from Category c order by c.id")
+    List<CategorySummary> findAllSummaries();
+
+    @Query("select c.title from Category c where c.id = :id")
+    Optional<String> findTitleById(Long id);
+
+    @Query("select c.version as version, c.updatedAt as updatedAt from Category c where c.id = :id")
+    Optional<CategoryVersion> findVersionById(Long id);
+
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("""
+            update Category c
+            set c.title = :title, c.version = c.version + 1, c.updatedAt = :updatedAt
+            where c.id = :id""")
+    int updateTitle(Long id, String title, Instant updatedAt);
+
+    /**
+     * Deletes the category in one statement. Its news go with it through the {@code ON DELETE CASCADE}
+     * foreign key rather than being loaded and removed one by one.
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("delete from Category c where c.id = :id")
+    int deleteCategoryById(Long id);
+}
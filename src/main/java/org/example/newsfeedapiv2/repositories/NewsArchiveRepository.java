@@ -0,0 +1,57 @@
+package org.example.newsfeedapiv2.repositories;
+
+import org.example.newsfeedapiv2.entity.ArchivedNews;
+import org.example.newsfeedapiv2.projections.NewsVersion;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+@Transactional(readOnly = true)
+public interface NewsArchiveRepository extends JpaRepository<ArchivedNews, Long> {
+
+    @Override
+    @EntityGraph(attributePaths = "category")
+    Optional<ArchivedNews> findById(Long id);
+
+    @Query("""
+            select n.version as version, n.updatedAt as updatedAt,
+                   c.version as categoryVersion, c.updatedAt as categoryUpdatedAt
+            from ArchivedNews n left join n.category c
+            where n.id = :id""")
+    Optional<NewsVersion> findVersionById(Long id);
+
+    /**
+     * Copies the given news into the archive if they are older than {@code before}. Meant to run in the same
+     * transaction as {@link NewsRepository#lockOlderThanByIds} and {@link NewsRepository#deleteOlderThanByIds}.
+     */
+    @Transactional
+    @Modifying
+    @Query(nativeQuery = true, value = """
+            insert into news_archive (id, title, text, date, category_id, version, updated_at, archived_at)
+            select id, title, text, date, category_id, version, updated_at, :archivedAt
+            from news
+            where id in (:ids) and date < :before""")
+    int copyOlderThanByIds(Instant before, Collection<Long> ids, Instant archivedAt);
+
+    long countByCategoryId(Long categoryId);
+
+    @Query("select n.id from ArchivedNews n where n.category.id = :categoryId and n.id > :afterId order by n.id")
+    List<Long> findIdsByCategoryIdAfter(Long categoryId, Long afterId, Limit limit);
+
+    @Transactional
+    @Modifying
+    @Query(nativeQuery = true, value = """
+            delete from news_archive
+            where category_id = :categoryId and id > :afterId and id <= :lastId""")
+    int deleteByCategoryIdInRange(Long categoryId, Long afterId, Long lastId);
+}
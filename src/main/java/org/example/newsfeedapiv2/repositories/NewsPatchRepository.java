@@ -0,0 +1,17 @@
+package org.example.newsfeedapiv2.repositories;
+
+import org.example.newsfeedapiv2.entity.Category;
+
+import java.time.Instant;
+
+public interface NewsPatchRepository {
+
+    /**
+     * Updates only the given columns of a news item in one statement, together with its version and
+     * modification date. A {@code null} argument leaves its column unchanged.
+     *
+     * @return the number of updated rows
+     */
+    int patch(Long id, String title, String text, Category category, Instant updatedAt);
+
+}
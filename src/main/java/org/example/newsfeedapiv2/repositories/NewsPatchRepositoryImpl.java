@@ -0,0 +1,44 @@
+package org.example.newsfeedapiv2.repositories;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaUpdate;
+import jakarta.persistence.criteria.Root;
+import lombok.RequiredArgsConstructor;
+import org.example.newsfeedapiv2.entity.Category;
+import org.example.newsfeedapiv2.entity.News;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+
+@RequiredArgsConstructor
+public class NewsPatchRepositoryImpl implements NewsPatchRepository {
+
+    private final EntityManager entityManager;
+
+    @Override
+    @Transactional
+    public int patch(Long id, String title, String text, Category category, Instant updatedAt) {
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        CriteriaUpdate<News> update = builder.createCriteriaUpdate(News.class);
+        Root<News> news = update.from(News.class);
+
+        if (title != null) {
+            update.set(news.<String>get("title"), title);
+        }
+        if (text != null) {
+            update.set(news.<String>get("text"), text);
+        }
+        if (category != null) {
+            update.set(news.<Category>get("category"), category);
+        }
+        update.set(news.<Long>get("version"), builder.sum(news.<Long>get("version"), 1L));
+        update.set(news.<Instant>get("updatedAt"), updatedAt);
+        update.where(builder.equal(news.get("id"), id));
+
+        int updated = entityManager.createQuery(update).executeUpdate();
+        entityManager.clear();
+        return updated;
+    }
+
+}
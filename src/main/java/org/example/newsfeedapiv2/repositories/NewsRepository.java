@@ -1,12 +1,133 @@
 package org.example.newsfeedapiv2.repositories;
 
+import jakarta.persistence.QueryHint;
+import org.example.newsfeedapiv2.entity.Category;
 import org.example.newsfeedapiv2.entity.News;
+import org.example.newsfeedapiv2.projections.NewsKey;
+import org.example.newsfeedapiv2.projections.NewsVersion;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
 import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
-public interface NewsRepository extends JpaRepository<News, Long> {
+@Transactional(readOnly = true)
+public interface NewsRepository extends JpaRepository<News, Long>, NewsPatchRepository {
+    String EXPORT_FETCH_SIZE = "500";
+
+    @Override
+    @EntityGraph(attributePaths = "category")
+    List<News> findAll();
+
+    @Override
+    @EntityGraph(attributePaths = "category")
+    Optional<News> findById(Long id);
+
+    @EntityGraph(attributePaths = "category")
+    @Query("select n from News n where n.category.id = :categoryId")
     Collection<News> findByCategoryId(Long categoryId);
-}
\ No newline at end of file
+
+    @EntityGraph(attributePaths = "category")
+    @Query("select n from News n order by n.date desc, n.id desc")
+    List<News> findFirstPage(Limit limit);
+
+    @EntityGraph(attributePaths = "category")
+    @Query("""
+            select n from News n
+            where n.date <= :date and (n.date < :date or n.id < :id)
+            order by n.date desc, n.id desc""")
+    List<News> findPageAfter(Instant date, Long id, Limit limit);
+
+    @EntityGraph(attributePaths = "category")
+    @Query("""
+            select n from News n
+            where n.category.id = :categoryId
+            order by n.date desc, n.id desc""")
+    List<News> findFirstPageByCategoryId(Long categoryId, Limit limit);
+
+    @EntityGraph(attributePaths = "category")
+    @Query("""
+            select n from News n
+            where n.category.id = :categoryId
+              and n.date <= :date and (n.date < :date or n.id < :id)
+            order by n.date desc, n.id desc""")
+    List<News> findPageByCategoryIdAfter(Long categoryId, Instant date, Long id, Limit limit);
+
+    @EntityGraph(attributePaths = "category")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = EXPORT_FETCH_SIZE))
+    @Query("select n from News n")
+    Stream<News> streamAll();
+
+    @Query("""
+            select n.version as version, n.updatedAt as updatedAt,
+                   c.version as categoryVersion, c.updatedAt as categoryUpdatedAt
+            from News n left join n.category c
+            where n.id = :id""")
+    Optional<NewsVersion> findVersionById(Long id);
+
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("""
+            update News n
+            set n.title = :title, n.text = :text, n.category = :category,
+                n.version = n.version + 1, n.updatedAt = :updatedAt
+            where n.id = :id""")
+    int updateContent(Long id, String title, String text, Category category, Instant updatedAt);
+
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("delete from News n where n.id = :id")
+    int deleteNewsById(Long id);
+
+    long countByCategoryId(Long categoryId);
+
+    /**
+     * Category a news item belongs to, read before a write that may move or delete it so the caches of that
+     * category can be invalidated too.
+     */
+    @Query("select n.category.id from News n where n.id = :id")
+    Optional<Long> findCategoryIdById(Long id);
+
+    @Query("select n.id from News n where n.category.id = :categoryId and n.id > :afterId order by n.id")
+    List<Long> findIdsByCategoryIdAfter(Long categoryId, Long afterId, Limit limit);
+
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("delete from News n where n.category.id = :categoryId and n.id > :afterId and n.id <= :lastId")
+    int deleteByCategoryIdInRange(Long categoryId, Long afterId, Long lastId);
+
+    /**
+     * Keys of the news that come after {@code (date, id)} in feed order, newest first. Seeks through the same
+     * {@code (date, id)} index as {@link #findPageAfter}; {@code id = Long.MIN_VALUE} starts strictly before
+     * {@code date}.
+     */
+    @Query("""
+            select n.id as id, n.date as date, n.category.id as categoryId from News n
+            where n.date <= :date and (n.date < :date or n.id < :id)
+            order by n.date desc, n.id desc""")
+    List<NewsKey> findKeysAfter(Instant date, Long id, Limit limit);
+
+    /**
+     * Locks the given news that are older than {@code before} and returns their ids, so a chunk being archived
+     * cannot change between its copy and its delete. Meant to run in the same transaction as both.
+     */
+    @Transactional
+    @Query(nativeQuery = true, value = "select id from news where id in (:ids) and date < :before for update")
+    List<Long> lockOlderThanByIds(Instant before, Collection<Long> ids);
+
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("delete from News n where n.id in :ids and n.date < :before")
+    int deleteOlderThanByIds(Instant before, Collection<Long> ids);
+}
@@ -0,0 +1,346 @@
+package org.example.newsfeedapiv2.search;
+
+import org.example.newsfeedapiv2.dto.NewsDTO;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+/**
+ * In-memory inverted index over news title and text with BM25 ranking.
+ * <p>
+ * Every indexed news item gets an ascending document number, so posting lists stay sorted and can be merged
+ * document-at-a-time. Removing or re-indexing an item only tombstones its old document number; tombstoned
+ * documents are dropped from the posting lists once they make up half of the index.
+ */
+@Component
+public class NewsSearchIndex {
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    private static final int TITLE_BOOST = 2;
+    private static final int MIN_DOCS_TO_COMPACT = 1024;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private Segment segment = new Segment();
+    private List<Consumer<Segment>> pendingUpdates;
+
+    public void index(NewsDTO news) {
+        update(segment -> {
+            segment.removeDoc(news.getId());
+            segment.addDoc(news);
+            segment.compactIfSparse();
+        });
+    }
+
+    public void remove(Long newsId) {
+        update(segment -> {
+            segment.removeDoc(newsId);
+            segment.compactIfSparse();
+        });
+    }
+
+    public void removeAll(Collection<Long> newsIds) {
+        update(segment -> {
+            newsIds.forEach(segment::removeDoc);
+            segment.compactIfSparse();
+        });
+    }
+
+    /**
+     * Points the stored news of a renamed category at its new title. The category title is not indexed text,
+     * so only the stored documents are replaced.
+     */
+    public void renameCategory(String oldTitle, String newTitle) {
+        update(segment -> segment.renameCategory(oldTitle, newTitle));
+    }
+
+    /**
+     * Removes every news item of a category, for deletes that take the news with them without listing them.
+     */
+    public void removeCategory(String title) {
+        update(segment -> {
+            segment.removeCategory(title);
+            segment.compactIfSparse();
+        });
+    }
+
+    /**
+     * Replaces the whole index with the documents fed by {@code source}. The new index is built without the lock,
+     * so searches and updates keep going against the old one meanwhile; updates made during the build are
+     * recorded and replayed onto the new index right before it is swapped in. Replaying an update the source
+     * already reflected is harmless, since every update sets a document to its latest state.
+     */
+    public synchronized void rebuild(Consumer<Consumer<NewsDTO>> source) {
+        lock.writeLock().lock();
+        try {
+            pendingUpdates = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        Segment rebuilt = new Segment();
+        boolean built = false;
+        try {
+            source.accept(news -> {
+                rebuilt.removeDoc(news.getId());
+                rebuilt.addDoc(news);
+            });
+            built = true;
+        } finally {
+            lock.writeLock().lock();
+            try {
+                if (built) {
+                    pendingUpdates.forEach(update -> update.accept(rebuilt));
+                    rebuilt.compact();
+                    segment = rebuilt;
+                }
+                pendingUpdates = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+    }
+
+    public List<NewsDTO> search(String query, int limit) {
+        lock.readLock().lock();
+        try {
+            return segment.search(query, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return segment.liveDocs;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void update(Consumer<Segment> update) {
+        lock.writeLock().lock();
+        try {
+            update.accept(segment);
+            if (pendingUpdates != null) {
+                pendingUpdates.add(update);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private record ScoredDoc(int doc, double score) {
+    }
+
+    /**
+     * The documents, posting lists and statistics of one build of the index. Guarded by the index lock.
+     */
+    private static final class Segment {
+
+        private final Map<String, Integer> termIds = new HashMap<>();
+        private final List<Postings> postings = new ArrayList<>();
+        private final Map<Long, Integer> docsByNewsId = new HashMap<>();
+        private final BitSet deleted = new BitSet();
+
+        private NewsDTO[] docs = new NewsDTO[1024];
+        private int[][] docTerms = new int[1024][];
+        private int[] docLengths = new int[1024];
+        private int docCount;
+        private int liveDocs;
+        private long totalLength;
+
+        private List<NewsDTO> search(String query, int limit) {
+            List<Postings> matches = new ArrayList<>();
+            for (String term : new LinkedHashSet<>(Tokenizer.tokenize(query))) {
+                Integer termId = termIds.get(term);
+                if (termId != null && postings.get(termId).liveDocs() > 0) {
+                    matches.add(postings.get(termId));
+                }
+            }
+            if (matches.isEmpty() || limit <= 0) {
+                return List.of();
+            }
+            return topDocs(matches, limit);
+        }
+
+        private void renameCategory(String oldTitle, String newTitle) {
+            for (int doc = 0; doc < docCount; doc++) {
+                NewsDTO news = docs[doc];
+                if (news != null && oldTitle.equals(news.getCategoryTitle())) {
+                    docs[doc] = new NewsDTO()
+                            .setId(news.getId())
+                            .setTitle(news.getTitle())
+                            .setText(news.getText())
+                            .setDate(news.getDate())
+                            .setCategoryTitle(newTitle);
+                }
+            }
+        }
+
+        private void removeCategory(String title) {
+            for (int doc = 0; doc < docCount; doc++) {
+                NewsDTO news = docs[doc];
+                if (news != null && title.equals(news.getCategoryTitle())) {
+                    removeDoc(news.getId());
+                }
+            }
+        }
+
+        private List<NewsDTO> topDocs(List<Postings> matches, int limit) {
+            double averageLength = (double) totalLength / liveDocs;
+            double[] idf = new double[matches.size()];
+            for (int i = 0; i < matches.size(); i++) {
+                int df = matches.get(i).liveDocs();
+                idf[i] = Math.log(1 + (liveDocs - df + 0.5) / (df + 0.5));
+            }
+
+            Comparator<ScoredDoc> ranking = Comparator.comparingDouble(ScoredDoc::score)
+                    .thenComparingInt(ScoredDoc::doc);
+            PriorityQueue<ScoredDoc> top = new PriorityQueue<>(limit + 1, ranking);
+
+            int[] cursors = new int[matches.size()];
+            while (true) {
+                int doc = Integer.MAX_VALUE;
+                for (int i = 0; i < matches.size(); i++) {
+                    if (cursors[i] < matches.get(i).size()) {
+                        doc = Math.min(doc, matches.get(i).doc(cursors[i]));
+                    }
+                }
+                if (doc == Integer.MAX_VALUE) {
+                    break;
+                }
+
+                double score = 0;
+                for (int i = 0; i < matches.size(); i++) {
+                    Postings termPostings = matches.get(i);
+                    if (cursors[i] < termPostings.size() && termPostings.doc(cursors[i]) == doc) {
+                        int freq = termPostings.freq(cursors[i]);
+                        double norm = K1 * (1 - B + B * docLengths[doc] / averageLength);
+                        score += idf[i] * freq * (K1 + 1) / (freq + norm);
+                        cursors[i]++;
+                    }
+                }
+
+                if (!deleted.get(doc)) {
+                    top.offer(new ScoredDoc(doc, score));
+                    if (top.size() > limit) {
+                        top.poll();
+                    }
+                }
+            }
+
+            List<NewsDTO> result = new ArrayList<>(top.size());
+            while (!top.isEmpty()) {
+                result.add(docs[top.poll().doc()]);
+            }
+            Collections.reverse(result);
+            return result;
+        }
+
+        private void addDoc(NewsDTO news) {
+            Map<String, Integer> freqs = new HashMap<>();
+            for (String token : Tokenizer.tokenize(news.getTitle())) {
+                freqs.merge(token, TITLE_BOOST, Integer::sum);
+            }
+            for (String token : Tokenizer.tokenize(news.getText())) {
+                freqs.merge(token, 1, Integer::sum);
+            }
+
+            int doc = docCount++;
+            ensureCapacity(docCount);
+
+            int[] terms = new int[freqs.size()];
+            int length = 0;
+            int i = 0;
+            for (Map.Entry<String, Integer> entry : freqs.entrySet()) {
+                int termId = termIds.computeIfAbsent(entry.getKey(), term -> {
+                    postings.add(new Postings());
+                    return postings.size() - 1;
+                });
+                postings.get(termId).add(doc, entry.getValue());
+                terms[i++] = termId;
+                length += entry.getValue();
+            }
+
+            docs[doc] = news;
+            docTerms[doc] = terms;
+            docLengths[doc] = length;
+            docsByNewsId.put(news.getId(), doc);
+            liveDocs++;
+            totalLength += length;
+        }
+
+        private void removeDoc(Long newsId) {
+            Integer doc = docsByNewsId.remove(newsId);
+            if (doc == null) {
+                return;
+            }
+            for (int termId : docTerms[doc]) {
+                postings.get(termId).markDeleted();
+            }
+            deleted.set(doc);
+            liveDocs--;
+            totalLength -= docLengths[doc];
+            docs[doc] = null;
+            docTerms[doc] = null;
+        }
+
+        private void compactIfSparse() {
+            if (docCount >= MIN_DOCS_TO_COMPACT && deleted.cardinality() * 2 >= docCount) {
+                compact();
+            }
+        }
+
+        private void compact() {
+            int[] renumbering = new int[docCount];
+            int next = 0;
+            for (int doc = 0; doc < docCount; doc++) {
+                renumbering[doc] = deleted.get(doc) ? -1 : next++;
+            }
+
+            for (int doc = 0; doc < docCount; doc++) {
+                int target = renumbering[doc];
+                if (target >= 0) {
+                    docs[target] = docs[doc];
+                    docTerms[target] = docTerms[doc];
+                    docLengths[target] = docLengths[doc];
+                    docsByNewsId.put(docs[target].getId(), target);
+                }
+            }
+            Arrays.fill(docs, next, docCount, null);
+            Arrays.fill(docTerms, next, docCount, null);
+
+            for (Postings termPostings : postings) {
+                termPostings.compact(renumbering);
+            }
+            docCount = next;
+            deleted.clear();
+        }
+
+        private void ensureCapacity(int capacity) {
+            if (capacity > docs.length) {
+                int newLength = Math.max(capacity, docs.length * 2);
+                docs = Arrays.copyOf(docs, newLength);
+                docTerms = Arrays.copyOf(docTerms, newLength);
+                docLengths = Arrays.copyOf(docLengths, newLength);
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,29 @@
+package org.example.newsfeedapiv2.search;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.newsfeedapiv2.config.ReplicaRoutingContext;
+import org.example.newsfeedapiv2.services.NewsServiceImpl;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@RequiredArgsConstructor
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@Component
+public class NewsSearchIndexLoader {
+
+    private final NewsSearchIndex index;
+    private final NewsServiceImpl newsService;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        long start = System.nanoTime();
+        ReplicaRoutingContext.runOnPrimary(() -> index.rebuild(newsService::exportAll));
+        log.info("Search index rebuilt with {} news in {} ms",
+                index.size(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+}
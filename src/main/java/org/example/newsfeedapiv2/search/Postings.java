@@ -0,0 +1,62 @@
+package org.example.newsfeedapiv2.search;
+
+import java.util.Arrays;
+
+/**
+ * Posting list of one term: ascending document numbers with their term frequencies,
+ * kept in parallel primitive arrays.
+ */
+final class Postings {
+
+    private int[] docs = new int[4];
+    private int[] freqs = new int[4];
+    private int size;
+    private int liveDocs;
+
+    void add(int doc, int freq) {
+        if (size == docs.length) {
+            docs = Arrays.copyOf(docs, size * 2);
+            freqs = Arrays.copyOf(freqs, size * 2);
+        }
+        docs[size] = doc;
+        freqs[size] = freq;
+        size++;
+        liveDocs++;
+    }
+
+    void markDeleted() {
+        liveDocs--;
+    }
+
+    void compact(int[] renumbering) {
+        int kept = 0;
+        for (int i = 0; i < size; i++) {
+            int doc = renumbering[docs[i]];
+            if (doc >= 0) {
+                docs[kept] = doc;
+                freqs[kept] = freqs[i];
+                kept++;
+            }
+        }
+        size = kept;
+        docs = Arrays.copyOf(docs, Math.max(4, kept));
+        freqs = Arrays.copyOf(freqs, Math.max(4, kept));
+    }
+
+    int size() {
+        return size;
+    }
+
+    int liveDocs() {
+        return liveDocs;
+    }
+
+    int doc(int index) {
+        return docs[index];
+    }
+
+    int freq(int index) {
+        return freqs[index];
+    }
+
+}
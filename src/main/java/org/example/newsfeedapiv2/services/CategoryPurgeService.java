@@ -0,0 +1,225 @@
+package org.example.newsfeedapiv2.services;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.example.newsfeedapiv2.cache.LatestNewsBuffer;
+import org.example.newsfeedapiv2.cache.NewsFeedCache;
+import org.example.newsfeedapiv2.config.ReplicaRoutingContext;
+import org.example.newsfeedapiv2.dto.CategoryPurgeJobDTO;
+import org.example.newsfeedapiv2.dto.CategoryPurgeJobDTO.Status;
+import org.example.newsfeedapiv2.exceptions.NotFoundException;
+import org.example.newsfeedapiv2.repositories.NewsArchiveRepository;
+import org.example.newsfeedapiv2.repositories.NewsRepository;
+import org.example.newsfeedapiv2.search.NewsSearchIndex;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Deletes categories in the background.
+ * <p>
+ * The news of a category are deleted in chunks of consecutive ids, each chunk in its own short transaction,
+ * so a large category never holds locks on all of its rows at once. Its archived news follow the same way, so
+ * the cascade from the category leaves nothing to delete. The category itself goes last. Purges
+ * run one at a time on a dedicated thread and read from the primary only, so a lagging replica cannot hide
+ * rows from them; the most recent jobs are kept for status queries.
+ */
+@Slf4j
+@Service
+public class CategoryPurgeService {
+
+    private static final int MAX_RETAINED_JOBS = 100;
+
+    private final NewsRepository newsRepository;
+    private final NewsArchiveRepository archiveRepository;
+    private final CategoryServiceImpl categoryService;
+    private final NewsSearchIndex searchIndex;
+    private final NewsFeedCache feedCache;
+    private final LatestNewsBuffer latestNews;
+    private final int chunkSize;
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(r -> new Thread(r, "category-purge"));
+    private final Map<UUID, Job> jobs = new LinkedHashMap<>();
+
+    public CategoryPurgeService(NewsRepository newsRepository,
+                                NewsArchiveRepository archiveRepository,
+                                CategoryServiceImpl categoryService,
+                                NewsSearchIndex searchIndex,
+                                NewsFeedCache feedCache,
+                                LatestNewsBuffer latestNews,
+                                @Value("${news.purge.chunk-size:1000}") int chunkSize) {
+        this.newsRepository = newsRepository;
+        this.archiveRepository = archiveRepository;
+        this.categoryService = categoryService;
+        this.searchIndex = searchIndex;
+        this.feedCache = feedCache;
+        this.latestNews = latestNews;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Schedules the deletion of a category, or returns the pending job if the category is already being purged.
+     */
+    public CategoryPurgeJobDTO submit(Long categoryId) {
+        if (!categoryService.existsById(categoryId)) {
+            throw new NotFoundException("Category not found with id: " + categoryId);
+        }
+
+        Job job;
+        synchronized (jobs) {
+            for (Job pending : jobs.values()) {
+                if (pending.categoryId.equals(categoryId) && !pending.isFinished()) {
+                    return pending.toDTO();
+                }
+            }
+            job = new Job(UUID.randomUUID(), categoryId);
+            jobs.put(job.id, job);
+            pruneFinishedJobs();
+        }
+        executor.execute(() -> ReplicaRoutingContext.runOnPrimary(() -> run(job)));
+        return job.toDTO();
+    }
+
+    public CategoryPurgeJobDTO getById(UUID id) {
+        synchronized (jobs) {
+            Job job = jobs.get(id);
+            if (job == null) {
+                throw new NotFoundException("Purge job not found with id: " + id);
+            }
+            return job.toDTO();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private void run(Job job) {
+        try {
+            job.start(newsRepository.countByCategoryId(job.categoryId)
+                    + archiveRepository.countByCategoryId(job.categoryId));
+            Long afterId = Long.MIN_VALUE;
+            List<Long> ids;
+            while (!(ids = newsRepository.findIdsByCategoryIdAfter(job.categoryId, afterId, Limit.of(chunkSize)))
+                    .isEmpty()) {
+                Long lastId = ids.get(ids.size() - 1);
+                int deleted = newsRepository.deleteByCategoryIdInRange(job.categoryId, afterId, lastId);
+                searchIndex.removeAll(ids);
+                feedCache.invalidate(job.categoryId);
+                latestNews.removeAll(List.of(job.categoryId), ids);
+                job.chunkDeleted(deleted);
+                afterId = lastId;
+            }
+            purgeArchive(job);
+            categoryService.delete(job.categoryId);
+            job.complete();
+            log.info("Purged category {} with {} news in {} chunks", job.categoryId, job.deletedNews, job.chunks);
+        } catch (RuntimeException e) {
+            job.fail(e);
+            log.error("Purge of category {} failed after {} news", job.categoryId, job.deletedNews, e);
+        }
+    }
+
+    /**
+     * Archived news are not cached or indexed, so their chunks only need deleting.
+     */
+    private void purgeArchive(Job job) {
+        Long afterId = Long.MIN_VALUE;
+        List<Long> ids;
+        while (!(ids = archiveRepository.findIdsByCategoryIdAfter(job.categoryId, afterId, Limit.of(chunkSize)))
+                .isEmpty()) {
+            Long lastId = ids.get(ids.size() - 1);
+            job.chunkDeleted(archiveRepository.deleteByCategoryIdInRange(job.categoryId, afterId, lastId));
+            afterId = lastId;
+        }
+    }
+
+    private void pruneFinishedJobs() {
+        Iterator<Job> oldest = jobs.values().iterator();
+        while (jobs.size() > MAX_RETAINED_JOBS && oldest.hasNext()) {
+            if (oldest.next().isFinished()) {
+                oldest.remove();
+            }
+        }
+    }
+
+    private static final class Job {
+
+        private final UUID id;
+        private final Long categoryId;
+        private final Instant submittedAt = Instant.now();
+        private Status status = Status.QUEUED;
+        private long totalNews;
+        private long deletedNews;
+        private int chunks;
+        private Instant startedAt;
+        private Instant finishedAt;
+        private String error;
+
+        private Job(UUID id, Long categoryId) {
+            this.id = id;
+            this.categoryId = categoryId;
+        }
+
+        synchronized void start(long totalNews) {
+            this.totalNews = totalNews;
+            this.status = Status.RUNNING;
+            this.startedAt = Instant.now();
+        }
+
+        synchronized void chunkDeleted(int deleted) {
+            deletedNews += deleted;
+            chunks++;
+        }
+
+        synchronized void complete() {
+            status = Status.COMPLETED;
+            finishedAt = Instant.now();
+        }
+
+        synchronized void fail(Exception e) {
+            status = Status.FAILED;
+            finishedAt = Instant.now();
+            error = e.getMessage();
+        }
+
+        synchronized boolean isFinished() {
+            return status == Status.COMPLETED || status == Status.FAILED;
+        }
+
+        synchronized CategoryPurgeJobDTO toDTO() {
+            return new CategoryPurgeJobDTO()
+                    .setId(id)
+                    .setCategoryId(categoryId)
+                    .setStatus(status)
+                    .setTotalNews(Math.max(totalNews, deletedNews))
+                    .setDeletedNews(deletedNews)
+                    .setChunks(chunks)
+                    .setNewsPerSecond(newsPerSecond())
+                    .setSubmittedAt(submittedAt)
+                    .setStartedAt(startedAt)
+                    .setFinishedAt(finishedAt)
+                    .setError(error);
+        }
+
+        private double newsPerSecond() {
+            if (startedAt == null) {
+                return 0;
+            }
+            long millis = Duration.between(startedAt, finishedAt == null ? Instant.now() : finishedAt).toMillis();
+            return millis == 0 ? 0 : deletedNews * 1000.0 / millis;
+        }
+
+    }
+
+}
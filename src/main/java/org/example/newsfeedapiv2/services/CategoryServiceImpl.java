@@ -1,26 +1,50 @@
 package org.example.newsfeedapiv2.services;
 
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
+import org.example.newsfeedapiv2.cache.CategoryCache;
+import org.example.newsfeedapiv2.cache.LatestNewsBuffer;
+import org.example.newsfeedapiv2.cache.NewsFeedCache;
+import org.example.newsfeedapiv2.config.ReplicaRoutingContext;
 import org.example.newsfeedapiv2.dto.CategoryDTO;
+import org.example.newsfeedapiv2.dto.ResourceVersion;
 import org.example.newsfeedapiv2.entity.Category;
+import org.example.newsfeedapiv2.exceptions.BadRequestException;
+import org.example.newsfeedapiv2.exceptions.ConflictException;
 import org.example.newsfeedapiv2.exceptions.NotFoundException;
 import org.example.newsfeedapiv2.mappers.CategoryMapper;
 import org.example.newsfeedapiv2.repositories.CategoryRepository;
+import org.example.newsfeedapiv2.search.NewsSearchIndex;
+import org.example.newsfeedapiv2.stream.CategoryDeletedEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 
+import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
+@Timed(value = "newsfeed.service", description = "Service method calls")
 @RequiredArgsConstructor
 @Service
 public class CategoryServiceImpl implements CRUDService<CategoryDTO> {
 
     private final CategoryMapper mapper;
     private final CategoryRepository repository;
+    private final CategoryCache cache;
+    private final NewsFeedCache feedCache;
+    private final LatestNewsBuffer latestNews;
+    private final NewsSearchIndex searchIndex;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     public Collection<CategoryDTO> getAll() {
-        return repository.findAll().stream()
-                .map(this::mapToDTO)
+        return repository.findAllSummaries().stream()
+                .map(mapper::mapToDTO)
                 .toList();
     }
 
@@ -31,21 +55,65 @@ public class CategoryServiceImpl implements CRUDService<CategoryDTO> {
 
     @Override
     public CategoryDTO create(CategoryDTO categoryDTO) {
-        Category category = mapToEntity(categoryDTO);
-        return mapToDTO(repository.save(category));
+        Category category;
+        try {
+            category = repository.save(mapToEntity(categoryDTO));
+        } catch (DataIntegrityViolationException e) {
+            throw titleTaken(categoryDTO.getTitle());
+        }
+        cache.invalidate(category.getId());
+        return mapToDTO(category);
     }
 
     @Override
     public CategoryDTO update(CategoryDTO categoryDTO) {
-        Category existingCategory = getCategoryByIdOrThrow(categoryDTO.getId());
-        existingCategory.setTitle(categoryDTO.getTitle());
-        return mapToDTO(repository.save(existingCategory));
+        Optional<String> previousTitle = findTitleById(categoryDTO.getId());
+        int updated;
+        try {
+            updated = repository.updateTitle(categoryDTO.getId(), categoryDTO.getTitle(), Instant.now());
+        } catch (DataIntegrityViolationException e) {
+            throw titleTaken(categoryDTO.getTitle());
+        }
+        if (updated == 0) {
+            throw new NotFoundException("Category not found with id: " + categoryDTO.getId());
+        }
+        cache.invalidate(categoryDTO.getId());
+        feedCache.invalidate(categoryDTO.getId());
+        latestNews.invalidate(categoryDTO.getId());
+        previousTitle.ifPresent(title -> searchIndex.renameCategory(title, categoryDTO.getTitle()));
+        return new CategoryDTO()
+                .setId(categoryDTO.getId())
+                .setTitle(categoryDTO.getTitle());
+    }
+
+    public CategoryDTO patch(Long id, CategoryDTO patch) {
+        if (patch.getTitle() == null) {
+            throw new BadRequestException("Patch must change at least one field");
+        }
+        return update(new CategoryDTO()
+                .setId(id)
+                .setTitle(patch.getTitle()));
     }
 
     @Override
     public void delete(Long id) {
-        getCategoryByIdOrThrow(id);
-        repository.deleteById(id);
+        Optional<String> title = findTitleById(id);
+        if (repository.deleteCategoryById(id) == 0) {
+            throw new NotFoundException("Category not found with id: " + id);
+        }
+        cache.invalidate(id);
+        feedCache.invalidate(id);
+        latestNews.invalidate(id);
+        title.ifPresent(searchIndex::removeCategory);
+        eventPublisher.publishEvent(new CategoryDeletedEvent(id));
+    }
+
+    public ResourceVersion getVersionById(Long id) {
+        return repository.findVersionById(id)
+                .map(version -> new ResourceVersion(
+                        "category-" + id + "-" + version.getVersion(),
+                        version.getUpdatedAt()))
+                .orElseThrow(() -> new NotFoundException("Category not found with id: " + id));
     }
 
     public Category getCategoryByIdOrThrow(Long id) {
@@ -53,13 +121,42 @@ public class CategoryServiceImpl implements CRUDService<CategoryDTO> {
                 .orElseThrow(() -> new NotFoundException("Category not found with id: " + id));
     }
 
+    /**
+     * Looks a category up by title, from the cache when possible. A miss reads the primary, since the category it
+     * caches is served to every reader.
+     */
     public Category getCategoryByTitleOrThrow(String title) {
-        return repository.findByTitle(title)
-                .orElseThrow(() -> new NotFoundException("Category not found with title: " + title));
+        return cache.getByTitle(title).orElseGet(() -> ReplicaRoutingContext.callOnPrimary(() -> {
+            long stamp = cache.stamp();
+            Category category = repository.findByTitle(title)
+                    .orElseThrow(() -> new NotFoundException("Category not found with title: " + title));
+            cache.put(category, stamp);
+            return category;
+        }));
+    }
+
+    public Map<String, Category> getCategoriesByTitles(Collection<String> titles) {
+        Map<String, Category> categories = new HashMap<>();
+        List<String> missingTitles = new ArrayList<>();
+        for (String title : titles) {
+            cache.getByTitle(title).ifPresentOrElse(
+                    category -> categories.put(title, category),
+                    () -> missingTitles.add(title));
+        }
+
+        if (!missingTitles.isEmpty()) {
+            long stamp = cache.stamp();
+            List<Category> loaded = ReplicaRoutingContext.callOnPrimary(() -> repository.findByTitleIn(missingTitles));
+            for (Category category : loaded) {
+                categories.put(category.getTitle(), category);
+                cache.put(category, stamp);
+            }
+        }
+        return categories;
     }
 
     public boolean existsById(Long id) {
-        return repository.existsById(id);
+        return cache.getById(id).isPresent() || repository.existsById(id);
     }
 
     public Category mapToEntity(CategoryDTO categoryDTO) {
@@ -70,4 +167,17 @@ public class CategoryServiceImpl implements CRUDService<CategoryDTO> {
         return mapper.mapToDTO(category);
     }
 
-}
\ No newline at end of file
+    /**
+     * Title of a category before a write changes it, so the search index can find the news stored under it.
+     */
+    private Optional<String> findTitleById(Long id) {
+        return cache.getById(id)
+                .map(Category::getTitle)
+                .or(() -> repository.findTitleById(id));
+    }
+
+    private static ConflictException titleTaken(String title) {
+        return new ConflictException("Category already exists with title: " + title);
+    }
+
+}
@@ -0,0 +1,103 @@
+package org.example.newsfeedapiv2.services;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.example.newsfeedapiv2.cache.FeedSnapshot;
+import org.example.newsfeedapiv2.cache.NewsFeed;
+import org.example.newsfeedapiv2.cache.NewsFeedCache;
+import org.example.newsfeedapiv2.config.ReplicaRoutingContext;
+import org.example.newsfeedapiv2.exceptions.NotFoundException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Serves category feeds as pre-serialized JSON, gzip-compressed up front when the JSON reaches the server's
+ * compression threshold, so a cache hit is a plain buffer write.
+ * <p>
+ * Snapshots are built on first request and attached to the cached feed. When a write invalidates a feed that
+ * had a snapshot, the category is evidently being read, so the snapshot is rebuilt in the background from the
+ * primary instead of waiting for the next request to pay for it.
+ */
+@Slf4j
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@Service
+public class FeedSnapshotService {
+
+    private final NewsServiceImpl newsService;
+    private final NewsFeedCache feedCache;
+    private final ObjectMapper objectMapper;
+    private final int minCompressedSize;
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "feed-snapshots");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final Set<Long> pending = ConcurrentHashMap.newKeySet();
+
+    public FeedSnapshotService(NewsServiceImpl newsService,
+                               NewsFeedCache feedCache,
+                               ObjectMapper objectMapper,
+                               @Value("${server.compression.min-response-size:2KB}") DataSize minCompressedSize) {
+        this.newsService = newsService;
+        this.feedCache = feedCache;
+        this.objectMapper = objectMapper;
+        this.minCompressedSize = (int) minCompressedSize.toBytes();
+    }
+
+    @PostConstruct
+    public void registerSnapshotListener() {
+        feedCache.onSnapshotInvalidated(this::scheduleRebuild);
+    }
+
+    public FeedSnapshot getByCategoryId(Long id) {
+        return feedCache.getSnapshot(id).orElseGet(() -> {
+            long stamp = feedCache.stamp(id);
+            FeedSnapshot snapshot = serialize(newsService.getFeedByCategoryId(id));
+            feedCache.putSnapshot(id, snapshot, stamp);
+            return snapshot;
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private void scheduleRebuild(Long id) {
+        if (pending.add(id)) {
+            executor.execute(() -> {
+                pending.remove(id);
+                ReplicaRoutingContext.runOnPrimary(() -> rebuild(id));
+            });
+        }
+    }
+
+    private void rebuild(Long id) {
+        try {
+            getByCategoryId(id);
+        } catch (NotFoundException e) {
+            log.debug("Category {} is gone, its feed snapshot is not rebuilt", id);
+        } catch (RuntimeException e) {
+            log.warn("Could not rebuild the feed snapshot of category {}", id, e);
+        }
+    }
+
+    private FeedSnapshot serialize(NewsFeed feed) {
+        try {
+            return FeedSnapshot.of(objectMapper.writeValueAsBytes(feed.news()), feed.version(), minCompressedSize);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize news feed", e);
+        }
+    }
+
+}
@@ -0,0 +1,151 @@
+package org.example.newsfeedapiv2.services;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.newsfeedapiv2.cache.LatestNewsBuffer;
+import org.example.newsfeedapiv2.cache.NewsFeedCache;
+import org.example.newsfeedapiv2.config.ReplicaRoutingContext;
+import org.example.newsfeedapiv2.projections.NewsKey;
+import org.example.newsfeedapiv2.repositories.NewsArchiveRepository;
+import org.example.newsfeedapiv2.repositories.NewsRepository;
+import org.example.newsfeedapiv2.search.NewsSearchIndex;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Moves news older than {@code news.archive.max-age} from {@code news} to {@code news_archive}, so the hot
+ * table and its indexes only hold recent rows.
+ * <p>
+ * Rows move in chunks, newest first, walking the {@code (date, id)} index from the cut-off down so each chunk
+ * seeks to where the previous one ended. Each chunk is locked with {@code SELECT ... FOR UPDATE}, copied with one
+ * {@code INSERT ... SELECT} and removed with one {@code DELETE} by id in the same short transaction, so a concurrent
+ * update either lands before the copy or waits and then finds the row gone. The job pauses before the next chunk so
+ * it does not starve regular traffic. Archived news drop out of the search index and the cached feeds but stay readable by
+ * id. Runs read from the primary only and never overlap.
+ */
+@Slf4j
+@Service
+public class NewsArchiveService {
+
+    private final NewsRepository newsRepository;
+    private final NewsArchiveRepository archiveRepository;
+    private final NewsSearchIndex searchIndex;
+    private final NewsFeedCache feedCache;
+    private final LatestNewsBuffer latestNews;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration maxAge;
+    private final int chunkSize;
+    private final Duration pause;
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    public NewsArchiveService(NewsRepository newsRepository,
+                              NewsArchiveRepository archiveRepository,
+                              NewsSearchIndex searchIndex,
+                              NewsFeedCache feedCache,
+                              LatestNewsBuffer latestNews,
+                              PlatformTransactionManager transactionManager,
+                              @Value("${news.archive.max-age:365d}") Duration maxAge,
+                              @Value("${news.archive.chunk-size:1000}") int chunkSize,
+                              @Value("${news.archive.pause:100ms}") Duration pause) {
+        this.newsRepository = newsRepository;
+        this.archiveRepository = archiveRepository;
+        this.searchIndex = searchIndex;
+        this.feedCache = feedCache;
+        this.latestNews = latestNews;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.maxAge = maxAge;
+        this.chunkSize = chunkSize;
+        this.pause = pause;
+    }
+
+    @Scheduled(cron = "${news.archive.cron:0 30 3 * * *}")
+    public void archiveExpired() {
+        ReplicaRoutingContext.runOnPrimary(() -> archiveOlderThan(Instant.now().minus(maxAge)));
+    }
+
+    /**
+     * Archives every news item published before {@code before} and returns how many were moved, or zero when
+     * another run is still in progress.
+     */
+    public long archiveOlderThan(Instant before) {
+        if (!running.compareAndSet(false, true)) {
+            log.info("Archival skipped, the previous run is still in progress");
+            return 0;
+        }
+        long archived = 0;
+        int chunks = 0;
+        long startedAt = System.nanoTime();
+        try {
+            Instant afterDate = before;
+            Long afterId = Long.MIN_VALUE;
+            List<NewsKey> keys;
+            while (!(keys = newsRepository.findKeysAfter(afterDate, afterId, Limit.of(chunkSize))).isEmpty()) {
+                List<Long> ids = keys.stream()
+                        .map(NewsKey::getId)
+                        .toList();
+                List<Long> categoryIds = keys.stream()
+                        .map(NewsKey::getCategoryId)
+                        .filter(Objects::nonNull)
+                        .distinct()
+                        .toList();
+                archived += moveChunk(before, ids);
+                searchIndex.removeAll(ids);
+                feedCache.invalidate(categoryIds);
+                latestNews.removeAll(categoryIds, ids);
+                chunks++;
+                NewsKey last = keys.get(keys.size() - 1);
+                afterDate = last.getDate();
+                afterId = last.getId();
+                if (keys.size() == chunkSize && !sleep()) {
+                    break;
+                }
+            }
+        } finally {
+            running.set(false);
+        }
+        log.info("Archived {} news older than {} in {} chunks and {} ms", archived, before, chunks,
+                Duration.ofNanos(System.nanoTime() - startedAt).toMillis());
+        return archived;
+    }
+
+    private int moveChunk(Instant before, List<Long> ids) {
+        Integer moved = transactionTemplate.execute(status -> {
+            List<Long> locked = newsRepository.lockOlderThanByIds(before, ids);
+            if (locked.isEmpty()) {
+                return 0;
+            }
+            int copied = archiveRepository.copyOlderThanByIds(before, locked, Instant.now());
+            int deleted = newsRepository.deleteOlderThanByIds(before, locked);
+            if (copied != locked.size() || deleted != locked.size()) {
+                throw new IllegalStateException("Archived " + copied + " news and deleted " + deleted
+                        + " of " + locked.size() + " locked in a chunk of " + ids.size());
+            }
+            return deleted;
+        });
+        return moved == null ? 0 : moved;
+    }
+
+    private boolean sleep() {
+        if (pause.isZero()) {
+            return true;
+        }
+        try {
+            Thread.sleep(pause.toMillis());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("Archival interrupted, the remaining news are moved by the next run");
+            return false;
+        }
+    }
+
+}
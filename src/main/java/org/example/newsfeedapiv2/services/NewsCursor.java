@@ -0,0 +1,38 @@
+package org.example.newsfeedapiv2.services;
+
+import org.example.newsfeedapiv2.entity.News;
+import org.example.newsfeedapiv2.exceptions.BadRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+
+/**
+ * Position of the last news item of a page in the {@code (date desc, id desc)} feed order.
+ * Clients only ever see it as an opaque URL-safe token.
+ */
+record NewsCursor(Instant date, Long id) {
+
+    static NewsCursor of(News news) {
+        return new NewsCursor(news.getDate(), news.getId());
+    }
+
+    static NewsCursor decode(String token) {
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8).split(":");
+            if (parts.length != 3) {
+                throw new IllegalArgumentException();
+            }
+            Instant date = Instant.ofEpochSecond(Long.parseLong(parts[0]), Long.parseLong(parts[1]));
+            return new NewsCursor(date, Long.parseLong(parts[2]));
+        } catch (RuntimeException e) {
+            throw new BadRequestException("Invalid cursor: " + token);
+        }
+    }
+
+    String encode() {
+        String raw = date.getEpochSecond() + ":" + date.getNano() + ":" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+}
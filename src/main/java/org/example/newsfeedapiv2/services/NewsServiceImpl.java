@@ -1,24 +1,62 @@
 package org.example.newsfeedapiv2.services;
 
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
+import org.example.newsfeedapiv2.cache.LatestNewsBuffer;
+import org.example.newsfeedapiv2.cache.NewsFeed;
+import org.example.newsfeedapiv2.cache.NewsFeedCache;
+import org.example.newsfeedapiv2.config.ReplicaRoutingContext;
+import org.example.newsfeedapiv2.dto.NewsBatchItemDTO;
 import org.example.newsfeedapiv2.dto.NewsDTO;
+import org.example.newsfeedapiv2.dto.NewsPageDTO;
+import org.example.newsfeedapiv2.dto.NewsPatchDTO;
+import org.example.newsfeedapiv2.dto.ResourceVersion;
 import org.example.newsfeedapiv2.entity.Category;
 import org.example.newsfeedapiv2.entity.News;
+import org.example.newsfeedapiv2.exceptions.BadRequestException;
 import org.example.newsfeedapiv2.exceptions.NotFoundException;
 import org.example.newsfeedapiv2.mappers.NewsMapper;
+import org.example.newsfeedapiv2.repositories.NewsArchiveRepository;
 import org.example.newsfeedapiv2.repositories.NewsRepository;
+import org.example.newsfeedapiv2.search.NewsSearchIndex;
+import org.example.newsfeedapiv2.stream.NewsChangedEvent;
+import org.example.newsfeedapiv2.stream.NewsFeedBroadcaster;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
+@Timed(value = "newsfeed.service", description = "Service method calls")
 @RequiredArgsConstructor
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @Service
 public class NewsServiceImpl implements CRUDService<NewsDTO> {
 
+    public static final int MAX_PAGE_LIMIT = 100;
+    public static final int MAX_BATCH_SIZE = 1000;
+
     private final NewsMapper mapper;
     private final NewsRepository repository;
+    private final NewsArchiveRepository archiveRepository;
     private final CategoryServiceImpl categoryService;
+    private final EntityManager entityManager;
+    private final NewsSearchIndex searchIndex;
+    private final NewsFeedCache feedCache;
+    private final LatestNewsBuffer latestNews;
+    private final NewsFeedBroadcaster broadcaster;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     public Collection<NewsDTO> getAll() {
@@ -27,45 +65,261 @@ public class NewsServiceImpl implements CRUDService<NewsDTO> {
                 .toList();
     }
 
+    /**
+     * Looks the news item up in the hot table first and falls back to the archive, so archived news stay
+     * readable by id.
+     */
     @Override
     public NewsDTO getById(Long id) {
-        return mapToDTO(getNewsByIdOrThrow(id));
+        return repository.findById(id)
+                .map(this::mapToDTO)
+                .or(() -> archiveRepository.findById(id).map(mapper::mapToDTO))
+                .orElseThrow(() -> new NotFoundException("News not found with id: " + id));
+    }
+
+    public ResourceVersion getVersionById(Long id) {
+        return repository.findVersionById(id)
+                .or(() -> archiveRepository.findVersionById(id))
+                .map(version -> new ResourceVersion(
+                        "news-" + id + "-" + version.getVersion() + "-" + version.getCategoryVersion(),
+                        latest(version.getUpdatedAt(), version.getCategoryUpdatedAt())))
+                .orElseThrow(() -> new NotFoundException("News not found with id: " + id));
+    }
+
+    /**
+     * Returns the feed of a category with its validators, from the cache when possible. A miss derives the
+     * entity tag from the loaded news themselves, so the tag always describes the body it is served with. The
+     * miss reads the primary, since the feed it caches is served to every reader.
+     */
+    public NewsFeed getFeedByCategoryId(Long id) {
+        return feedCache.get(id).orElseGet(() -> ReplicaRoutingContext.callOnPrimary(() -> {
+            long stamp = feedCache.stamp(id);
+            List<NewsDTO> news = repository.findByCategoryId(id).stream()
+                    .map(this::mapToDTO)
+                    .toList();
+            if (news.isEmpty() && !categoryService.existsById(id)) {
+                throw new NotFoundException("Category not found with id: " + id);
+            }
+            return feedCache.put(id, news, NewsFeed.versionOf(id, news), stamp);
+        }));
     }
 
     public List<NewsDTO> getByCategoryId(Long id) {
-        if (!categoryService.existsById(id)) {
+        return getFeedByCategoryId(id).news();
+    }
+
+    /**
+     * Returns the newest news of a category from its ring buffer, reading and refilling the buffer only when it
+     * holds fewer items than requested.
+     */
+    public List<NewsDTO> getLatestByCategoryId(Long id, int limit) {
+        int latestLimit = boundPageLimit(limit);
+        return latestNews.get(id, latestLimit).orElseGet(() -> loadLatest(id, latestLimit));
+    }
+
+    /**
+     * Reads at least a buffer's worth of the newest news of a category from the primary and refills its buffer
+     * with them.
+     */
+    public List<NewsDTO> loadLatest(Long id, int limit) {
+        return ReplicaRoutingContext.callOnPrimary(() -> fillLatest(id, limit));
+    }
+
+    private List<NewsDTO> fillLatest(Long id, int limit) {
+        long stamp = latestNews.stamp(id);
+        int fetched = Math.max(limit, latestNews.getCapacity());
+        List<News> news = repository.findFirstPageByCategoryId(id, Limit.of(fetched + 1));
+        if (news.isEmpty() && !categoryService.existsById(id)) {
             throw new NotFoundException("Category not found with id: " + id);
         }
-        return repository.findByCategoryId(id).stream()
+
+        List<NewsDTO> newest = news.stream()
+                .limit(fetched)
                 .map(this::mapToDTO)
                 .toList();
+        latestNews.fill(id, newest, news.size() <= fetched, stamp);
+        return newest.subList(0, Math.min(limit, newest.size()));
+    }
 
+    /**
+     * Subscribes to the news created or changed in a category from now on.
+     */
+    public SseEmitter subscribe(Long categoryId) {
+        if (!categoryService.existsById(categoryId)) {
+            throw new NotFoundException("Category not found with id: " + categoryId);
+        }
+        return broadcaster.subscribe(categoryId);
+    }
+
+    public NewsPageDTO getPage(String cursor, int limit) {
+        int pageLimit = boundPageLimit(limit);
+        Limit fetchLimit = Limit.of(pageLimit + 1);
+
+        List<News> news;
+        if (cursor == null || cursor.isBlank()) {
+            news = repository.findFirstPage(fetchLimit);
+        } else {
+            NewsCursor after = NewsCursor.decode(cursor);
+            news = repository.findPageAfter(after.date(), after.id(), fetchLimit);
+        }
+        return toPage(news, pageLimit);
+    }
+
+    public NewsPageDTO getPageByCategoryId(Long id, String cursor, int limit) {
+        int pageLimit = boundPageLimit(limit);
+        Limit fetchLimit = Limit.of(pageLimit + 1);
+
+        List<News> news;
+        if (cursor == null || cursor.isBlank()) {
+            news = repository.findFirstPageByCategoryId(id, fetchLimit);
+        } else {
+            NewsCursor after = NewsCursor.decode(cursor);
+            news = repository.findPageByCategoryIdAfter(id, after.date(), after.id(), fetchLimit);
+        }
+
+        if (news.isEmpty() && !categoryService.existsById(id)) {
+            throw new NotFoundException("Category not found with id: " + id);
+        }
+        return toPage(news, pageLimit);
+    }
+
+    public List<NewsDTO> search(String query, int limit) {
+        if (query == null || query.isBlank()) {
+            throw new BadRequestException("Search query must not be blank");
+        }
+        return searchIndex.search(query, boundPageLimit(limit));
+    }
+
+    @Transactional(readOnly = true)
+    public void exportAll(Consumer<NewsDTO> consumer) {
+        try (Stream<News> news = repository.streamAll()) {
+            news.forEach(n -> {
+                consumer.accept(mapToDTO(n));
+                entityManager.detach(n);
+            });
+        }
     }
 
     @Override
     public NewsDTO create(NewsDTO newsDTO) {
-        News news = mapToEntity(newsDTO);
-        return mapToDTO(repository.save(news));
+        News news = repository.save(mapToEntity(newsDTO));
+        invalidateFeed(news.getCategory());
+        NewsDTO createdNewsDTO = mapToDTO(news);
+        searchIndex.index(createdNewsDTO);
+        putLatest(news.getCategory(), createdNewsDTO);
+        publish(NewsChangedEvent.Type.CREATED, news.getCategory(), createdNewsDTO);
+        return createdNewsDTO;
     }
 
+    public List<NewsBatchItemDTO> createAll(List<NewsDTO> newsDTOList) {
+        if (newsDTOList.size() > MAX_BATCH_SIZE) {
+            throw new BadRequestException("Batch size exceeds " + MAX_BATCH_SIZE + " items");
+        }
+
+        Map<String, Category> categories = categoryService.getCategoriesByTitles(newsDTOList.stream()
+                .map(NewsDTO::getCategoryTitle)
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList());
+
+        List<NewsBatchItemDTO> results = new ArrayList<>(newsDTOList.size());
+        List<News> accepted = new ArrayList<>(newsDTOList.size());
+        for (int i = 0; i < newsDTOList.size(); i++) {
+            NewsDTO newsDTO = newsDTOList.get(i);
+            NewsBatchItemDTO result = new NewsBatchItemDTO().setIndex(i);
+            results.add(result);
+
+            Category category = categories.get(newsDTO.getCategoryTitle());
+            if (category == null) {
+                result.setStatus(NewsBatchItemDTO.Status.FAILED)
+                        .setError("Category not found with title: " + newsDTO.getCategoryTitle());
+                continue;
+            }
+            accepted.add(mapper.mapToEntity(newsDTO).setCategory(category));
+        }
+
+        List<News> saved = repository.saveAll(accepted);
+        saved.stream()
+                .map(News::getCategory)
+                .distinct()
+                .forEach(this::invalidateFeed);
+
+        int next = 0;
+        for (NewsBatchItemDTO result : results) {
+            if (result.getStatus() == null) {
+                News news = saved.get(next++);
+                result.setStatus(NewsBatchItemDTO.Status.CREATED)
+                        .setNews(mapToDTO(news));
+                searchIndex.index(result.getNews());
+                putLatest(news.getCategory(), result.getNews());
+                publish(NewsChangedEvent.Type.CREATED, news.getCategory(), result.getNews());
+            }
+        }
+        return results;
+    }
+
+    /**
+     * Updates the news item with a single statement instead of loading and merging it, then reads it back
+     * for the response. The category comes from the category cache; only the id of the category the item
+     * used to belong to is read before the write, so the caches of both categories are invalidated.
+     */
     @Override
     public NewsDTO update(NewsDTO newsDTO) {
-        News existingNews = getNewsByIdOrThrow(newsDTO.getId());
-
         Category category = categoryService
                 .getCategoryByTitleOrThrow(newsDTO.getCategoryTitle());
 
-        existingNews.setTitle(newsDTO.getTitle());
-        existingNews.setText(newsDTO.getText());
-        existingNews.setCategory(category);
+        Long previousCategoryId = repository.findCategoryIdById(newsDTO.getId()).orElse(null);
+        int updated = repository.updateContent(newsDTO.getId(), newsDTO.getTitle(), newsDTO.getText(),
+                category, Instant.now());
+        if (updated == 0) {
+            throw new NotFoundException("News not found with id: " + newsDTO.getId());
+        }
+        invalidateFeed(previousCategoryId);
+        invalidateFeed(category);
 
-        return mapToDTO(repository.save(existingNews));
+        NewsDTO updatedNewsDTO = mapToDTO(getNewsByIdOrThrow(newsDTO.getId()));
+        searchIndex.index(updatedNewsDTO);
+        putLatest(category, updatedNewsDTO, previousCategoryId);
+        publish(NewsChangedEvent.Type.UPDATED, category, updatedNewsDTO);
+        return updatedNewsDTO;
+    }
+
+    /**
+     * Changes only the fields present in the patch. The category is looked up only when it changes.
+     */
+    public NewsDTO patch(Long id, NewsPatchDTO patch) {
+        if (patch.isEmpty()) {
+            throw new BadRequestException("Patch must change at least one field");
+        }
+        Category category = patch.getCategoryTitle() == null ? null : categoryService
+                .getCategoryByTitleOrThrow(patch.getCategoryTitle());
+
+        Long previousCategoryId = repository.findCategoryIdById(id).orElse(null);
+        if (repository.patch(id, patch.getTitle(), patch.getText(), category, Instant.now()) == 0) {
+            throw new NotFoundException("News not found with id: " + id);
+        }
+        invalidateFeed(previousCategoryId);
+        invalidateFeed(category);
+
+        News patched = getNewsByIdOrThrow(id);
+        NewsDTO patchedNewsDTO = mapToDTO(patched);
+        searchIndex.index(patchedNewsDTO);
+        putLatest(patched.getCategory(), patchedNewsDTO, previousCategoryId);
+        publish(NewsChangedEvent.Type.UPDATED, patched.getCategory(), patchedNewsDTO);
+        return patchedNewsDTO;
     }
 
     @Override
     public void delete(Long id) {
-        getNewsByIdOrThrow(id);
-        repository.deleteById(id);
+        Long categoryId = repository.findCategoryIdById(id).orElse(null);
+        if (repository.deleteNewsById(id) == 0) {
+            throw new NotFoundException("News not found with id: " + id);
+        }
+        invalidateFeed(categoryId);
+        searchIndex.remove(id);
+        if (categoryId != null) {
+            latestNews.remove(categoryId, id);
+        }
     }
 
     public News getNewsByIdOrThrow(Long id) {
@@ -86,4 +340,60 @@ public class NewsServiceImpl implements CRUDService<NewsDTO> {
         return mapper.mapToDTO(news);
     }
 
+    private void invalidateFeed(Category category) {
+        if (category != null) {
+            invalidateFeed(category.getId());
+        }
+    }
+
+    private void invalidateFeed(Long categoryId) {
+        if (categoryId != null) {
+            feedCache.invalidate(categoryId);
+        }
+    }
+
+    private void putLatest(Category category, NewsDTO news) {
+        putLatest(category, news, null);
+    }
+
+    private void putLatest(Category category, NewsDTO news, Long previousCategoryId) {
+        if (category != null) {
+            latestNews.put(category.getId(), news, previousCategoryId);
+        } else if (previousCategoryId != null) {
+            latestNews.remove(previousCategoryId, news.getId());
+        }
+    }
+
+    /**
+     * Hands the change to the live feed of its category. Listeners run after commit, or right away when the
+     * change was not made inside a transaction.
+     */
+    private void publish(NewsChangedEvent.Type type, Category category, NewsDTO news) {
+        if (category != null) {
+            eventPublisher.publishEvent(new NewsChangedEvent(type, category.getId(), news));
+        }
+    }
+
+    private NewsPageDTO toPage(List<News> news, int pageLimit) {
+        boolean hasNext = news.size() > pageLimit;
+        List<News> items = hasNext ? news.subList(0, pageLimit) : news;
+
+        return new NewsPageDTO()
+                .setItems(items.stream()
+                        .map(this::mapToDTO)
+                        .toList())
+                .setNext(hasNext ? NewsCursor.of(items.get(pageLimit - 1)).encode() : null);
+    }
+
+    private static Instant latest(Instant first, Instant second) {
+        if (first == null || second == null) {
+            return first == null ? second : first;
+        }
+        return first.isAfter(second) ? first : second;
+    }
+
+    private static int boundPageLimit(int limit) {
+        return Math.max(1, Math.min(limit, MAX_PAGE_LIMIT));
+    }
+
 }
\ No newline at end of file
@@ -0,0 +1,9 @@
+package org.example.newsfeedapiv2.stream;
+
+/**
+ * Published by the category service when a category is deleted, including at the end of a purge. Listeners see
+ * it once the surrounding transaction, if any, has committed.
+ */
+public record CategoryDeletedEvent(Long categoryId) {
+
+}
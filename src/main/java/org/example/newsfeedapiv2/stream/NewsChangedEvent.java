@@ -0,0 +1,16 @@
+package org.example.newsfeedapiv2.stream;
+
+import org.example.newsfeedapiv2.dto.NewsDTO;
+
+/**
+ * Published by the news service whenever a news item is created or changed. Listeners see it once the
+ * surrounding transaction, if any, has committed.
+ */
+public record NewsChangedEvent(Type type, Long categoryId, NewsDTO news) {
+
+    public enum Type {
+        CREATED,
+        UPDATED
+    }
+
+}
@@ -0,0 +1,342 @@
+package org.example.newsfeedapiv2.stream;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Fans news changes out to the Server-Sent Events subscribers of each category.
+ * <p>
+ * An event is serialized once into an SSE frame that every subscriber of the category shares. Publishing only
+ * offers the frame to each subscriber's bounded buffer and never touches a socket; a small dispatcher pool drains
+ * the buffers, one task per subscriber at a time. A subscriber whose buffer is full has fallen too far behind and
+ * is evicted: its stream is completed and the client is expected to reconnect and re-read the feed. Heartbeat
+ * comments keep idle connections open through proxies and expose dead ones.
+ * <p>
+ * Writes block, so a client that stops reading holds a dispatcher thread until the container gives up on the
+ * socket. A write still in flight after {@code write-timeout} gets its subscriber evicted, and the dispatcher pool
+ * runs one extra thread for as long as that write stays stuck, so other subscribers keep their full pool. The
+ * extra threads are capped at the size of the pool itself; past that, a mass of dead clients slows delivery down
+ * rather than piling up threads. Deleting a category completes the streams of its subscribers.
+ */
+@Slf4j
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@Component
+public class NewsFeedBroadcaster {
+
+    private final ObjectMapper objectMapper;
+    private final Executor dispatcher;
+    private final int bufferSize;
+    private final long timeoutMillis;
+    private final long writeTimeoutNanos;
+    private final int maxStalledThreads;
+    private final Map<Long, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private final LongAdder events = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final Set<DataWithMediaType> heartbeatFrame = SseEmitter.event().comment("heartbeat").build();
+    private int stalledThreads;
+    private ScheduledExecutorService heartbeatScheduler;
+
+    @Autowired
+    public NewsFeedBroadcaster(ObjectMapper objectMapper,
+                               @Value("${news.stream.buffer-size:64}") int bufferSize,
+                               @Value("${news.stream.timeout:30m}") Duration timeout,
+                               @Value("${news.stream.heartbeat:15s}") Duration heartbeat,
+                               @Value("${news.stream.dispatcher-threads:0}") int dispatcherThreads,
+                               @Value("${news.stream.write-timeout:10s}") Duration writeTimeout) {
+        this(objectMapper, bufferSize, timeout, writeTimeout, Executors.newFixedThreadPool(
+                dispatcherThreads > 0 ? dispatcherThreads : Math.max(2, Runtime.getRuntime().availableProcessors()),
+                threadFactory("news-stream-")));
+        this.heartbeatScheduler = Executors.newSingleThreadScheduledExecutor(threadFactory("news-stream-heartbeat-"));
+        heartbeatScheduler.scheduleAtFixedRate(this::sendHeartbeat, heartbeat.toMillis(), heartbeat.toMillis(),
+                TimeUnit.MILLISECONDS);
+        long writeCheck = Math.max(1, writeTimeout.toMillis() / 2);
+        heartbeatScheduler.scheduleAtFixedRate(this::evictStalledWriters, writeCheck, writeCheck,
+                TimeUnit.MILLISECONDS);
+    }
+
+    NewsFeedBroadcaster(ObjectMapper objectMapper, int bufferSize, Duration timeout, Duration writeTimeout,
+                        Executor dispatcher) {
+        this.objectMapper = objectMapper;
+        this.bufferSize = bufferSize;
+        this.timeoutMillis = timeout.toMillis();
+        this.writeTimeoutNanos = writeTimeout.toNanos();
+        this.dispatcher = dispatcher;
+        this.maxStalledThreads = dispatcher instanceof ThreadPoolExecutor pool ? pool.getCorePoolSize() : 0;
+    }
+
+    /**
+     * Opens a stream of the changes to the news of a category. The first frame is a comment, so the response
+     * headers reach the client right away.
+     */
+    public SseEmitter subscribe(Long categoryId) {
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        Subscriber subscriber = new Subscriber(categoryId, emitter);
+        emitter.onCompletion(() -> remove(subscriber));
+        emitter.onTimeout(() -> remove(subscriber));
+        emitter.onError(e -> remove(subscriber));
+
+        subscribers.compute(categoryId, (id, category) -> {
+            Set<Subscriber> set = category != null ? category : ConcurrentHashMap.newKeySet();
+            set.add(subscriber);
+            return set;
+        });
+        subscriberCount.incrementAndGet();
+        subscriber.offer(SseEmitter.event().comment("subscribed").build());
+        return emitter;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onNewsChanged(NewsChangedEvent event) {
+        events.increment();
+        Set<Subscriber> category = subscribers.get(event.categoryId());
+        if (category == null || category.isEmpty()) {
+            return;
+        }
+
+        Set<DataWithMediaType> frame;
+        try {
+            frame = SseEmitter.event()
+                    .id(String.valueOf(event.news().getId()))
+                    .name(event.type().name().toLowerCase())
+                    .data(objectMapper.writeValueAsString(event.news()))
+                    .build();
+        } catch (JsonProcessingException e) {
+            log.error("Could not serialize news {} for streaming", event.news().getId(), e);
+            return;
+        }
+        for (Subscriber subscriber : category) {
+            subscriber.offer(frame);
+        }
+    }
+
+    /**
+     * Completes the streams of a deleted category; nothing more will ever be published to them.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCategoryDeleted(CategoryDeletedEvent event) {
+        Set<Subscriber> category = subscribers.get(event.categoryId());
+        if (category != null) {
+            category.forEach(Subscriber::close);
+        }
+    }
+
+    public int getSubscriberCount() {
+        return subscriberCount.get();
+    }
+
+    public long getEvents() {
+        return events.sum();
+    }
+
+    public long getEvictions() {
+        return evictions.sum();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (heartbeatScheduler != null) {
+            heartbeatScheduler.shutdownNow();
+        }
+        subscribers.values().forEach(category -> category.forEach(Subscriber::close));
+        if (dispatcher instanceof ExecutorService pool) {
+            pool.shutdown();
+        }
+    }
+
+    private void sendHeartbeat() {
+        subscribers.values().forEach(category -> category.forEach(subscriber -> subscriber.offer(heartbeatFrame)));
+    }
+
+    /**
+     * Evicts the subscribers whose current write has been blocked for longer than the write timeout.
+     */
+    void evictStalledWriters() {
+        long now = System.nanoTime();
+        subscribers.values().forEach(category -> category.forEach(subscriber -> subscriber.evictIfStalled(now)));
+    }
+
+    /**
+     * Adds a dispatcher thread in place of one stuck on a client, unless the pool already runs as many extra
+     * threads as it has regular ones. Returns whether a thread was added.
+     */
+    private boolean growDispatcher() {
+        if (!(dispatcher instanceof ThreadPoolExecutor pool)) {
+            return false;
+        }
+        synchronized (pool) {
+            if (stalledThreads >= maxStalledThreads) {
+                return false;
+            }
+            stalledThreads++;
+            pool.setMaximumPoolSize(pool.getMaximumPoolSize() + 1);
+            pool.setCorePoolSize(pool.getCorePoolSize() + 1);
+            return true;
+        }
+    }
+
+    private void shrinkDispatcher() {
+        ThreadPoolExecutor pool = (ThreadPoolExecutor) dispatcher;
+        synchronized (pool) {
+            stalledThreads--;
+            pool.setCorePoolSize(pool.getCorePoolSize() - 1);
+            pool.setMaximumPoolSize(pool.getMaximumPoolSize() - 1);
+        }
+    }
+
+    private void remove(Subscriber subscriber) {
+        subscriber.closed = true;
+        if (subscriber.removed.compareAndSet(false, true)) {
+            subscribers.computeIfPresent(subscriber.categoryId, (id, category) -> {
+                category.remove(subscriber);
+                return category.isEmpty() ? null : category;
+            });
+            subscriberCount.decrementAndGet();
+        }
+    }
+
+    private static ThreadFactory threadFactory(String prefix) {
+        AtomicInteger next = new AtomicInteger();
+        return r -> {
+            Thread thread = new Thread(r, prefix + next.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private final class Subscriber implements Runnable {
+
+        private static final long IDLE = Long.MIN_VALUE;
+        private static final long STALLED = Long.MAX_VALUE;
+        private static final long STALLED_UNCOMPENSATED = Long.MAX_VALUE - 1;
+
+        private final Long categoryId;
+        private final SseEmitter emitter;
+        private final Queue<Set<DataWithMediaType>> buffer = new ArrayBlockingQueue<>(bufferSize);
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        private final AtomicBoolean removed = new AtomicBoolean();
+        private final AtomicLong writeStartedAt = new AtomicLong(IDLE);
+        private volatile boolean closed;
+        private boolean completed;
+
+        private Subscriber(Long categoryId, SseEmitter emitter) {
+            this.categoryId = categoryId;
+            this.emitter = emitter;
+        }
+
+        private void offer(Set<DataWithMediaType> frame) {
+            if (closed) {
+                return;
+            }
+            if (!buffer.offer(frame)) {
+                evictions.increment();
+                log.debug("Evicting a slow subscriber of category {}", categoryId);
+                close();
+                return;
+            }
+            schedule();
+        }
+
+        /**
+         * Stops delivery and leaves completing the emitter to the dispatcher, so the caller never blocks on a
+         * write that is still in progress.
+         */
+        private void close() {
+            remove(this);
+            buffer.clear();
+            schedule();
+        }
+
+        private void evictIfStalled(long now) {
+            long started = writeStartedAt.get();
+            if (started == IDLE || started >= STALLED_UNCOMPENSATED || now - started < writeTimeoutNanos) {
+                return;
+            }
+            // The thread is added before the write is marked, so the writer can never give it back first.
+            boolean compensated = growDispatcher();
+            if (!writeStartedAt.compareAndSet(started, compensated ? STALLED : STALLED_UNCOMPENSATED)) {
+                if (compensated) {
+                    shrinkDispatcher();
+                }
+                return;
+            }
+            evictions.increment();
+            log.debug("Evicting a subscriber of category {} whose write is stalled", categoryId);
+            close();
+        }
+
+        private void schedule() {
+            if (scheduled.compareAndSet(false, true)) {
+                try {
+                    dispatcher.execute(this);
+                } catch (RuntimeException e) {
+                    scheduled.set(false);
+                    remove(this);
+                }
+            }
+        }
+
+        @Override
+        public void run() {
+            try {
+                Set<DataWithMediaType> frame;
+                while (!closed && (frame = buffer.poll()) != null) {
+                    write(frame);
+                }
+                if (closed && !completed) {
+                    completed = true;
+                    emitter.complete();
+                }
+            } catch (IOException | IllegalStateException e) {
+                completed = true;
+                remove(this);
+            } finally {
+                scheduled.set(false);
+            }
+            if (closed ? !completed : !buffer.isEmpty()) {
+                schedule();
+            }
+        }
+
+        private void write(Set<DataWithMediaType> frame) throws IOException {
+            writeStartedAt.set(System.nanoTime());
+            try {
+                emitter.send(frame);
+            } finally {
+                if (writeStartedAt.getAndSet(IDLE) == STALLED) {
+                    shrinkDispatcher();
+                }
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,31 @@
+package org.example.newsfeedapiv2.stream;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.stereotype.Component;
+
+@RequiredArgsConstructor
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@Component
+public class NewsStreamMetrics implements MeterBinder {
+
+    private final NewsFeedBroadcaster broadcaster;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("news.stream.subscribers", broadcaster, NewsFeedBroadcaster::getSubscriberCount)
+                .description("Open live feed connections")
+                .register(registry);
+        FunctionCounter.builder("news.stream.events", broadcaster, NewsFeedBroadcaster::getEvents)
+                .description("News changes handed to the live feeds")
+                .register(registry);
+        FunctionCounter.builder("news.stream.evictions", broadcaster, NewsFeedBroadcaster::getEvictions)
+                .description("Subscribers dropped because their buffer was full")
+                .register(registry);
+    }
+
+}
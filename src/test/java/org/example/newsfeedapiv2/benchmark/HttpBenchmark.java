@@ -0,0 +1,194 @@
+package org.example.newsfeedapiv2.benchmark;
+
+import org.example.newsfeedapiv2.Application;
+import org.example.newsfeedapiv2.dto.CategoryDTO;
+import org.example.newsfeedapiv2.dto.NewsBatchItemDTO;
+import org.example.newsfeedapiv2.dto.NewsDTO;
+import org.example.newsfeedapiv2.services.CategoryServiceImpl;
+import org.example.newsfeedapiv2.services.NewsServiceImpl;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Starts the application in a given configuration, seeds it with news and drives it with a closed-loop client,
+ * by default against {@code GET /api/news/{id}}. Each run gets its own in-memory H2 database unless {@code -Dbenchmark.datasource.url=...}
+ * (plus username and password) points at a real one; runs of the {@code reactive} profile then also need
+ * {@code -Dbenchmark.r2dbc.url=...} for the same database.
+ */
+final class HttpBenchmark {
+
+    private static final int CONCURRENCY = Integer.getInteger("benchmark.concurrency", 400);
+    private static final int REQUESTS = Integer.getInteger("benchmark.requests", 20_000);
+    private static final int WARMUP_REQUESTS = Integer.getInteger("benchmark.warmup-requests", 2_000);
+    private static final int POOL_SIZE = Integer.getInteger("benchmark.pool-size", 10);
+    private static final int NEWS_COUNT = 500;
+
+    static final Workload NEWS_BY_ID = new Workload(
+            ids -> "/api/news/" + ids.get(ThreadLocalRandom.current().nextInt(ids.size())), 200);
+    static final Workload EXPORT = new Workload(ids -> "/api/news/export", 200);
+
+    private HttpBenchmark() {
+    }
+
+    static Result run(String name, List<String> properties, String... profiles) throws Exception {
+        try (RunningApplication application = start(name, properties, profiles)) {
+            return application.measure(name, NEWS_BY_ID);
+        }
+    }
+
+    static RunningApplication start(String name, List<String> properties, String... profiles) {
+        List<String> args = new ArrayList<>(List.of(
+                "--server.port=0",
+                "--spring.datasource.hikari.maximum-pool-size=" + POOL_SIZE));
+        String url = System.getProperty("benchmark.datasource.url");
+        String r2dbcUrl = System.getProperty("benchmark.r2dbc.url");
+        if (url == null) {
+            String database = "benchmark_" + name.replace('-', '_');
+            url = "jdbc:h2:mem:" + database + ";DB_CLOSE_DELAY=-1";
+            r2dbcUrl = "r2dbc:h2:mem:///" + database + ";DB_CLOSE_DELAY=-1";
+            args.addAll(List.of(
+                    "--spring.datasource.driver-class-name=org.h2.Driver",
+                    "--spring.liquibase.url=" + url,
+                    "--spring.liquibase.user=sa",
+                    "--spring.liquibase.password="));
+        }
+        String username = System.getProperty("benchmark.datasource.username", "sa");
+        String password = System.getProperty("benchmark.datasource.password", "");
+        args.add("--spring.datasource.url=" + url);
+        args.add("--spring.datasource.username=" + username);
+        args.add("--spring.datasource.password=" + password);
+        if (r2dbcUrl != null) {
+            args.add("--spring.r2dbc.url=" + r2dbcUrl);
+            args.add("--spring.r2dbc.username=" + username);
+            args.add("--spring.r2dbc.password=" + password);
+        }
+        properties.forEach(property -> args.add("--" + property));
+
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(Application.class)
+                .profiles(profiles)
+                .run(args.toArray(String[]::new));
+        return new RunningApplication(context, seed(context, name));
+    }
+
+    static void print(List<Result> results) {
+        System.out.printf("%n%-16s %12s %10s %10s %8s%n", "run", "req/s", "p50 ms", "p99 ms", "errors");
+        for (Result result : results) {
+            System.out.printf("%-16s %12.0f %10.2f %10.2f %8d%n", result.name(), result.throughput(),
+                    result.p50Millis(), result.p99Millis(), result.errors());
+        }
+    }
+
+    private static List<Long> seed(ConfigurableApplicationContext context, String name) {
+        String category = "Benchmark " + name + " " + System.nanoTime();
+        context.getBean(CategoryServiceImpl.class).create(new CategoryDTO().setTitle(category));
+        List<NewsDTO> news = IntStream.range(0, NEWS_COUNT)
+                .mapToObj(i -> new NewsDTO()
+                        .setTitle("Benchmark news " + i)
+                        .setText("Benchmark text " + i)
+                        .setCategoryTitle(category))
+                .toList();
+        return context.getBean(NewsServiceImpl.class).createAll(news).stream()
+                .map(NewsBatchItemDTO::getNews)
+                .map(NewsDTO::getId)
+                .toList();
+    }
+
+    private static Result load(HttpClient client, int port, List<Long> ids, Workload workload,
+                               int requests) throws Exception {
+        long[] latencies = new long[requests];
+        AtomicInteger next = new AtomicInteger();
+        AtomicInteger errors = new AtomicInteger();
+
+        ExecutorService workers = Executors.newFixedThreadPool(CONCURRENCY);
+        long started = System.nanoTime();
+        for (int worker = 0; worker < CONCURRENCY; worker++) {
+            workers.execute(() -> {
+                int i;
+                while ((i = next.getAndIncrement()) < requests) {
+                    HttpRequest request = HttpRequest.newBuilder(
+                            URI.create("http://localhost:" + port + workload.path().apply(ids))).build();
+                    long requestStarted = System.nanoTime();
+                    try {
+                        HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                        if (response.statusCode() != workload.expectedStatus()) {
+                            errors.incrementAndGet();
+                        }
+                    } catch (Exception e) {
+                        errors.incrementAndGet();
+                    }
+                    latencies[i] = System.nanoTime() - requestStarted;
+                }
+            });
+        }
+        workers.shutdown();
+        assertThat(workers.awaitTermination(10, TimeUnit.MINUTES)).isTrue();
+        long elapsed = System.nanoTime() - started;
+
+        Arrays.sort(latencies);
+        return new Result(null, requests * 1e9 / elapsed,
+                percentile(latencies, 0.50) / 1e6, percentile(latencies, 0.99) / 1e6, errors.get());
+    }
+
+    private static long percentile(long[] sorted, double percentile) {
+        return sorted[Math.max(0, (int) Math.ceil(percentile * sorted.length) - 1)];
+    }
+
+    static final class RunningApplication implements AutoCloseable {
+
+        private final ConfigurableApplicationContext context;
+        private final List<Long> ids;
+        private final HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .build();
+
+        private RunningApplication(ConfigurableApplicationContext context, List<Long> ids) {
+            this.context = context;
+            this.ids = ids;
+        }
+
+        Result measure(String name, Workload workload) throws Exception {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            load(client, port, ids, workload, WARMUP_REQUESTS);
+            return load(client, port, ids, workload, REQUESTS).withName(name);
+        }
+
+        @Override
+        public void close() {
+            context.close();
+        }
+
+    }
+
+    /**
+     * A request path drawn from the seeded news ids, and the status every response is expected to have.
+     */
+    record Workload(Function<List<Long>, String> path, int expectedStatus) {
+    }
+
+    record Result(String name, double throughput, double p50Millis, double p99Millis, int errors) {
+
+        Result withName(String name) {
+            return new Result(name, throughput, p50Millis, p99Millis, errors);
+        }
+
+    }
+
+}
@@ -0,0 +1,45 @@
+package org.example.newsfeedapiv2.benchmark;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Measures what the metrics cost: the same load once with every meter, observation, timed aspect and
+ * Hibernate statistic switched off and once with the default configuration. Fails when the instrumented run
+ * loses more throughput than {@code benchmark.overhead-budget} (a fraction, 0.10 by default).
+ */
+@Tag("benchmark")
+public class InstrumentationOverheadBenchmarkTest {
+
+    private static final double OVERHEAD_BUDGET = Double.parseDouble(
+            System.getProperty("benchmark.overhead-budget", "0.10"));
+
+    private static final List<String> UNINSTRUMENTED = List.of(
+            "spring.autoconfigure.exclude="
+                    + "org.springframework.boot.actuate.autoconfigure.metrics.MetricsAspectsAutoConfiguration",
+            "management.metrics.enable.all=false",
+            "management.observations.enable.all=false",
+            "spring.jpa.properties.hibernate.generate_statistics=false",
+            "news.metrics.hibernate.per-request=false");
+
+    @Test
+    @DisplayName("Instrumentation overhead stays within budget")
+    public void compareInstrumentationOverhead() throws Exception {
+        HttpBenchmark.Result uninstrumented = HttpBenchmark.run("uninstrumented", UNINSTRUMENTED);
+        HttpBenchmark.Result instrumented = HttpBenchmark.run("instrumented", List.of());
+
+        HttpBenchmark.print(List.of(uninstrumented, instrumented));
+        double overhead = 1 - instrumented.throughput() / uninstrumented.throughput();
+        System.out.printf("Throughput overhead: %.1f%% (budget %.1f%%)%n", overhead * 100, OVERHEAD_BUDGET * 100);
+
+        assertThat(uninstrumented.errors()).isZero();
+        assertThat(instrumented.errors()).isZero();
+        assertThat(overhead).isLessThanOrEqualTo(OVERHEAD_BUDGET);
+    }
+
+}
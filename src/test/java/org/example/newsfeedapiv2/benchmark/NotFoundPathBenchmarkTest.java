@@ -0,0 +1,42 @@
+package org.example.newsfeedapiv2.benchmark;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Drives {@code GET /api/news/{id}} with existing ids and with ids that do not exist against the same
+ * application. A miss skips the entity load and mapping but goes through exception handling and error
+ * logging, so it must not cost noticeably more than a hit: the miss throughput may trail the hit throughput
+ * by at most {@code benchmark.not-found-tolerance} (a fraction, 0.10 by default).
+ */
+@Tag("benchmark")
+public class NotFoundPathBenchmarkTest {
+
+    private static final double TOLERANCE = Double.parseDouble(
+            System.getProperty("benchmark.not-found-tolerance", "0.10"));
+
+    private static final HttpBenchmark.Workload MISSING_NEWS = new HttpBenchmark.Workload(
+            ids -> "/api/news/" + -ThreadLocalRandom.current().nextLong(1, Long.MAX_VALUE), 404);
+
+    @Test
+    @DisplayName("404 path costs about the same as a hit")
+    public void compareNotFoundWithHit() throws Exception {
+        try (HttpBenchmark.RunningApplication application = HttpBenchmark.start("not-found", List.of())) {
+            HttpBenchmark.Result hit = application.measure("hit", HttpBenchmark.NEWS_BY_ID);
+            HttpBenchmark.Result miss = application.measure("miss", MISSING_NEWS);
+
+            HttpBenchmark.print(List.of(hit, miss));
+
+            assertThat(hit.errors()).isZero();
+            assertThat(miss.errors()).isZero();
+            assertThat(miss.throughput()).isGreaterThanOrEqualTo(hit.throughput() * (1 - TOLERANCE));
+        }
+    }
+
+}
@@ -0,0 +1,44 @@
+package org.example.newsfeedapiv2.benchmark;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compares the servlet stack with the {@code reactive} profile on the same seeded dataset, for single news
+ * lookups and for the NDJSON export of every news. Excluded from the regular build; run it with
+ * {@code mvn test -Pbenchmark}.
+ * <p>
+ * The servlet stack answers lookups from its caches while the reactive stack always reads the database, so the
+ * export is the like-for-like workload. As with {@link ThreadingModeBenchmarkTest}, in-memory H2 hides most of
+ * the I/O wait that a non-blocking stack is meant for; see {@link HttpBenchmark} for running against a real
+ * database.
+ */
+@Tag("benchmark")
+public class ReactiveStackBenchmarkTest {
+
+    @Test
+    @DisplayName("Servlet vs reactive stack - throughput and p99 latency")
+    public void compareStacks() throws Exception {
+        List<HttpBenchmark.Result> servlet = measure("servlet");
+        List<HttpBenchmark.Result> reactive = measure("reactive", "reactive");
+
+        HttpBenchmark.print(List.of(servlet.get(0), reactive.get(0), servlet.get(1), reactive.get(1)));
+
+        assertThat(servlet).allSatisfy(result -> assertThat(result.errors()).isZero());
+        assertThat(reactive).allSatisfy(result -> assertThat(result.errors()).isZero());
+    }
+
+    private static List<HttpBenchmark.Result> measure(String name, String... profiles) throws Exception {
+        try (HttpBenchmark.RunningApplication application = HttpBenchmark.start(name, List.of(), profiles)) {
+            return List.of(
+                    application.measure(name + " by id", HttpBenchmark.NEWS_BY_ID),
+                    application.measure(name + " export", HttpBenchmark.EXPORT));
+        }
+    }
+
+}
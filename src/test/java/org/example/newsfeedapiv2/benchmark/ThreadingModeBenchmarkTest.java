@@ -0,0 +1,33 @@
+package org.example.newsfeedapiv2.benchmark;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compares the default platform-thread Tomcat pool with the {@code virtual-threads} profile under the same
+ * closed-loop load. Excluded from the regular build; run it with {@code mvn test -Pbenchmark}.
+ * <p>
+ * With the default in-memory H2 databases most of the blocking that virtual threads are meant for is hidden;
+ * see {@link HttpBenchmark} for running against a real database.
+ */
+@Tag("benchmark")
+public class ThreadingModeBenchmarkTest {
+
+    @Test
+    @DisplayName("Platform threads vs virtual threads - throughput and p99 latency")
+    public void compareThreadingModes() throws Exception {
+        HttpBenchmark.Result platform = HttpBenchmark.run("platform", List.of());
+        HttpBenchmark.Result virtual = HttpBenchmark.run("virtual-threads", List.of(), "virtual-threads");
+
+        HttpBenchmark.print(List.of(platform, virtual));
+
+        assertThat(platform.errors()).isZero();
+        assertThat(virtual.errors()).isZero();
+    }
+
+}
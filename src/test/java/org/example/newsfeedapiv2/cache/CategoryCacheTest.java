@@ -0,0 +1,52 @@
+package org.example.newsfeedapiv2.cache;
+
+import org.example.newsfeedapiv2.entity.Category;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class CategoryCacheTest {
+
+    private CategoryCache cache;
+
+    @BeforeEach
+    public void setUp() {
+        cache = new CategoryCache(2);
+    }
+
+    @Test
+    @DisplayName("A full cache admits new categories by evicting the least recently read one")
+    public void testPut_EvictsLeastRecentlyRead() {
+        cache.put(category(1L), cache.stamp());
+        cache.put(category(2L), cache.stamp());
+        cache.getById(1L);
+        cache.put(category(3L), cache.stamp());
+
+        assertThat(cache.getById(2L)).isEmpty();
+        assertThat(cache.getByTitle("Category 2")).isEmpty();
+        assertThat(cache.getById(1L)).isPresent();
+        assertThat(cache.getByTitle("Category 3")).isPresent();
+        assertThat(cache.getStats().evictions()).isEqualTo(1);
+        assertThat(cache.getStats().size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Re-caching a known category does not evict another one")
+    public void testPut_ReplacesWithoutEviction() {
+        cache.put(category(1L), cache.stamp());
+        cache.put(category(2L), cache.stamp());
+        cache.put(category(1L).setTitle("Renamed"), cache.stamp());
+
+        assertThat(cache.getByTitle("Renamed")).isPresent();
+        assertThat(cache.getByTitle("Category 1")).isEmpty();
+        assertThat(cache.getById(2L)).isPresent();
+        assertThat(cache.getStats().evictions()).isZero();
+    }
+
+    private static Category category(Long id) {
+        return new Category().setId(id).setTitle("Category " + id).setVersion(0L);
+    }
+
+}
@@ -0,0 +1,124 @@
+package org.example.newsfeedapiv2.cache;
+
+import org.example.newsfeedapiv2.dto.NewsDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class LatestNewsBufferTest {
+
+    private LatestNewsBuffer buffer;
+
+    @BeforeEach
+    public void setUp() {
+        buffer = new LatestNewsBuffer(3);
+    }
+
+    @Test
+    @DisplayName("New news push the oldest out of a full buffer")
+    public void testPut_EvictsOldest() {
+        buffer.fill(1L, newest(3, 2, 1), true, buffer.stamp(1L));
+
+        for (long id = 4; id <= 7; id++) {
+            buffer.put(1L, news(id), null);
+        }
+
+        assertThat(ids(buffer.get(1L, 3).orElseThrow())).containsExactly(7L, 6L, 5L);
+        assertThat(buffer.get(1L, 4)).isEmpty();
+        assertThat(buffer.getStats().evictions()).isEqualTo(4);
+        assertThat(buffer.getStats().weight()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("A complete buffer answers any limit, a partial one only up to its size")
+    public void testGet_RespectsCompleteness() {
+        buffer.fill(1L, newest(2, 1), true, buffer.stamp(1L));
+        buffer.fill(2L, newest(9, 8, 7, 6), false, buffer.stamp(2L));
+
+        assertThat(ids(buffer.get(1L, 50).orElseThrow())).containsExactly(2L, 1L);
+        assertThat(ids(buffer.get(2L, 3).orElseThrow())).containsExactly(9L, 8L, 7L);
+        assertThat(buffer.get(2L, 4)).isEmpty();
+        assertThat(buffer.get(3L, 1)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Removing news shortens a partial buffer instead of leaving a gap")
+    public void testRemove_ShortensPrefix() {
+        buffer.fill(1L, newest(9, 8, 7, 6), false, buffer.stamp(1L));
+
+        buffer.remove(1L, 8L);
+        buffer.put(1L, news(5), null);
+
+        assertThat(ids(buffer.get(1L, 2).orElseThrow())).containsExactly(9L, 7L);
+        assertThat(buffer.get(1L, 3)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Updated news move between category buffers")
+    public void testPut_MovesBetweenCategories() {
+        buffer.fill(1L, newest(2, 1), true, buffer.stamp(1L));
+        buffer.fill(2L, newest(3), true, buffer.stamp(2L));
+
+        buffer.put(2L, news(2).setTitle("Moved"), 1L);
+
+        assertThat(ids(buffer.get(1L, 3).orElseThrow())).containsExactly(1L);
+        assertThat(buffer.get(2L, 3).orElseThrow())
+                .extracting(NewsDTO::getTitle)
+                .containsExactly("News 3", "Moved");
+    }
+
+    @Test
+    @DisplayName("A fill that raced with a write to its category is dropped, writes elsewhere are not")
+    public void testFill_DropsStaleFill() {
+        long stamp = buffer.stamp(1L);
+        buffer.remove(1L, 42L);
+        buffer.fill(1L, newest(1), true, stamp);
+
+        assertThat(buffer.get(1L, 1)).isEmpty();
+
+        stamp = buffer.stamp(1L);
+        buffer.put(2L, news(43), null);
+        buffer.fill(1L, newest(1), true, stamp);
+
+        assertThat(buffer.get(1L, 1)).isPresent();
+
+        buffer.invalidate(1L);
+        stamp = buffer.stamp(1L);
+        buffer.put(2L, news(44), 1L);
+        buffer.fill(1L, newest(1), true, stamp);
+
+        assertThat(buffer.get(1L, 1)).isEmpty();
+
+        buffer.fill(1L, newest(1), true, buffer.stamp(1L));
+        buffer.invalidate(1L);
+
+        assertThat(buffer.get(1L, 1)).isEmpty();
+        assertThat(buffer.getStats().weight()).isZero();
+    }
+
+    private static List<NewsDTO> newest(long... ids) {
+        return LongStream.of(ids)
+                .mapToObj(LatestNewsBufferTest::news)
+                .toList();
+    }
+
+    private static NewsDTO news(long id) {
+        return new NewsDTO()
+                .setId(id)
+                .setTitle("News " + id)
+                .setDate(Instant.EPOCH.plusSeconds(id));
+    }
+
+    private static List<Long> ids(List<NewsDTO> news) {
+        return news.stream()
+                .map(NewsDTO::getId)
+                .toList();
+    }
+
+}
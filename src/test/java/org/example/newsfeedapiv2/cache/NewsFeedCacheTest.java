@@ -0,0 +1,138 @@
+package org.example.newsfeedapiv2.cache;
+
+import org.example.newsfeedapiv2.dto.NewsDTO;
+import org.example.newsfeedapiv2.dto.ResourceVersion;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class NewsFeedCacheTest {
+
+    private static final ResourceVersion VERSION = new ResourceVersion("feed", null);
+
+    private NewsFeedCache cache;
+
+    @BeforeEach
+    public void setUp() {
+        cache = new NewsFeedCache(10);
+    }
+
+    @Test
+    @DisplayName("Least recently used feeds are evicted by weight")
+    public void testPut_EvictsLeastRecentlyUsedByWeight() {
+        cache.put(1L, feed(3), VERSION, cache.stamp(1L));
+        cache.put(2L, feed(3), VERSION, cache.stamp(2L));
+        cache.get(1L);
+        cache.put(3L, feed(3), VERSION, cache.stamp(3L));
+
+        assertThat(cache.get(2L)).isEmpty();
+        assertThat(cache.get(1L)).isPresent();
+        assertThat(cache.get(3L)).isPresent();
+        assertThat(cache.getStats().evictions()).isEqualTo(1);
+        assertThat(cache.getStats().weight()).isEqualTo(8);
+    }
+
+    @Test
+    @DisplayName("Feeds heavier than the cache are returned but not cached")
+    public void testPut_SkipsOversizedFeed() {
+        NewsFeed feed = cache.put(1L, feed(10), VERSION, cache.stamp(1L));
+
+        assertThat(feed.news()).hasSize(10);
+        assertThat(cache.get(1L)).isEmpty();
+        assertThat(cache.getStats().size()).isZero();
+    }
+
+    @Test
+    @DisplayName("A load that raced with an invalidation of its category is dropped")
+    public void testPut_DropsStaleLoad() {
+        long stamp = cache.stamp(1L);
+        cache.invalidate(1L);
+        cache.put(1L, feed(1), VERSION, stamp);
+
+        assertThat(cache.get(1L)).isEmpty();
+
+        cache.put(1L, feed(1), VERSION, cache.stamp(1L));
+        cache.invalidate(1L);
+
+        assertThat(cache.get(1L)).isEmpty();
+        assertThat(cache.getStats().weight()).isZero();
+    }
+
+    @Test
+    @DisplayName("Invalidating other categories leaves a load alone")
+    public void testPut_KeepsLoadRacingWithOtherCategories() {
+        cache.put(2L, feed(1), VERSION, cache.stamp(2L));
+
+        long stamp = cache.stamp(1L);
+        cache.invalidate(List.of(2L, 3L));
+        cache.put(1L, feed(2), VERSION, stamp);
+
+        assertThat(cache.get(1L)).isPresent();
+        assertThat(cache.get(2L)).isEmpty();
+        assertThat(cache.getStats().weight()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Snapshots live with their feed and are reported when a write drops them")
+    public void testSnapshot_InvalidatedWithFeed() {
+        List<Long> invalidated = new ArrayList<>();
+        cache.onSnapshotInvalidated(invalidated::add);
+        FeedSnapshot snapshot = FeedSnapshot.of(new byte[]{'[', ']'}, VERSION, Integer.MAX_VALUE);
+
+        cache.putSnapshot(1L, snapshot, cache.stamp(1L));
+        assertThat(cache.getSnapshot(1L)).isEmpty();
+
+        cache.put(1L, feed(2), VERSION, cache.stamp(1L));
+        cache.putSnapshot(1L, snapshot, cache.stamp(1L));
+        assertThat(cache.getSnapshot(1L)).contains(snapshot);
+
+        cache.invalidate(1L);
+        assertThat(cache.getSnapshot(1L)).isEmpty();
+        assertThat(invalidated).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("Snapshots weigh their serialized bytes and can push other feeds out")
+    public void testPutSnapshot_CountsBytesInWeight() {
+        cache.put(1L, feed(2), VERSION, cache.stamp(1L));
+        cache.putSnapshot(1L, FeedSnapshot.of(new byte[3000], VERSION, Integer.MAX_VALUE), cache.stamp(1L));
+
+        assertThat(cache.getStats().weight()).isEqualTo(6);
+
+        cache.put(2L, feed(3), VERSION, cache.stamp(2L));
+        cache.putSnapshot(2L, FeedSnapshot.of(new byte[2048], VERSION, Integer.MAX_VALUE), cache.stamp(2L));
+
+        assertThat(cache.get(1L)).isEmpty();
+        assertThat(cache.getSnapshot(2L)).isPresent();
+        assertThat(cache.getStats().weight()).isEqualTo(6);
+        assertThat(cache.getStats().evictions()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Snapshots evicted with their feed are not reported")
+    public void testSnapshot_EvictedSilently() {
+        List<Long> invalidated = new ArrayList<>();
+        cache.onSnapshotInvalidated(invalidated::add);
+
+        long stamp = cache.stamp(1L);
+        cache.put(1L, feed(4), VERSION, stamp);
+        cache.putSnapshot(1L, FeedSnapshot.of(new byte[]{'[', ']'}, VERSION, 0), stamp);
+        cache.put(2L, feed(8), VERSION, cache.stamp(2L));
+
+        assertThat(cache.getSnapshot(1L)).isEmpty();
+        assertThat(invalidated).isEmpty();
+    }
+
+    private static List<NewsDTO> feed(int size) {
+        return LongStream.rangeClosed(1, size)
+                .mapToObj(id -> new NewsDTO().setId(id))
+                .toList();
+    }
+
+}
@@ -0,0 +1,40 @@
+package org.example.newsfeedapiv2.cache;
+
+import org.example.newsfeedapiv2.dto.NewsDTO;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class NewsFeedTest {
+
+    @Test
+    @DisplayName("Feeds share an entity tag only when they render the same")
+    public void testVersionOf() {
+        List<NewsDTO> feed = List.of(news(3L, "Third"), news(1L, "First"));
+
+        assertThat(NewsFeed.versionOf(1L, feed))
+                .isEqualTo(NewsFeed.versionOf(1L, List.of(news(3L, "Third"), news(1L, "First"))));
+        assertThat(NewsFeed.versionOf(1L, feed).lastModified()).isNull();
+
+        // Same count and id sum as the feed above, which an aggregate-based tag could not tell apart.
+        assertThat(NewsFeed.versionOf(1L, List.of(news(2L, "Third"), news(2L, "First"))))
+                .isNotEqualTo(NewsFeed.versionOf(1L, feed));
+        assertThat(NewsFeed.versionOf(1L, List.of(news(3L, "Third"), news(1L, "Edited"))))
+                .isNotEqualTo(NewsFeed.versionOf(1L, feed));
+        assertThat(NewsFeed.versionOf(2L, feed)).isNotEqualTo(NewsFeed.versionOf(1L, feed));
+    }
+
+    private static NewsDTO news(Long id, String title) {
+        return new NewsDTO()
+                .setId(id)
+                .setTitle(title)
+                .setText("Text")
+                .setDate(Instant.parse("2024-01-01T00:00:00Z"))
+                .setCategoryTitle("Category");
+    }
+
+}
@@ -0,0 +1,169 @@
+package org.example.newsfeedapiv2.config;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import org.example.newsfeedapiv2.dto.NewsDTO;
+import org.example.newsfeedapiv2.entity.Category;
+import org.example.newsfeedapiv2.entity.News;
+import org.example.newsfeedapiv2.repositories.CategoryRepository;
+import org.example.newsfeedapiv2.repositories.NewsRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.hasItem;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+public class BinaryFormatsIntegrationTest {
+
+    private static final MediaType SMILE = MediaType.parseMediaType("application/x-jackson-smile");
+    private static final MediaType CBOR = MediaType.parseMediaType("application/cbor");
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private NewsRepository newsRepository;
+
+    private Category category;
+    private News news;
+
+    @BeforeEach
+    public void setUp() {
+        category = categoryRepository.save(new Category().setTitle("Binary " + UUID.randomUUID()));
+        news = newsRepository.save(new News()
+                .setTitle("Title")
+                .setText("Text")
+                .setCategory(category));
+    }
+
+    @AfterEach
+    public void tearDown() {
+        categoryRepository.deleteCategoryById(category.getId());
+    }
+
+    @Test
+    @DisplayName("JSON stays the default")
+    public void testDefaultIsJson() throws Exception {
+        mockMvc.perform(get("/api/news/category/{id}", category.getId()))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(header().stringValues(HttpHeaders.VARY, hasItem(HttpHeaders.ACCEPT)));
+    }
+
+    @Test
+    @DisplayName("News lists are served as Smile on request")
+    public void testNewsListAsSmile() throws Exception {
+        byte[] body = mockMvc.perform(get("/api/news/category/{id}", category.getId()).accept(SMILE))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(SMILE))
+                .andReturn()
+                .getResponse()
+                .getContentAsByteArray();
+
+        List<NewsDTO> decoded = binaryMapper(new SmileMapper()).readValue(body, new TypeReference<>() {
+        });
+
+        assertThat(decoded).singleElement().satisfies(dto -> {
+            assertThat(dto.getId()).isEqualTo(news.getId());
+            assertThat(dto.getCategoryTitle()).isEqualTo(category.getTitle());
+            assertThat(dto.getDate()).isEqualTo(news.getDate().truncatedTo(ChronoUnit.SECONDS));
+        });
+    }
+
+    @Test
+    @DisplayName("Single news are served as CBOR with numeric dates")
+    public void testNewsAsCbor() throws Exception {
+        byte[] body = mockMvc.perform(get("/api/news/{id}", news.getId()).accept(CBOR))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(CBOR))
+                .andReturn()
+                .getResponse()
+                .getContentAsByteArray();
+
+        JsonNode decoded = new CBORMapper().readTree(body);
+
+        assertThat(decoded.get("title").asText()).isEqualTo("Title");
+        assertThat(decoded.get("date").isNumber()).isTrue();
+        assertThat(decoded.get("date").asLong())
+                .isEqualTo(news.getDate().truncatedTo(ChronoUnit.SECONDS).toEpochMilli());
+    }
+
+    @Test
+    @DisplayName("Every format has its own entity tag")
+    public void testEntityTagPerFormat() throws Exception {
+        String json = mockMvc.perform(get("/api/news/{id}", news.getId()))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getHeader(HttpHeaders.ETAG);
+        String cbor = mockMvc.perform(get("/api/news/{id}", news.getId()).accept(CBOR))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getHeader(HttpHeaders.ETAG);
+
+        assertThat(cbor).isNotEqualTo(json);
+        mockMvc.perform(get("/api/news/{id}", news.getId()).accept(CBOR).header(HttpHeaders.IF_NONE_MATCH, json))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(CBOR));
+        mockMvc.perform(get("/api/news/{id}", news.getId()).accept(CBOR).header(HttpHeaders.IF_NONE_MATCH, cbor))
+                .andExpect(status().isNotModified());
+
+        String categoryJson = mockMvc.perform(get("/api/categories/{id}", category.getId()))
+                .andReturn()
+                .getResponse()
+                .getHeader(HttpHeaders.ETAG);
+        mockMvc.perform(get("/api/categories/{id}", category.getId())
+                        .accept(SMILE)
+                        .header(HttpHeaders.IF_NONE_MATCH, categoryJson))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(SMILE));
+    }
+
+    @Test
+    @DisplayName("Request bodies are accepted as Smile")
+    public void testCreateNewsFromSmile() throws Exception {
+        byte[] body = binaryMapper(new SmileMapper()).writeValueAsBytes(new NewsDTO()
+                .setTitle("Posted as Smile")
+                .setText("Text")
+                .setCategoryTitle(category.getTitle()));
+
+        mockMvc.perform(post("/api/news").contentType(SMILE).accept(SMILE).content(body))
+                .andExpect(status().isCreated())
+                .andExpect(content().contentType(SMILE));
+
+        assertThat(newsRepository.countByCategoryId(category.getId())).isEqualTo(2);
+    }
+
+    private static ObjectMapper binaryMapper(ObjectMapper mapper) {
+        return mapper.findAndRegisterModules()
+                .disable(SerializationFeature.WRITE_DATE_TIMESTAMPS_AS_NANOSECONDS)
+                .disable(DeserializationFeature.READ_DATE_TIMESTAMPS_AS_NANOSECONDS);
+    }
+
+}
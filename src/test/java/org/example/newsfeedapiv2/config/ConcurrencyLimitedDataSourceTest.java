@@ -0,0 +1,65 @@
+package org.example.newsfeedapiv2.config;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.Mockito.*;
+
+public class ConcurrencyLimitedDataSourceTest {
+
+    private DataSource targetDataSource;
+    private ConcurrencyLimitedDataSource dataSource;
+
+    @BeforeEach
+    public void setUp() throws SQLException {
+        targetDataSource = mock(DataSource.class);
+        when(targetDataSource.getConnection()).thenAnswer(invocation -> mock(Connection.class));
+        dataSource = new ConcurrencyLimitedDataSource(targetDataSource, 2, Duration.ofMillis(50));
+    }
+
+    @Test
+    @DisplayName("Closing a connection returns its permit exactly once")
+    public void testGetConnection_ReleasesPermitOnClose() throws SQLException {
+        Connection connection = dataSource.getConnection();
+
+        assertThat(dataSource.getAvailablePermits()).isEqualTo(1);
+
+        connection.close();
+        connection.close();
+
+        assertThat(dataSource.getAvailablePermits()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Callers over the limit time out instead of reaching the pool")
+    public void testGetConnection_TimesOutOverLimit() throws SQLException {
+        dataSource.getConnection();
+        dataSource.getConnection();
+
+        assertThatExceptionOfType(SQLTransientConnectionException.class)
+                .isThrownBy(() -> dataSource.getConnection());
+
+        verify(targetDataSource, times(2)).getConnection();
+    }
+
+    @Test
+    @DisplayName("A failing pool does not leak permits")
+    public void testGetConnection_ReleasesPermitOnFailure() throws SQLException {
+        when(targetDataSource.getConnection()).thenThrow(new SQLException("Pool is down"));
+
+        assertThatExceptionOfType(SQLException.class)
+                .isThrownBy(() -> dataSource.getConnection());
+
+        assertThat(dataSource.getAvailablePermits()).isEqualTo(2);
+    }
+
+}
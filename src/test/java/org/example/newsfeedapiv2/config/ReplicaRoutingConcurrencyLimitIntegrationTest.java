@@ -0,0 +1,43 @@
+package org.example.newsfeedapiv2.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Enables replica routing and the connection limit together: the limit has to wrap each pool, sized from that
+ * pool, with the routing proxy outside of it.
+ */
+@SpringBootTest(properties = {
+        "news.datasource.replicas.enabled=true",
+        "news.datasource.replicas.urls=${spring.datasource.url}",
+        "news.datasource.replicas.maximum-pool-size=3",
+        "news.datasource.concurrency-limit.enabled=true",
+        "spring.datasource.hikari.maximum-pool-size=7"
+})
+public class ReplicaRoutingConcurrencyLimitIntegrationTest {
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Test
+    @DisplayName("The primary and every replica pool are limited to their own pool size behind the router")
+    public void testPoolsAreLimitedBehindRouting() throws SQLException {
+        ReplicaRoutingDataSource routing = dataSource.unwrap(ReplicaRoutingDataSource.class);
+        ConcurrencyLimitedDataSource primary = (ConcurrencyLimitedDataSource) routing.getTargetDataSource();
+        ConcurrencyLimitedDataSource replica = (ConcurrencyLimitedDataSource) routing.getReplica(0);
+
+        assertThat(primary.getTargetDataSource()).isInstanceOf(HikariDataSource.class);
+        assertThat(primary.getAvailablePermits()).isEqualTo(7);
+        assertThat(replica.getTargetDataSource()).isInstanceOf(HikariDataSource.class);
+        assertThat(replica.getAvailablePermits()).isEqualTo(3);
+    }
+
+}
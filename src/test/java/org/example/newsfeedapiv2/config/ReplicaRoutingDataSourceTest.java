@@ -0,0 +1,162 @@
+package org.example.newsfeedapiv2.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+public class ReplicaRoutingDataSourceTest {
+
+    private DataSource primary;
+    private DataSource firstReplica;
+    private DataSource secondReplica;
+
+    @BeforeEach
+    public void setUp() throws SQLException {
+        primary = connectingDataSource();
+        firstReplica = connectingDataSource();
+        secondReplica = connectingDataSource();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        ReplicaRoutingContext.clear();
+    }
+
+    @Test
+    @DisplayName("Connections outside read-only transactions come from the primary")
+    public void testGetConnection_WritesUsePrimary() throws SQLException {
+        ReplicaRoutingDataSource dataSource = routing(ReplicaRoutingDataSource.Selection.ROUND_ROBIN);
+
+        dataSource.getConnection();
+
+        verify(primary, times(1)).getConnection();
+        verify(firstReplica, never()).getConnection();
+        verify(secondReplica, never()).getConnection();
+    }
+
+    @Test
+    @DisplayName("Read-only transactions are spread over the replicas in turn")
+    public void testGetConnection_ReadsRoundRobin() throws SQLException {
+        ReplicaRoutingDataSource dataSource = routing(ReplicaRoutingDataSource.Selection.ROUND_ROBIN);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        for (int i = 0; i < 4; i++) {
+            dataSource.getConnection();
+        }
+
+        verify(firstReplica, times(2)).getConnection();
+        verify(secondReplica, times(2)).getConnection();
+        verify(primary, never()).getConnection();
+    }
+
+    @Test
+    @DisplayName("Least-busy selection prefers the replica with fewer open connections")
+    public void testGetConnection_LeastBusy() throws SQLException {
+        ReplicaRoutingDataSource dataSource = routing(ReplicaRoutingDataSource.Selection.LEAST_BUSY);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        Connection first = dataSource.getConnection();
+        dataSource.getConnection();
+        first.close();
+        first.close();
+        dataSource.getConnection();
+
+        assertThat(dataSource.getActiveConnections(0)).isEqualTo(1);
+        assertThat(dataSource.getActiveConnections(1)).isEqualTo(1);
+        verify(firstReplica, times(2)).getConnection();
+    }
+
+    @Test
+    @DisplayName("A failing replica is skipped until its retry delay has passed")
+    public void testGetConnection_FailsOverToNextReplica() throws SQLException {
+        when(firstReplica.getConnection()).thenThrow(new SQLException("Replica is down"));
+        ReplicaRoutingDataSource dataSource = routing(ReplicaRoutingDataSource.Selection.ROUND_ROBIN);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        for (int i = 0; i < 3; i++) {
+            dataSource.getConnection();
+        }
+
+        assertThat(dataSource.isAvailable(0)).isFalse();
+        assertThat(dataSource.getFailovers()).isEqualTo(1);
+        verify(firstReplica, times(1)).getConnection();
+        verify(secondReplica, times(3)).getConnection();
+    }
+
+    @Test
+    @DisplayName("Reads fall back to the primary when no replica is available")
+    public void testGetConnection_FallsBackToPrimary() throws SQLException {
+        when(firstReplica.getConnection()).thenThrow(new SQLException("Replica is down"));
+        when(secondReplica.getConnection()).thenThrow(new IllegalStateException("Pool failed to start"));
+        ReplicaRoutingDataSource dataSource = routing(ReplicaRoutingDataSource.Selection.ROUND_ROBIN);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        dataSource.getConnection();
+        dataSource.getConnection();
+
+        verify(primary, times(2)).getConnection();
+        assertThat(dataSource.getPrimaryConnections()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("A pinned thread keeps reading from its first replica until that replica fails")
+    public void testGetConnection_PinnedReplica() throws SQLException {
+        ReplicaRoutingDataSource dataSource = routing(ReplicaRoutingDataSource.Selection.ROUND_ROBIN);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        ReplicaRoutingContext.pinReplica();
+
+        for (int i = 0; i < 3; i++) {
+            dataSource.getConnection();
+        }
+        when(firstReplica.getConnection()).thenThrow(new SQLException("Replica is down"));
+        dataSource.getConnection();
+        dataSource.getConnection();
+
+        assertThat(ReplicaRoutingContext.getPinnedReplica()).isEqualTo(1);
+        verify(firstReplica, times(4)).getConnection();
+        verify(secondReplica, times(2)).getConnection();
+    }
+
+    @Test
+    @DisplayName("Reads go to the primary while it is forced")
+    public void testGetConnection_PrimaryForced() throws SQLException {
+        ReplicaRoutingDataSource dataSource = routing(ReplicaRoutingDataSource.Selection.ROUND_ROBIN);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        ReplicaRoutingContext.runOnPrimary(() -> {
+            try {
+                dataSource.getConnection();
+            } catch (SQLException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        dataSource.getConnection();
+
+        verify(primary, times(1)).getConnection();
+        verify(firstReplica, times(1)).getConnection();
+    }
+
+    private ReplicaRoutingDataSource routing(ReplicaRoutingDataSource.Selection selection) {
+        return new ReplicaRoutingDataSource(primary, List.of(firstReplica, secondReplica), selection,
+                Duration.ofMinutes(1));
+    }
+
+    private static DataSource connectingDataSource() throws SQLException {
+        DataSource dataSource = mock(DataSource.class);
+        when(dataSource.getConnection()).thenAnswer(invocation -> mock(Connection.class));
+        return dataSource;
+    }
+
+}
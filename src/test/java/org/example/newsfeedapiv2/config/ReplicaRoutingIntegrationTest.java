@@ -0,0 +1,163 @@
+package org.example.newsfeedapiv2.config;
+
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Runs the application against a second in-memory H2 database acting as the replica. The replica gets the same
+ * tables but its own rows, so every response shows which database served it.
+ */
+@SpringBootTest(properties = "news.datasource.replicas.enabled=true")
+@AutoConfigureMockMvc
+public class ReplicaRoutingIntegrationTest {
+
+    private static final String REPLICA_URL = "jdbc:h2:mem:replica_db;DB_CLOSE_DELAY=-1";
+    private static final long REPLICA_ONLY_CATEGORY_ID = 900_001L;
+    private static final long LAGGING_CATEGORY_ID = 900_002L;
+    private static final long NOT_REPLICATED_NEWS_ID = 900_003L;
+    private static final String WRITTEN_TITLE = "Written through the primary";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private JdbcTemplate primary;
+
+    private final JdbcTemplate replica = replicaJdbcTemplate();
+
+    @DynamicPropertySource
+    static void replicaProperties(DynamicPropertyRegistry registry) {
+        JdbcTemplate replica = replicaJdbcTemplate();
+        replica.execute("""
+                create table if not exists categories (
+                    id bigint auto_increment primary key, title varchar(255),
+                    version bigint, updated_at timestamp(6) with time zone)""");
+        replica.execute("""
+                create table if not exists news (
+                    id bigint primary key, title varchar(255), text varchar(255), date timestamp(5),
+                    version bigint, updated_at timestamp(6) with time zone, category_id bigint)""");
+        registry.add("news.datasource.replicas.urls", () -> REPLICA_URL);
+    }
+
+    @BeforeEach
+    public void setUp() {
+        replica.update("insert into categories (id, title, version, updated_at) values (?, ?, 0, current_timestamp)",
+                REPLICA_ONLY_CATEGORY_ID, "Replica only");
+
+        // A category both databases have, whose newest news item has not reached the replica yet.
+        for (JdbcTemplate database : new JdbcTemplate[]{primary, replica}) {
+            database.update("insert into categories (id, title, version, updated_at) values (?, ?, 0, current_timestamp)",
+                    LAGGING_CATEGORY_ID, "Lagging");
+        }
+        primary.update("""
+                        insert into news (id, title, text, date, category_id, version, updated_at)
+                        values (?, ?, ?, current_timestamp, ?, 0, current_timestamp)""",
+                NOT_REPLICATED_NEWS_ID, "Not replicated yet", "Text", LAGGING_CATEGORY_ID);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        replica.update("delete from categories");
+        primary.update("delete from news where id = ?", NOT_REPLICATED_NEWS_ID);
+        primary.update("delete from categories where title = ? or id = ?", WRITTEN_TITLE, LAGGING_CATEGORY_ID);
+    }
+
+    @Test
+    @DisplayName("Reads are served by the replica, writes and reads inside the read-your-writes window by the primary")
+    public void testRouting() throws Exception {
+        mockMvc.perform(get("/api/categories/{id}", REPLICA_ONLY_CATEGORY_ID))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.title", is("Replica only")));
+
+        Cookie primaryUntil = mockMvc.perform(post("/api/categories")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\":\"" + WRITTEN_TITLE + "\"}"))
+                .andExpect(status().isCreated())
+                .andExpect(cookie().exists(ReadYourWritesInterceptor.COOKIE_NAME))
+                .andReturn()
+                .getResponse()
+                .getCookie(ReadYourWritesInterceptor.COOKIE_NAME);
+
+        assertThat(primary.queryForObject("select count(*) from categories where title = ?", Integer.class,
+                WRITTEN_TITLE)).isEqualTo(1);
+        assertThat(replica.queryForObject("select count(*) from categories where title = ?", Integer.class,
+                WRITTEN_TITLE)).isZero();
+
+        mockMvc.perform(get("/api/categories/{id}", REPLICA_ONLY_CATEGORY_ID).cookie(primaryUntil))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(get("/api/categories/{id}", REPLICA_ONLY_CATEGORY_ID))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("Unsigned or tampered read-your-writes cookies do not move reads to the primary")
+    public void testRouting_ForgedCookie() throws Exception {
+        String farFuture = Long.toString(Long.MAX_VALUE);
+        String signed = mockMvc.perform(post("/api/categories")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\":\"" + WRITTEN_TITLE + "\"}"))
+                .andExpect(status().isCreated())
+                .andReturn()
+                .getResponse()
+                .getCookie(ReadYourWritesInterceptor.COOKIE_NAME)
+                .getValue();
+        String tampered = farFuture + signed.substring(signed.indexOf('.'));
+
+        for (String forged : new String[]{farFuture, tampered}) {
+            mockMvc.perform(get("/api/categories/{id}", REPLICA_ONLY_CATEGORY_ID)
+                            .cookie(new Cookie(ReadYourWritesInterceptor.COOKIE_NAME, forged)))
+                    .andExpect(status().isOk());
+        }
+    }
+
+    @Test
+    @DisplayName("Cached feeds and latest-news buffers are filled from the primary, not from a lagging replica")
+    public void testCacheFills_LaggingReplica() throws Exception {
+        mockMvc.perform(get("/api/news/category/{id}", LAGGING_CATEGORY_ID))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()", is(1)))
+                .andExpect(jsonPath("$[0].title", is("Not replicated yet")));
+        mockMvc.perform(get("/api/news/category/{id}/latest", LAGGING_CATEGORY_ID))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()", is(1)))
+                .andExpect(jsonPath("$[0].title", is("Not replicated yet")));
+    }
+
+    @Test
+    @DisplayName("The replica pool is wired in behind the application data source")
+    public void testDataSourceIsRouted() throws SQLException {
+        ReplicaRoutingDataSource routing = dataSource.unwrap(ReplicaRoutingDataSource.class);
+
+        assertThat(routing.getReplicaCount()).isEqualTo(1);
+        assertThat(routing.isAvailable(0)).isTrue();
+    }
+
+    private static JdbcTemplate replicaJdbcTemplate() {
+        return new JdbcTemplate(new DriverManagerDataSource(REPLICA_URL, "sa", ""));
+    }
+
+}
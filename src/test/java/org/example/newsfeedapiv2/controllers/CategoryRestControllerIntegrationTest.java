@@ -4,9 +4,14 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import org.example.newsfeedapiv2.dto.CategoryDTO;
+import org.example.newsfeedapiv2.dto.CategoryPurgeJobDTO;
+import org.example.newsfeedapiv2.dto.ResourceVersion;
+import org.example.newsfeedapiv2.exceptions.ConflictException;
 import org.example.newsfeedapiv2.exceptions.NotFoundException;
+import org.example.newsfeedapiv2.services.CategoryPurgeService;
 import org.example.newsfeedapiv2.services.CategoryServiceImpl;
 import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -14,12 +19,17 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
 import java.util.Collections;
 import java.util.List;
+import java.util.UUID;
 
 import static org.hamcrest.Matchers.is;
 import static org.mockito.ArgumentMatchers.any;
@@ -39,13 +49,54 @@ public class CategoryRestControllerIntegrationTest {
 
     @MockBean
     private CategoryServiceImpl categoryService;
+
+    @MockBean
+    private CategoryPurgeService purgeService;
     private static CategoryDTO sampleCategoryDTO;
+    private static CategoryPurgeJobDTO samplePurgeJobDTO;
+    private static ResourceVersion sampleVersion;
 
     @BeforeAll
     public static void setUp() {
         sampleCategoryDTO = new CategoryDTO()
                 .setId(1L)
                 .setTitle("Title");
+
+        samplePurgeJobDTO = new CategoryPurgeJobDTO()
+                .setId(UUID.randomUUID())
+                .setCategoryId(sampleCategoryDTO.getId())
+                .setStatus(CategoryPurgeJobDTO.Status.QUEUED);
+
+        sampleVersion = new ResourceVersion("category-1-0", Instant.now().truncatedTo(ChronoUnit.SECONDS));
+    }
+
+    @BeforeEach
+    public void stubVersions() {
+        given(categoryService.getVersionById(any())).willReturn(sampleVersion);
+    }
+
+    @Test
+    @DisplayName("Get category by ID - Not Modified")
+    public void testGetCategoryById_NotModified() throws Exception {
+        mockMvc.perform(get("/api/categories/{id}", sampleCategoryDTO.getId())
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"" + sampleVersion.eTag() + "\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"" + sampleVersion.eTag() + "\""));
+
+        verify(categoryService, times(1)).getVersionById(sampleCategoryDTO.getId());
+        verify(categoryService, never()).getById(any());
+    }
+
+    @Test
+    @DisplayName("Get category by ID - Validators are sent")
+    public void testGetCategoryById_SendsValidators() throws Exception {
+        given(categoryService.getById(sampleCategoryDTO.getId())).willReturn(sampleCategoryDTO);
+
+        mockMvc.perform(get("/api/categories/{id}", sampleCategoryDTO.getId()))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"" + sampleVersion.eTag() + "\""))
+                .andExpect(header().dateValue(HttpHeaders.LAST_MODIFIED, sampleVersion.lastModifiedMillis()))
+                .andExpect(jsonPath("$.title", is(sampleCategoryDTO.getTitle())));
     }
 
     @Test
@@ -111,13 +162,49 @@ public class CategoryRestControllerIntegrationTest {
             verify(categoryService, times(1)).update(any(CategoryDTO.class));
         }
 
+        @Test
+        @DisplayName("Patch category - Success")
+        public void testPatchCategory_Success() throws Exception {
+            when(categoryService.patch(eq(sampleCategoryDTO.getId()), any(CategoryDTO.class)))
+                    .thenReturn(sampleCategoryDTO);
+
+            mockMvc.perform(patch("/api/categories/{id}", sampleCategoryDTO.getId())
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"title\":\"" + sampleCategoryDTO.getTitle() + "\"}"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.id", is(sampleCategoryDTO.getId().intValue())))
+                    .andExpect(jsonPath("$.title", is(sampleCategoryDTO.getTitle())));
+
+            verify(categoryService, times(1)).patch(eq(sampleCategoryDTO.getId()),
+                    argThat(patch -> sampleCategoryDTO.getTitle().equals(patch.getTitle())));
+        }
+
         @Test
         @DisplayName("Delete category - Success")
         public void testDeleteCategory_Success() throws Exception {
+            when(purgeService.submit(sampleCategoryDTO.getId())).thenReturn(samplePurgeJobDTO);
+
             mockMvc.perform(delete("/api/categories/{id}", sampleCategoryDTO.getId()))
-                    .andExpect(status().isOk());
+                    .andExpect(status().isAccepted())
+                    .andExpect(header().string(HttpHeaders.LOCATION,
+                            "/api/categories/purges/" + samplePurgeJobDTO.getId()))
+                    .andExpect(jsonPath("$.id", is(samplePurgeJobDTO.getId().toString())))
+                    .andExpect(jsonPath("$.status", is("QUEUED")));
+
+            verify(purgeService, times(1)).submit(sampleCategoryDTO.getId());
+            verify(categoryService, never()).delete(sampleCategoryDTO.getId());
+        }
+
+        @Test
+        @DisplayName("Get category purge job - Success")
+        public void testGetPurgeJob_Success() throws Exception {
+            when(purgeService.getById(samplePurgeJobDTO.getId())).thenReturn(samplePurgeJobDTO);
+
+            mockMvc.perform(get("/api/categories/purges/{jobId}", samplePurgeJobDTO.getId()))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.categoryId", is(sampleCategoryDTO.getId().intValue())));
 
-            verify(categoryService, times(1)).delete(sampleCategoryDTO.getId());
+            verify(purgeService, times(1)).getById(samplePurgeJobDTO.getId());
         }
 
     }
@@ -137,6 +224,18 @@ public class CategoryRestControllerIntegrationTest {
             verify(categoryService, times(1)).getById(sampleCategoryDTO.getId());
         }
 
+        @Test
+        @DisplayName("Patch category - Not Found")
+        public void testPatchCategory_NotFound() throws Exception {
+            when(categoryService.patch(eq(sampleCategoryDTO.getId()), any(CategoryDTO.class)))
+                    .thenThrow(NotFoundException.class);
+
+            mockMvc.perform(patch("/api/categories/{id}", sampleCategoryDTO.getId())
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"title\":\"Renamed\"}"))
+                    .andExpect(status().isNotFound());
+        }
+
         @Test
         @DisplayName("Update category - Not Found")
         public void testUpdateCategory_NotFound() throws Exception {
@@ -147,15 +246,50 @@ public class CategoryRestControllerIntegrationTest {
             verify(categoryService, never()).create(any(CategoryDTO.class));
         }
 
+        @Test
+        @DisplayName("Patch category - Title already taken")
+        public void testPatchCategory_Conflict() throws Exception {
+            when(categoryService.patch(eq(sampleCategoryDTO.getId()), any(CategoryDTO.class)))
+                    .thenThrow(new ConflictException("Category already exists with title: Taken"));
+
+            mockMvc.perform(patch("/api/categories/{id}", sampleCategoryDTO.getId())
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"title\":\"Taken\"}"))
+                    .andExpect(status().isConflict())
+                    .andExpect(jsonPath("$.message", is("Category already exists with title: Taken")));
+        }
+
+        @Test
+        @DisplayName("Create category - Constraint violated")
+        public void testCreateCategory_Conflict() throws Exception {
+            when(categoryService.create(any(CategoryDTO.class)))
+                    .thenThrow(new DataIntegrityViolationException("uq_categories_title"));
+
+            mockMvc.perform(post("/api/categories")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(asJsonString(sampleCategoryDTO)))
+                    .andExpect(status().isConflict())
+                    .andExpect(jsonPath("$.message", is("Request conflicts with existing data")));
+        }
+
         @Test
         @DisplayName("Delete category - Not Found")
         public void testDeleteCategory_NotFound() throws Exception {
-            doThrow(NotFoundException.class).when(categoryService).delete(sampleCategoryDTO.getId());
+            when(purgeService.submit(sampleCategoryDTO.getId())).thenThrow(NotFoundException.class);
 
             mockMvc.perform(delete("/api/categories/{id}", sampleCategoryDTO.getId()))
                     .andExpect(status().isNotFound());
 
-            verify(categoryService, times(1)).delete(sampleCategoryDTO.getId());
+            verify(purgeService, times(1)).submit(sampleCategoryDTO.getId());
+        }
+
+        @Test
+        @DisplayName("Get category purge job - Not Found")
+        public void testGetPurgeJob_NotFound() throws Exception {
+            when(purgeService.getById(samplePurgeJobDTO.getId())).thenThrow(NotFoundException.class);
+
+            mockMvc.perform(get("/api/categories/purges/{jobId}", samplePurgeJobDTO.getId()))
+                    .andExpect(status().isNotFound());
         }
 
     }
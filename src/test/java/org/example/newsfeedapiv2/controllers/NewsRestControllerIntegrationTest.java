@@ -3,10 +3,19 @@ package org.example.newsfeedapiv2.controllers;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.example.newsfeedapiv2.cache.FeedSnapshot;
+import org.example.newsfeedapiv2.cache.NewsFeed;
+import org.example.newsfeedapiv2.dto.NewsBatchItemDTO;
 import org.example.newsfeedapiv2.dto.NewsDTO;
+import org.example.newsfeedapiv2.dto.NewsPageDTO;
+import org.example.newsfeedapiv2.dto.NewsPatchDTO;
+import org.example.newsfeedapiv2.dto.ResourceVersion;
+import org.example.newsfeedapiv2.exceptions.BadRequestException;
 import org.example.newsfeedapiv2.exceptions.NotFoundException;
+import org.example.newsfeedapiv2.services.FeedSnapshotService;
 import org.example.newsfeedapiv2.services.NewsServiceImpl;
 import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -14,20 +23,27 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.Collections;
 import java.util.List;
+import java.util.function.Consumer;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+import static org.hamcrest.Matchers.hasItem;
 import static org.hamcrest.Matchers.is;
 
 
@@ -41,7 +57,12 @@ public class NewsRestControllerIntegrationTest {
     @MockBean
     private NewsServiceImpl newsService;
 
+    @MockBean
+    private FeedSnapshotService snapshotService;
+
     private static NewsDTO sampleNewsDTO;
+    private static ResourceVersion sampleVersion;
+    private static ResourceVersion sampleFeedVersion;
 
     @BeforeAll
     public static void setUp() {
@@ -51,6 +72,16 @@ public class NewsRestControllerIntegrationTest {
                 .setText("Text")
                 .setDate(Instant.now().truncatedTo(ChronoUnit.SECONDS))
                 .setCategoryTitle("Category title");
+
+        sampleVersion = new ResourceVersion("news-1-0-0", sampleNewsDTO.getDate());
+        sampleFeedVersion = new ResourceVersion("feed-1-0-1-1-0", null);
+    }
+
+    @BeforeEach
+    public void stubVersions() {
+        given(newsService.getVersionById(any())).willReturn(sampleVersion);
+        given(newsService.getFeedByCategoryId(any()))
+                .willReturn(new NewsFeed(List.of(sampleNewsDTO), sampleFeedVersion));
     }
 
     @Test
@@ -70,6 +101,52 @@ public class NewsRestControllerIntegrationTest {
         verify(newsService, times(1)).create(any(NewsDTO.class));
     }
 
+    @Test
+    @DisplayName("Create news batch - Created")
+    public void testCreateNewsBatch_Created() throws Exception {
+        List<NewsBatchItemDTO> results = List.of(new NewsBatchItemDTO()
+                .setIndex(0)
+                .setStatus(NewsBatchItemDTO.Status.CREATED)
+                .setNews(sampleNewsDTO));
+
+        when(newsService.createAll(anyList())).thenReturn(results);
+
+        mockMvc.perform(post("/api/news/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[" + asJsonString(sampleNewsDTO) + "]"))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$[0].index", is(0)))
+                .andExpect(jsonPath("$[0].status", is("CREATED")))
+                .andExpect(jsonPath("$[0].news.id", is(sampleNewsDTO.getId().intValue())));
+
+        verify(newsService, times(1)).createAll(List.of(sampleNewsDTO));
+    }
+
+    @Test
+    @DisplayName("Create news batch - Multi-Status")
+    public void testCreateNewsBatch_MultiStatus() throws Exception {
+        List<NewsBatchItemDTO> results = List.of(
+                new NewsBatchItemDTO()
+                        .setIndex(0)
+                        .setStatus(NewsBatchItemDTO.Status.CREATED)
+                        .setNews(sampleNewsDTO),
+                new NewsBatchItemDTO()
+                        .setIndex(1)
+                        .setStatus(NewsBatchItemDTO.Status.FAILED)
+                        .setError("Category not found with title: Unknown"));
+
+        when(newsService.createAll(anyList())).thenReturn(results);
+
+        mockMvc.perform(post("/api/news/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[" + asJsonString(sampleNewsDTO) + "," + asJsonString(sampleNewsDTO) + "]"))
+                .andExpect(status().isMultiStatus())
+                .andExpect(jsonPath("$[1].status", is("FAILED")))
+                .andExpect(jsonPath("$[1].error", is("Category not found with title: Unknown")));
+
+        verify(newsService, times(1)).createAll(anyList());
+    }
+
     @Nested
     @DisplayName("Successful scenarios")
     class SuccessfulScenarios {
@@ -114,20 +191,171 @@ public class NewsRestControllerIntegrationTest {
         public void testGetNewsByCategoryId_Success() throws Exception {
             Long categoryID = 1L;
 
-            List<NewsDTO> newsDTOList = Collections.singletonList(sampleNewsDTO);
-
-            given(newsService.getByCategoryId(categoryID)).willReturn(newsDTOList);
+            given(snapshotService.getByCategoryId(categoryID)).willReturn(snapshot(Integer.MAX_VALUE));
 
             mockMvc.perform(get("/api/news/category/{id}", categoryID))
                     .andExpect(status().isOk())
                     .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                    .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
                     .andExpect(jsonPath("$[0].id", is(sampleNewsDTO.getId().intValue())))
                     .andExpect(jsonPath("$[0].title", is(sampleNewsDTO.getTitle())))
                     .andExpect(jsonPath("$[0].text", is(sampleNewsDTO.getText())))
                     .andExpect(jsonPath("$[0].date", is(sampleNewsDTO.getDate().toString())))
                     .andExpect(jsonPath("$[0].category", is(sampleNewsDTO.getCategoryTitle())));
 
-            verify(newsService, times(1)).getByCategoryId(categoryID);
+            verify(snapshotService, times(1)).getByCategoryId(categoryID);
+            verify(newsService, never()).getFeedByCategoryId(any());
+        }
+
+        @Test
+        @DisplayName("Get news by category ID - Pre-compressed snapshot")
+        public void testGetNewsByCategoryId_Gzip() throws Exception {
+            Long categoryID = 1L;
+            FeedSnapshot snapshot = snapshot(0);
+
+            given(snapshotService.getByCategoryId(categoryID)).willReturn(snapshot);
+
+            mockMvc.perform(get("/api/news/category/{id}", categoryID)
+                            .header(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate, br"))
+                    .andExpect(status().isOk())
+                    .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                    .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                    .andExpect(header().stringValues(HttpHeaders.VARY, hasItem(HttpHeaders.ACCEPT_ENCODING)))
+                    .andExpect(header().string(HttpHeaders.ETAG, "\"" + sampleFeedVersion.eTag() + "-gzip\""))
+                    .andExpect(content().bytes(snapshot.gzip()));
+        }
+
+        @Test
+        @DisplayName("Get news by category ID - Other formats bypass the snapshot")
+        public void testGetNewsByCategoryId_Smile() throws Exception {
+            Long categoryID = 1L;
+            MediaType smile = MediaType.parseMediaType("application/x-jackson-smile");
+
+            mockMvc.perform(get("/api/news/category/{id}", categoryID).accept(smile))
+                    .andExpect(status().isOk())
+                    .andExpect(content().contentType(smile));
+
+            verify(newsService, times(1)).getFeedByCategoryId(categoryID);
+            verify(snapshotService, never()).getByCategoryId(any());
+        }
+
+        @Test
+        @DisplayName("Get news page - Success")
+        public void testGetNewsPage_Success() throws Exception {
+            NewsPageDTO page = new NewsPageDTO()
+                    .setItems(Collections.singletonList(sampleNewsDTO))
+                    .setNext("cursor");
+
+            given(newsService.getPage("previous", 10)).willReturn(page);
+
+            mockMvc.perform(get("/api/news/page")
+                            .param("cursor", "previous")
+                            .param("limit", "10"))
+                    .andExpect(status().isOk())
+                    .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                    .andExpect(jsonPath("$.items[0].id", is(sampleNewsDTO.getId().intValue())))
+                    .andExpect(jsonPath("$.items[0].title", is(sampleNewsDTO.getTitle())))
+                    .andExpect(jsonPath("$.next", is("cursor")));
+
+            verify(newsService, times(1)).getPage("previous", 10);
+        }
+
+        @Test
+        @DisplayName("Get news page by category ID - Success")
+        public void testGetNewsPageByCategoryId_Success() throws Exception {
+            Long categoryID = 1L;
+
+            NewsPageDTO page = new NewsPageDTO()
+                    .setItems(Collections.singletonList(sampleNewsDTO));
+
+            given(newsService.getPageByCategoryId(categoryID, null, 20)).willReturn(page);
+
+            mockMvc.perform(get("/api/news/category/{id}/page", categoryID))
+                    .andExpect(status().isOk())
+                    .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                    .andExpect(jsonPath("$.items[0].id", is(sampleNewsDTO.getId().intValue())))
+                    .andExpect(jsonPath("$.items[0].category", is(sampleNewsDTO.getCategoryTitle())));
+
+            verify(newsService, times(1)).getPageByCategoryId(categoryID, null, 20);
+        }
+
+        @Test
+        @DisplayName("Get latest news by category ID - Success")
+        public void testGetLatestNewsByCategoryId_Success() throws Exception {
+            Long categoryID = 1L;
+
+            given(newsService.getLatestByCategoryId(categoryID, 5)).willReturn(List.of(sampleNewsDTO));
+
+            mockMvc.perform(get("/api/news/category/{id}/latest", categoryID).param("n", "5"))
+                    .andExpect(status().isOk())
+                    .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                    .andExpect(jsonPath("$[0].id", is(sampleNewsDTO.getId().intValue())))
+                    .andExpect(jsonPath("$[0].category", is(sampleNewsDTO.getCategoryTitle())));
+
+            verify(newsService, times(1)).getLatestByCategoryId(categoryID, 5);
+        }
+
+        @Test
+        @DisplayName("Search news - Success")
+        public void testSearchNews_Success() throws Exception {
+            given(newsService.search("title", 20)).willReturn(List.of(sampleNewsDTO));
+
+            mockMvc.perform(get("/api/news/search").param("q", "title"))
+                    .andExpect(status().isOk())
+                    .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                    .andExpect(jsonPath("$[0].id", is(sampleNewsDTO.getId().intValue())))
+                    .andExpect(jsonPath("$[0].title", is(sampleNewsDTO.getTitle())));
+
+            verify(newsService, times(1)).search("title", 20);
+        }
+
+        @Test
+        @DisplayName("Export news as NDJSON - Success")
+        @SuppressWarnings("unchecked")
+        public void testExportNews_Success() throws Exception {
+            doAnswer(invocation -> {
+                Consumer<NewsDTO> consumer = invocation.getArgument(0);
+                consumer.accept(sampleNewsDTO);
+                consumer.accept(sampleNewsDTO);
+                return null;
+            }).when(newsService).exportAll(any(Consumer.class));
+
+            MvcResult result = mockMvc.perform(get("/api/news/export"))
+                    .andExpect(request().asyncStarted())
+                    .andReturn();
+
+            String line = asJsonString(sampleNewsDTO);
+
+            mockMvc.perform(asyncDispatch(result))
+                    .andExpect(status().isOk())
+                    .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                    .andExpect(content().string(line + "\n" + line + "\n"));
+
+            verify(newsService, times(1)).exportAll(any(Consumer.class));
+        }
+
+        @Test
+        @DisplayName("Stream news by category ID - Success")
+        public void testStreamNewsByCategoryId_Success() throws Exception {
+            Long categoryID = 1L;
+            SseEmitter emitter = new SseEmitter();
+            given(newsService.subscribe(categoryID)).willReturn(emitter);
+
+            MvcResult result = mockMvc.perform(get("/api/news/category/{id}/stream", categoryID))
+                    .andExpect(request().asyncStarted())
+                    .andReturn();
+            emitter.send(SseEmitter.event()
+                    .id("1")
+                    .name("created")
+                    .data(asJsonString(sampleNewsDTO)));
+            emitter.complete();
+
+            mockMvc.perform(asyncDispatch(result))
+                    .andExpect(status().isOk())
+                    .andExpect(content().contentTypeCompatibleWith(MediaType.TEXT_EVENT_STREAM))
+                    .andExpect(content().string("id:1\nevent:created\ndata:" + asJsonString(sampleNewsDTO) + "\n\n"));
+
+            verify(newsService, times(1)).subscribe(categoryID);
         }
 
         @Test
@@ -148,6 +376,24 @@ public class NewsRestControllerIntegrationTest {
             verify(newsService, times(1)).update(sampleNewsDTO);
         }
 
+        @Test
+        @DisplayName("Patch news - Success")
+        public void testPatchNews_Success() throws Exception {
+            NewsPatchDTO patch = new NewsPatchDTO().setTitle(sampleNewsDTO.getTitle());
+
+            when(newsService.patch(sampleNewsDTO.getId(), patch)).thenReturn(sampleNewsDTO);
+
+            mockMvc.perform(patch("/api/news/{id}", sampleNewsDTO.getId())
+                            .contentType("application/merge-patch+json")
+                            .content("{\"title\":\"" + sampleNewsDTO.getTitle() + "\"}"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.id", is(sampleNewsDTO.getId().intValue())))
+                    .andExpect(jsonPath("$.title", is(sampleNewsDTO.getTitle())))
+                    .andExpect(jsonPath("$.category", is(sampleNewsDTO.getCategoryTitle())));
+
+            verify(newsService, times(1)).patch(sampleNewsDTO.getId(), patch);
+        }
+
         @Test
         @DisplayName("Delete news - Success")
         public void testDeleteNews_Success() throws Exception {
@@ -159,6 +405,123 @@ public class NewsRestControllerIntegrationTest {
 
     }
 
+    @Nested
+    @DisplayName("Conditional request scenarios")
+    class ConditionalRequestScenarios {
+
+        @Test
+        @DisplayName("Get news by ID - Validators are sent")
+        public void testGetNewsById_SendsValidators() throws Exception {
+            given(newsService.getById(sampleNewsDTO.getId())).willReturn(sampleNewsDTO);
+
+            mockMvc.perform(get("/api/news/{id}", sampleNewsDTO.getId()))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string(HttpHeaders.ETAG, "\"" + sampleVersion.eTag() + "\""))
+                    .andExpect(header().dateValue(HttpHeaders.LAST_MODIFIED, sampleVersion.lastModifiedMillis()));
+        }
+
+        @Test
+        @DisplayName("Get news by ID - Not Modified by ETag")
+        public void testGetNewsById_NotModifiedByETag() throws Exception {
+            mockMvc.perform(get("/api/news/{id}", sampleNewsDTO.getId())
+                            .header(HttpHeaders.IF_NONE_MATCH, "\"" + sampleVersion.eTag() + "\""))
+                    .andExpect(status().isNotModified())
+                    .andExpect(content().string(""));
+
+            verify(newsService, times(1)).getVersionById(sampleNewsDTO.getId());
+            verify(newsService, never()).getById(any());
+        }
+
+        @Test
+        @DisplayName("Get news by ID - Not Modified by date")
+        public void testGetNewsById_NotModifiedByDate() throws Exception {
+            mockMvc.perform(get("/api/news/{id}", sampleNewsDTO.getId())
+                            .header(HttpHeaders.IF_MODIFIED_SINCE, sampleVersion.lastModifiedMillis()))
+                    .andExpect(status().isNotModified());
+
+            verify(newsService, never()).getById(any());
+        }
+
+        @Test
+        @DisplayName("Get news by ID - Modified")
+        public void testGetNewsById_Modified() throws Exception {
+            given(newsService.getById(sampleNewsDTO.getId())).willReturn(sampleNewsDTO);
+
+            mockMvc.perform(get("/api/news/{id}", sampleNewsDTO.getId())
+                            .header(HttpHeaders.IF_NONE_MATCH, "\"news-1-0-outdated\""))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.id", is(sampleNewsDTO.getId().intValue())));
+
+            verify(newsService, times(1)).getById(sampleNewsDTO.getId());
+        }
+
+        @Test
+        @DisplayName("Get news by category ID - Not Modified by the snapshot ETag")
+        public void testGetNewsByCategoryId_NotModified() throws Exception {
+            Long categoryID = 1L;
+
+            given(snapshotService.getByCategoryId(categoryID)).willReturn(snapshot(Integer.MAX_VALUE));
+
+            mockMvc.perform(get("/api/news/category/{id}", categoryID)
+                            .header(HttpHeaders.IF_NONE_MATCH, "\"" + sampleFeedVersion.eTag() + "\""))
+                    .andExpect(status().isNotModified());
+
+            verify(snapshotService, times(1)).getByCategoryId(categoryID);
+            verify(newsService, never()).getFeedByCategoryId(any());
+        }
+
+        @Test
+        @DisplayName("Get news by category ID - Identity ETag does not validate the gzip body")
+        public void testGetNewsByCategoryId_GzipNotModifiedByOwnETag() throws Exception {
+            Long categoryID = 1L;
+
+            given(snapshotService.getByCategoryId(categoryID)).willReturn(snapshot(0));
+
+            mockMvc.perform(get("/api/news/category/{id}", categoryID)
+                            .header(HttpHeaders.ACCEPT_ENCODING, "gzip")
+                            .header(HttpHeaders.IF_NONE_MATCH, "\"" + sampleFeedVersion.eTag() + "\""))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"));
+            mockMvc.perform(get("/api/news/category/{id}", categoryID)
+                            .header(HttpHeaders.ACCEPT_ENCODING, "gzip")
+                            .header(HttpHeaders.IF_NONE_MATCH, "\"" + sampleFeedVersion.eTag() + "-gzip\""))
+                    .andExpect(status().isNotModified());
+        }
+
+        @Test
+        @DisplayName("Get news by category ID - Other formats Not Modified by their own feed ETag")
+        public void testGetNewsByCategoryId_SmileNotModified() throws Exception {
+            Long categoryID = 1L;
+            MediaType smile = MediaType.parseMediaType("application/x-jackson-smile");
+
+            mockMvc.perform(get("/api/news/category/{id}", categoryID)
+                            .accept(smile)
+                            .header(HttpHeaders.IF_NONE_MATCH, "\"" + sampleFeedVersion.eTag() + "\""))
+                    .andExpect(status().isOk())
+                    .andExpect(content().contentType(smile))
+                    .andExpect(header().string(HttpHeaders.ETAG, "\"" + sampleFeedVersion.eTag() + "-smile\""));
+            mockMvc.perform(get("/api/news/category/{id}", categoryID)
+                            .accept(smile)
+                            .header(HttpHeaders.IF_NONE_MATCH, "\"" + sampleFeedVersion.eTag() + "-smile\""))
+                    .andExpect(status().isNotModified());
+
+            verify(newsService, times(2)).getFeedByCategoryId(categoryID);
+            verify(snapshotService, never()).getByCategoryId(any());
+        }
+
+        @Test
+        @DisplayName("Get news by ID - Version lookup Not Found")
+        public void testGetNewsById_VersionNotFound() throws Exception {
+            given(newsService.getVersionById(sampleNewsDTO.getId())).willThrow(NotFoundException.class);
+
+            mockMvc.perform(get("/api/news/{id}", sampleNewsDTO.getId()))
+                    .andExpect(status().isNotFound());
+
+            verify(newsService, never()).getById(any());
+        }
+
+    }
+
     @Nested
     @DisplayName("Not found scenarios")
     class NotFoundScenarios {
@@ -179,12 +542,63 @@ public class NewsRestControllerIntegrationTest {
         public void testGetNewsByCategoryId_NotFound() throws Exception {
             Long categoryID = 1L;
 
-            doThrow(NotFoundException.class).when(newsService).getByCategoryId(categoryID);
+            doThrow(NotFoundException.class).when(snapshotService).getByCategoryId(categoryID);
 
             mockMvc.perform(get("/api/news/category/{id}", categoryID))
                     .andExpect(status().isNotFound());
 
-            verify(newsService, times(1)).getByCategoryId(categoryID);
+            verify(snapshotService, times(1)).getByCategoryId(categoryID);
+        }
+
+        @Test
+        @DisplayName("Get latest news by category ID - Not Found")
+        public void testGetLatestNewsByCategoryId_NotFound() throws Exception {
+            Long categoryID = 1L;
+
+            doThrow(NotFoundException.class).when(newsService).getLatestByCategoryId(categoryID, 20);
+
+            mockMvc.perform(get("/api/news/category/{id}/latest", categoryID))
+                    .andExpect(status().isNotFound());
+
+            verify(newsService, times(1)).getLatestByCategoryId(categoryID, 20);
+        }
+
+        @Test
+        @DisplayName("Stream news by category ID - Not Found")
+        public void testStreamNewsByCategoryId_NotFound() throws Exception {
+            Long categoryID = 1L;
+
+            doThrow(NotFoundException.class).when(newsService).subscribe(categoryID);
+
+            mockMvc.perform(get("/api/news/category/{id}/stream", categoryID))
+                    .andExpect(status().isNotFound());
+
+            verify(newsService, times(1)).subscribe(categoryID);
+        }
+
+        @Test
+        @DisplayName("Get news page by category ID - Not Found")
+        public void testGetNewsPageByCategoryId_NotFound() throws Exception {
+            Long categoryID = 1L;
+
+            doThrow(NotFoundException.class).when(newsService).getPageByCategoryId(categoryID, null, 20);
+
+            mockMvc.perform(get("/api/news/category/{id}/page", categoryID))
+                    .andExpect(status().isNotFound());
+
+            verify(newsService, times(1)).getPageByCategoryId(categoryID, null, 20);
+        }
+
+        @Test
+        @DisplayName("Get news page - Bad Request")
+        public void testGetNewsPage_BadRequest() throws Exception {
+            doThrow(new BadRequestException("Invalid cursor")).when(newsService).getPage("broken", 20);
+
+            mockMvc.perform(get("/api/news/page").param("cursor", "broken"))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.message", is("Invalid cursor")));
+
+            verify(newsService, times(1)).getPage("broken", 20);
         }
 
         @Test
@@ -207,6 +621,30 @@ public class NewsRestControllerIntegrationTest {
             verify(newsService, never()).update(any(NewsDTO.class));
         }
 
+        @Test
+        @DisplayName("Patch news - Not Found")
+        public void testPatchNews_NotFound() throws Exception {
+            when(newsService.patch(eq(sampleNewsDTO.getId()), any(NewsPatchDTO.class)))
+                    .thenThrow(NotFoundException.class);
+
+            mockMvc.perform(patch("/api/news/{id}", sampleNewsDTO.getId())
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"text\":\"Text\"}"))
+                    .andExpect(status().isNotFound());
+        }
+
+        @Test
+        @DisplayName("Patch news - Empty patch")
+        public void testPatchNews_EmptyPatch() throws Exception {
+            when(newsService.patch(eq(sampleNewsDTO.getId()), any(NewsPatchDTO.class)))
+                    .thenThrow(BadRequestException.class);
+
+            mockMvc.perform(patch("/api/news/{id}", sampleNewsDTO.getId())
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{}"))
+                    .andExpect(status().isBadRequest());
+        }
+
         @Test
         @DisplayName("Delete news - Not Found")
         public void testDeleteNews_Success() throws Exception {
@@ -220,6 +658,11 @@ public class NewsRestControllerIntegrationTest {
 
     }
 
+    private FeedSnapshot snapshot(int minCompressedSize) {
+        byte[] json = ("[" + asJsonString(sampleNewsDTO) + "]").getBytes(StandardCharsets.UTF_8);
+        return FeedSnapshot.of(json, sampleFeedVersion, minCompressedSize);
+    }
+
     private String asJsonString(NewsDTO newsDTO) {
         try {
             ObjectMapper mapper = new ObjectMapper();
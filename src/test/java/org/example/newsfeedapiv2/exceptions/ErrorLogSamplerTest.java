@@ -0,0 +1,62 @@
+package org.example.newsfeedapiv2.exceptions;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ErrorLogSamplerTest {
+
+    private ListAppender<ILoggingEvent> appender;
+    private Logger logger;
+
+    @BeforeEach
+    public void setUp() {
+        logger = (Logger) LoggerFactory.getLogger(ErrorLogSamplerTest.class);
+        appender = new ListAppender<>();
+        appender.start();
+        logger.addAppender(appender);
+    }
+
+    @Test
+    @DisplayName("Entries over the limit are suppressed per exception type")
+    public void testTryAcquire_LimitsPerType() {
+        ErrorLogSampler sampler = new ErrorLogSampler(logger, 2, Duration.ofHours(1));
+
+        long notFound = IntStream.range(0, 5).filter(i -> sampler.tryAcquire(NotFoundException.class)).count();
+        long badRequest = IntStream.range(0, 5).filter(i -> sampler.tryAcquire(BadRequestException.class)).count();
+
+        assertThat(notFound).isEqualTo(2);
+        assertThat(badRequest).isEqualTo(2);
+        assertThat(appender.list).isEmpty();
+    }
+
+    @Test
+    @DisplayName("The suppressed count is reported once the window has ended")
+    public void testTryAcquire_ReportsSuppressedCount() throws InterruptedException {
+        ErrorLogSampler sampler = new ErrorLogSampler(logger, 1, Duration.ofMillis(50));
+        IntStream.range(0, 4).forEach(i -> sampler.tryAcquire(NotFoundException.class));
+
+        Thread.sleep(60);
+
+        assertThat(sampler.tryAcquire(NotFoundException.class)).isTrue();
+        assertThat(appender.list)
+                .extracting(ILoggingEvent::getFormattedMessage)
+                .containsExactly("Suppressed 3 NotFoundException log entries in the previous 50 ms window");
+    }
+
+    @Test
+    @DisplayName("Not found exceptions carry no stack trace")
+    public void testNotFoundException_IsStackless() {
+        assertThat(new NotFoundException("News not found with id: 1").getStackTrace()).isEmpty();
+    }
+
+}
@@ -0,0 +1,94 @@
+package org.example.newsfeedapiv2.loadtest;
+
+import org.example.newsfeedapiv2.dto.CategoryDTO;
+import org.example.newsfeedapiv2.services.CategoryServiceImpl;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Fills the database with a synthetic, seed-determined dataset.
+ * <p>
+ * News rows are written with plain JDBC batches into a reserved id range, so millions of rows load in minutes
+ * instead of going through the persistence context. Afterwards {@code news_seq} is moved past the range with
+ * the same 50-id headroom the pooled optimizer expects.
+ */
+final class DatasetGenerator {
+
+    static final List<String> VOCABULARY = List.of(
+            "football", "final", "match", "weather", "rain", "storm", "election", "vote", "market", "stocks",
+            "energy", "prices", "science", "space", "launch", "health", "hospital", "school", "exam", "music",
+            "festival", "film", "premiere", "traffic", "bridge", "city", "council", "budget", "tax", "airport",
+            "flight", "strike", "museum", "record", "winter", "summer", "harvest", "river", "forest", "fire");
+
+    private static final int BATCH_SIZE = 1000;
+    private static final Instant NEWEST = Instant.parse("2024-01-01T00:00:00Z");
+    private static final String INSERT_NEWS = "insert into news (id, title, text, date, category_id, version, updated_at) "
+            + "values (?, ?, ?, ?, ?, 0, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final CategoryServiceImpl categoryService;
+
+    DatasetGenerator(JdbcTemplate jdbcTemplate, CategoryServiceImpl categoryService) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.categoryService = categoryService;
+    }
+
+    Dataset generate(String runId, int categoryCount, int newsCount, long seed) {
+        Random random = new Random(seed);
+
+        List<CategoryDTO> categories = IntStream.range(0, categoryCount)
+                .mapToObj(i -> categoryService.create(new CategoryDTO().setTitle("Load " + runId + " category " + i)))
+                .toList();
+
+        Long maxId = jdbcTemplate.queryForObject("select coalesce(max(id), 0) from news", Long.class);
+        long firstNewsId = maxId + 1;
+        Timestamp now = Timestamp.from(Instant.now());
+
+        List<Object[]> batch = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < newsCount; i++) {
+            CategoryDTO category = categories.get(random.nextInt(categoryCount));
+            batch.add(new Object[]{
+                    firstNewsId + i,
+                    words(random, 4),
+                    words(random, 12),
+                    Timestamp.from(NEWEST.minus(Duration.ofMinutes(random.nextInt(5 * 365 * 24 * 60)))),
+                    category.getId(),
+                    now});
+            if (batch.size() == BATCH_SIZE || i == newsCount - 1) {
+                jdbcTemplate.batchUpdate(INSERT_NEWS, batch);
+                batch.clear();
+            }
+            if ((i + 1) % 1_000_000 == 0) {
+                System.out.printf("Generated %,d of %,d news%n", i + 1, newsCount);
+            }
+        }
+
+        long lastNewsId = firstNewsId + newsCount - 1;
+        jdbcTemplate.execute("alter sequence news_seq restart with " + (lastNewsId + 50));
+
+        return new Dataset(runId, categories, firstNewsId, lastNewsId);
+    }
+
+    private static String words(Random random, int count) {
+        return random.ints(count, 0, VOCABULARY.size())
+                .mapToObj(VOCABULARY::get)
+                .collect(Collectors.joining(" "));
+    }
+
+    record Dataset(String runId, List<CategoryDTO> categories, long firstNewsId, long lastNewsId) {
+
+        long newsCount() {
+            return lastNewsId - firstNewsId + 1;
+        }
+
+    }
+
+}
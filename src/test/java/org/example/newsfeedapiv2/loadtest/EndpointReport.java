@@ -0,0 +1,38 @@
+package org.example.newsfeedapiv2.loadtest;
+
+import java.util.Arrays;
+
+record EndpointReport(String endpoint, int targetRate, int requests, double throughput,
+                      double p50Millis, double p99Millis, double p999Millis, double errorRate) {
+
+    static final String HEADER = String.format("%-24s %8s %8s %10s %10s %10s %10s %8s",
+            "endpoint", "rate", "requests", "req/s", "p50 ms", "p99 ms", "p999 ms", "errors");
+
+    static EndpointReport of(String endpoint, int targetRate, long[] latencies, long elapsedNanos, int errors) {
+        long[] sorted = latencies.clone();
+        Arrays.sort(sorted);
+        return new EndpointReport(endpoint, targetRate, sorted.length,
+                sorted.length * 1e9 / elapsedNanos,
+                percentile(sorted, 0.50), percentile(sorted, 0.99), percentile(sorted, 0.999),
+                sorted.length == 0 ? 0 : (double) errors / sorted.length);
+    }
+
+    String toRow() {
+        return String.format("%-24s %8d %8d %10.1f %10.2f %10.2f %10.2f %7.2f%%",
+                endpoint, targetRate, requests, throughput, p50Millis, p99Millis, p999Millis, errorRate * 100);
+    }
+
+    String toCsv() {
+        return String.join(",", endpoint, String.valueOf(targetRate), String.valueOf(requests),
+                String.valueOf(throughput), String.valueOf(p50Millis), String.valueOf(p99Millis),
+                String.valueOf(p999Millis), String.valueOf(errorRate));
+    }
+
+    private static double percentile(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        return sorted[Math.max(0, (int) Math.ceil(percentile * sorted.length) - 1)] / 1e6;
+    }
+
+}
@@ -0,0 +1,90 @@
+package org.example.newsfeedapiv2.loadtest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.IntFunction;
+
+/**
+ * Open-model load generator: requests are started on a fixed schedule whether or not earlier ones have
+ * finished. Latency is measured from the scheduled start, so a stalled server shows up in the percentiles
+ * instead of silently lowering the offered load.
+ * <p>
+ * A stream never ends on its own, so for stream endpoints a request is done at its first frame: the latency is
+ * the time to subscribe, and the connection is closed right after.
+ */
+final class FixedRateDriver {
+
+    private final HttpClient client;
+    private final Duration requestTimeout;
+
+    FixedRateDriver(HttpClient client, Duration requestTimeout) {
+        this.client = client;
+        this.requestTimeout = requestTimeout;
+    }
+
+    EndpointReport run(String endpoint, IntFunction<HttpRequest.Builder> requests, int rate, Duration duration,
+                       boolean stream) throws InterruptedException {
+        int total = Math.max(1, (int) (rate * duration.toMillis() / 1000));
+        long interval = TimeUnit.SECONDS.toNanos(1) / rate;
+        long[] latencies = new long[total];
+        AtomicInteger errors = new AtomicInteger();
+        CountDownLatch done = new CountDownLatch(total);
+
+        long started = System.nanoTime();
+        for (int i = 0; i < total; i++) {
+            long scheduled = started + i * interval;
+            long wait;
+            while ((wait = scheduled - System.nanoTime()) > 0) {
+                LockSupport.parkNanos(wait);
+            }
+
+            int index = i;
+            HttpRequest request = requests.apply(i).timeout(requestTimeout).build();
+            CompletableFuture<? extends HttpResponse<?>> sent = stream
+                    ? client.sendAsync(request, HttpResponse.BodyHandlers.ofInputStream())
+                            .thenApply(FixedRateDriver::awaitFirstFrame)
+                    : client.sendAsync(request, HttpResponse.BodyHandlers.discarding());
+            sent.whenComplete((response, failure) -> {
+                latencies[index] = System.nanoTime() - scheduled;
+                if (failure != null || response.statusCode() >= 400) {
+                    errors.incrementAndGet();
+                }
+                done.countDown();
+            });
+        }
+        if (!done.await(requestTimeout.toMillis() * 2, TimeUnit.MILLISECONDS)) {
+            long now = System.nanoTime();
+            for (int i = 0; i < total; i++) {
+                if (latencies[i] == 0) {
+                    latencies[i] = now - (started + i * interval);
+                    errors.incrementAndGet();
+                }
+            }
+        }
+        long elapsed = System.nanoTime() - started;
+
+        return EndpointReport.of(endpoint, rate, latencies, elapsed, errors.get());
+    }
+
+    private static HttpResponse<InputStream> awaitFirstFrame(HttpResponse<InputStream> response) {
+        try (InputStream body = response.body()) {
+            if (body.read() < 0) {
+                throw new IOException("Stream ended before its first frame");
+            }
+            return response;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+}
@@ -0,0 +1,284 @@
+package org.example.newsfeedapiv2.loadtest;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.newsfeedapiv2.Application;
+import org.example.newsfeedapiv2.cache.CategoryCache;
+import org.example.newsfeedapiv2.cache.LatestNewsBuffer;
+import org.example.newsfeedapiv2.cache.NewsFeedCache;
+import org.example.newsfeedapiv2.dto.CategoryDTO;
+import org.example.newsfeedapiv2.dto.NewsDTO;
+import org.example.newsfeedapiv2.dto.NewsPatchDTO;
+import org.example.newsfeedapiv2.search.NewsSearchIndex;
+import org.example.newsfeedapiv2.services.CategoryPurgeService;
+import org.example.newsfeedapiv2.services.CategoryServiceImpl;
+import org.example.newsfeedapiv2.services.NewsServiceImpl;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import java.util.function.IntFunction;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Drives every endpoint of {@code NewsRestController} and {@code CategoryRestController} at a fixed arrival
+ * rate against a generated dataset and reports throughput, latency percentiles and error rate per endpoint.
+ * Excluded from the regular build; run it with {@code mvn test -Ploadtest}.
+ * <p>
+ * Settings (system properties):
+ * <ul>
+ *     <li>{@code loadtest.news}, {@code loadtest.categories}, {@code loadtest.seed} - dataset size and seed</li>
+ *     <li>{@code loadtest.rate}, {@code loadtest.duration} - requests per second and run time per endpoint</li>
+ *     <li>{@code loadtest.full-scan-rate} - rate for endpoints that return the whole table</li>
+ *     <li>{@code loadtest.rate.<endpoint>} - rate override for one endpoint, e.g. {@code loadtest.rate.news.search}</li>
+ *     <li>{@code loadtest.endpoints} - regex selecting the endpoints to run</li>
+ *     <li>{@code loadtest.datasource.url}, {@code .username}, {@code .password} - run against a real database
+ *     instead of in-memory H2</li>
+ * </ul>
+ * Read endpoints run before write endpoints, and each delete only removes rows its matching create added, so
+ * every run sees the same dataset. Streams count as done at their first frame, and purge status polls its own
+ * purges of freshly created categories. The report is also written to {@code target/loadtest-report.csv}.
+ */
+@Tag("loadtest")
+public class RestApiLoadTest {
+
+    private static final int NEWS = Integer.getInteger("loadtest.news", 10_000);
+    private static final int CATEGORIES = Integer.getInteger("loadtest.categories", 20);
+    private static final long SEED = Long.getLong("loadtest.seed", 42L);
+    private static final int RATE = Integer.getInteger("loadtest.rate", 50);
+    private static final int FULL_SCAN_RATE = Integer.getInteger("loadtest.full-scan-rate", 2);
+    private static final Duration DURATION = Duration.parse(System.getProperty("loadtest.duration", "PT10S"));
+    private static final Duration REQUEST_TIMEOUT = Duration.parse(System.getProperty("loadtest.timeout", "PT30S"));
+    private static final Pattern ENDPOINTS = Pattern.compile(System.getProperty("loadtest.endpoints", ".*"));
+    private static final int BATCH_SIZE = 100;
+    private static final int PURGES = 10;
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+    @Test
+    @DisplayName("Fixed arrival rate load test over all REST endpoints")
+    public void runLoadTest() throws Exception {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(Application.class)
+                .run(applicationArgs())) {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+            String runId = Long.toString(System.currentTimeMillis(), 36);
+
+            long generationStarted = System.nanoTime();
+            DatasetGenerator.Dataset dataset = new DatasetGenerator(jdbcTemplate,
+                    context.getBean(CategoryServiceImpl.class)).generate(runId, CATEGORIES, NEWS, SEED);
+            context.getBean(CategoryCache.class).invalidateAll();
+            context.getBean(NewsFeedCache.class).invalidateAll();
+            context.getBean(LatestNewsBuffer.class).invalidateAll();
+            context.getBean(NewsSearchIndex.class).rebuild(context.getBean(NewsServiceImpl.class)::exportAll);
+            System.out.printf("Generated %,d news in %d categories in %d ms%n", dataset.newsCount(), CATEGORIES,
+                    Duration.ofNanos(System.nanoTime() - generationStarted).toMillis());
+
+            FixedRateDriver driver = new FixedRateDriver(HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .build(), REQUEST_TIMEOUT);
+            List<EndpointReport> reports = new ArrayList<>();
+            for (Map.Entry<String, Scenario> entry : scenarios(URI.create("http://localhost:" + port), dataset,
+                    context).entrySet()) {
+                String endpoint = entry.getKey();
+                if (!ENDPOINTS.matcher(endpoint).matches()) {
+                    continue;
+                }
+                int rate = Integer.getInteger("loadtest.rate." + endpoint, entry.getValue().rate());
+                EndpointReport report = driver.run(endpoint, entry.getValue().requests().get(), rate, DURATION,
+                        entry.getValue().stream());
+                System.out.println(report.toRow());
+                reports.add(report);
+            }
+
+            print(reports);
+            assertThat(reports).isNotEmpty();
+        }
+    }
+
+    private Map<String, Scenario> scenarios(URI base, DatasetGenerator.Dataset dataset, ApplicationContext context) {
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        List<CategoryDTO> categories = dataset.categories();
+        String prefix = "Load " + dataset.runId();
+        Map<String, Scenario> scenarios = new LinkedHashMap<>();
+
+        scenarios.put("news.getAll", fullScan(() -> i -> get(base, "/api/news")));
+        scenarios.put("news.export", fullScan(() -> i -> get(base, "/api/news/export")));
+        scenarios.put("news.page", scenario("news.page", random -> i ->
+                get(base, "/api/news/page?limit=20")));
+        scenarios.put("news.search", scenario("news.search", random -> i ->
+                get(base, "/api/news/search?limit=20&q=" + word(random) + "+" + word(random))));
+        scenarios.put("news.getById", scenario("news.getById", random -> i ->
+                get(base, "/api/news/" + newsId(random, dataset))));
+        scenarios.put("news.getByCategory", scenario("news.getByCategory", random -> i ->
+                get(base, "/api/news/category/" + category(random, categories).getId())));
+        scenarios.put("news.getPageByCategory", scenario("news.getPageByCategory", random -> i ->
+                get(base, "/api/news/category/" + category(random, categories).getId() + "/page?limit=20")));
+        scenarios.put("news.getLatestByCategory", scenario("news.getLatestByCategory", random -> i ->
+                get(base, "/api/news/category/" + category(random, categories).getId() + "/latest?n=20")));
+        scenarios.put("news.stream", new Scenario(RATE, true, () -> {
+            Random random = new Random(SEED ^ "news.stream".hashCode());
+            return i -> get(base, "/api/news/category/" + category(random, categories).getId() + "/stream");
+        }));
+        scenarios.put("categories.getAll", scenario("categories.getAll", random -> i ->
+                get(base, "/api/categories")));
+        scenarios.put("categories.getById", scenario("categories.getById", random -> i ->
+                get(base, "/api/categories/" + category(random, categories).getId())));
+
+        scenarios.put("news.create", scenario("news.create", random -> i ->
+                send(base, "/api/news", "POST", news(prefix + " news " + i, random, categories))));
+        scenarios.put("news.createBatch", scenario("news.createBatch", random -> i ->
+                send(base, "/api/news/batch", "POST", IntStream.range(0, BATCH_SIZE)
+                        .mapToObj(n -> news(prefix + " batch " + i, random, categories))
+                        .toList())));
+        scenarios.put("news.update", scenario("news.update", random -> i ->
+                send(base, "/api/news", "PUT", news(prefix + " updated " + i, random, categories)
+                        .setId(dataset.firstNewsId() + i % dataset.newsCount()))));
+        scenarios.put("news.patch", scenario("news.patch", random -> i ->
+                send(base, "/api/news/" + newsId(random, dataset), "PATCH", new NewsPatchDTO()
+                        .setText(String.join(" ", word(random), word(random), word(random))))));
+        scenarios.put("news.delete", new Scenario(RATE, () -> {
+            List<Long> created = jdbcTemplate.queryForList(
+                    "select id from news where title like ? order by id", Long.class, prefix + " news %");
+            return i -> delete(base, "/api/news/" + created.get(i % created.size()));
+        }));
+
+        scenarios.put("categories.create", scenario("categories.create", random -> i ->
+                send(base, "/api/categories", "POST", new CategoryDTO().setTitle(prefix + " extra " + i))));
+        scenarios.put("categories.update", new Scenario(RATE, () -> {
+            List<Long> created = createdCategoryIds(jdbcTemplate, prefix);
+            return i -> send(base, "/api/categories", "PUT", new CategoryDTO()
+                    .setId(created.get(i % created.size()))
+                    .setTitle(prefix + " renamed " + i));
+        }));
+        scenarios.put("categories.delete", new Scenario(RATE, () -> {
+            List<Long> created = createdCategoryIds(jdbcTemplate, prefix);
+            return i -> delete(base, "/api/categories/" + created.get(i % created.size()));
+        }));
+        scenarios.put("categories.getPurge", new Scenario(RATE, () -> {
+            CategoryServiceImpl categoryService = context.getBean(CategoryServiceImpl.class);
+            CategoryPurgeService purgeService = context.getBean(CategoryPurgeService.class);
+            List<UUID> jobs = IntStream.range(0, PURGES)
+                    .mapToObj(n -> categoryService.create(new CategoryDTO().setTitle(prefix + " purged " + n)))
+                    .map(category -> purgeService.submit(category.getId()).getId())
+                    .toList();
+            return i -> get(base, "/api/categories/purges/" + jobs.get(i % jobs.size()));
+        }));
+        return scenarios;
+    }
+
+    private static Scenario scenario(String endpoint, RandomRequests requests) {
+        return new Scenario(RATE, () -> requests.create(new Random(SEED ^ endpoint.hashCode())));
+    }
+
+    private static Scenario fullScan(Supplier<IntFunction<HttpRequest.Builder>> requests) {
+        return new Scenario(FULL_SCAN_RATE, requests);
+    }
+
+    private static List<Long> createdCategoryIds(JdbcTemplate jdbcTemplate, String prefix) {
+        return jdbcTemplate.queryForList("select id from categories where title like ? or title like ? order by id",
+                Long.class, prefix + " extra %", prefix + " renamed %");
+    }
+
+    private static HttpRequest.Builder get(URI base, String path) {
+        return HttpRequest.newBuilder(base.resolve(path)).GET();
+    }
+
+    private static HttpRequest.Builder delete(URI base, String path) {
+        return HttpRequest.newBuilder(base.resolve(path)).DELETE();
+    }
+
+    private HttpRequest.Builder send(URI base, String path, String method, Object body) {
+        try {
+            return HttpRequest.newBuilder(base.resolve(path))
+                    .header("Content-Type", "application/json")
+                    .method(method, HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static NewsDTO news(String title, Random random, List<CategoryDTO> categories) {
+        return new NewsDTO()
+                .setTitle(title + " " + word(random))
+                .setText(String.join(" ", word(random), word(random), word(random), word(random)))
+                .setCategoryTitle(category(random, categories).getTitle());
+    }
+
+    private static long newsId(Random random, DatasetGenerator.Dataset dataset) {
+        return dataset.firstNewsId() + (long) (random.nextDouble() * dataset.newsCount());
+    }
+
+    private static CategoryDTO category(Random random, List<CategoryDTO> categories) {
+        return categories.get(random.nextInt(categories.size()));
+    }
+
+    private static String word(Random random) {
+        return DatasetGenerator.VOCABULARY.get(random.nextInt(DatasetGenerator.VOCABULARY.size()));
+    }
+
+    private static String[] applicationArgs() {
+        String url = System.getProperty("loadtest.datasource.url");
+        List<String> args = new ArrayList<>(List.of("--server.port=0"));
+        if (url == null) {
+            url = "jdbc:h2:mem:loadtest;DB_CLOSE_DELAY=-1";
+            args.add("--spring.datasource.driver-class-name=org.h2.Driver");
+        }
+        String username = System.getProperty("loadtest.datasource.username", "sa");
+        String password = System.getProperty("loadtest.datasource.password", "");
+        args.addAll(List.of(
+                "--spring.datasource.url=" + url,
+                "--spring.liquibase.url=" + url,
+                "--spring.datasource.username=" + username,
+                "--spring.datasource.password=" + password,
+                "--spring.liquibase.user=" + username,
+                "--spring.liquibase.password=" + password));
+        return args.toArray(String[]::new);
+    }
+
+    private static void print(List<EndpointReport> reports) throws IOException {
+        System.out.printf("%n%s%n", EndpointReport.HEADER);
+        reports.forEach(report -> System.out.println(report.toRow()));
+
+        List<String> csv = new ArrayList<>();
+        csv.add("endpoint,target_rate,requests,throughput,p50_ms,p99_ms,p999_ms,error_rate");
+        reports.forEach(report -> csv.add(report.toCsv()));
+        Files.write(Path.of("target", "loadtest-report.csv"), csv);
+    }
+
+    private interface RandomRequests {
+        IntFunction<HttpRequest.Builder> create(Random random);
+    }
+
+    private record Scenario(int rate, boolean stream, Supplier<IntFunction<HttpRequest.Builder>> requests) {
+
+        private Scenario(int rate, Supplier<IntFunction<HttpRequest.Builder>> requests) {
+            this(rate, false, requests);
+        }
+
+    }
+
+}
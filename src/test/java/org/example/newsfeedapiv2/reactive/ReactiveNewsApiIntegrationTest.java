@@ -0,0 +1,230 @@
+package org.example.newsfeedapiv2.reactive;
+
+import org.example.newsfeedapiv2.cache.LatestNewsBufferLoader;
+import org.example.newsfeedapiv2.dto.CategoryDTO;
+import org.example.newsfeedapiv2.dto.NewsDTO;
+import org.example.newsfeedapiv2.search.NewsSearchIndexLoader;
+import org.example.newsfeedapiv2.services.FeedSnapshotService;
+import org.example.newsfeedapiv2.services.NewsServiceImpl;
+import org.example.newsfeedapiv2.stream.NewsFeedBroadcaster;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs the reactive profile on its own in-memory H2 database, shared by the JDBC datasource that Liquibase
+ * migrates and the R2DBC connection factory.
+ */
+@ActiveProfiles("reactive")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.main.web-application-type=reactive",
+        "spring.datasource.url=jdbc:h2:mem:reactive_api;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.liquibase.url=jdbc:h2:mem:reactive_api;DB_CLOSE_DELAY=-1",
+        "spring.liquibase.user=sa",
+        "spring.liquibase.password=",
+        "spring.r2dbc.url=r2dbc:h2:mem:///reactive_api;DB_CLOSE_DELAY=-1",
+        "spring.r2dbc.username=sa",
+        "spring.r2dbc.password="})
+public class ReactiveNewsApiIntegrationTest {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Autowired
+    private ApplicationContext context;
+
+    private CategoryDTO category;
+
+    @BeforeEach
+    public void setUp() {
+        category = webTestClient.post().uri("/api/categories")
+                .bodyValue(new CategoryDTO().setTitle("Reactive " + UUID.randomUUID()))
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody(CategoryDTO.class)
+                .returnResult()
+                .getResponseBody();
+    }
+
+    @Nested
+    @DisplayName("Successful scenarios")
+    class SuccessfulScenarios {
+
+        @Test
+        @DisplayName("Create, read, update and delete news")
+        public void testNewsLifecycle() {
+            NewsDTO created = create("Title");
+
+            assertThat(created.getId()).isNotNull();
+            assertThat(created.getCategoryTitle()).isEqualTo(category.getTitle());
+            assertThat(created.getDate().getNano()).isZero();
+
+            webTestClient.get().uri("/api/news/{id}", created.getId())
+                    .exchange()
+                    .expectStatus().isOk()
+                    .expectBody()
+                    .jsonPath("$.title").isEqualTo("Title")
+                    .jsonPath("$.category").isEqualTo(category.getTitle());
+
+            webTestClient.put().uri("/api/news")
+                    .bodyValue(new NewsDTO()
+                            .setId(created.getId())
+                            .setTitle("Updated")
+                            .setText("Text")
+                            .setCategoryTitle(category.getTitle()))
+                    .exchange()
+                    .expectStatus().isOk()
+                    .expectBody()
+                    .jsonPath("$.title").isEqualTo("Updated");
+
+            webTestClient.delete().uri("/api/news/{id}", created.getId())
+                    .exchange()
+                    .expectStatus().isOk();
+
+            webTestClient.get().uri("/api/news/{id}", created.getId())
+                    .exchange()
+                    .expectStatus().isNotFound();
+        }
+
+        @Test
+        @DisplayName("Get news by category ID - Newest first")
+        public void testGetByCategoryId_Success() {
+            NewsDTO first = create("First");
+            NewsDTO second = create("Second");
+
+            List<NewsDTO> feed = webTestClient.get().uri("/api/news/category/{id}", category.getId())
+                    .exchange()
+                    .expectStatus().isOk()
+                    .expectHeader().contentType(MediaType.APPLICATION_JSON)
+                    .expectBodyList(NewsDTO.class)
+                    .returnResult()
+                    .getResponseBody();
+
+            assertThat(feed).extracting(NewsDTO::getId).containsExactly(second.getId(), first.getId());
+            assertThat(feed).allSatisfy(news -> assertThat(news.getDate().getNano()).isZero());
+        }
+
+        @Test
+        @DisplayName("Export news - Streamed as NDJSON")
+        public void testExport_Success() {
+            NewsDTO created = create("Exported");
+
+            List<NewsDTO> exported = webTestClient.get().uri("/api/news/export")
+                    .accept(MediaType.APPLICATION_NDJSON)
+                    .exchange()
+                    .expectStatus().isOk()
+                    .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+                    .returnResult(NewsDTO.class)
+                    .getResponseBody()
+                    .collectList()
+                    .block();
+
+            assertThat(exported).extracting(NewsDTO::getId).contains(created.getId());
+        }
+
+        @Test
+        @DisplayName("Update and delete category")
+        public void testCategoryLifecycle() {
+            webTestClient.put().uri("/api/categories")
+                    .bodyValue(new CategoryDTO().setId(category.getId()).setTitle(category.getTitle() + " renamed"))
+                    .exchange()
+                    .expectStatus().isOk();
+
+            webTestClient.get().uri("/api/categories/{id}", category.getId())
+                    .exchange()
+                    .expectStatus().isOk()
+                    .expectBody()
+                    .jsonPath("$.title").isEqualTo(category.getTitle() + " renamed");
+
+            webTestClient.delete().uri("/api/categories/{id}", category.getId())
+                    .exchange()
+                    .expectStatus().isAccepted()
+                    .expectHeader().exists("Location");
+        }
+
+        @Test
+        @DisplayName("Servlet-only loaders, snapshot service and broadcaster are not started")
+        public void testServletOnlyBeansAbsent() {
+            assertThat(context.getBeanNamesForType(NewsServiceImpl.class)).isEmpty();
+            assertThat(context.getBeanNamesForType(NewsSearchIndexLoader.class)).isEmpty();
+            assertThat(context.getBeanNamesForType(LatestNewsBufferLoader.class)).isEmpty();
+            assertThat(context.getBeanNamesForType(FeedSnapshotService.class)).isEmpty();
+            assertThat(context.getBeanNamesForType(NewsFeedBroadcaster.class)).isEmpty();
+        }
+
+    }
+
+    @Nested
+    @DisplayName("Not found scenarios")
+    class NotFoundScenarios {
+
+        @Test
+        @DisplayName("Get news by category ID - Not Found")
+        public void testGetByCategoryId_NotFound() {
+            webTestClient.get().uri("/api/news/category/{id}", -1)
+                    .exchange()
+                    .expectStatus().isNotFound()
+                    .expectBody()
+                    .jsonPath("$.message").isEqualTo("Category not found with id: -1");
+        }
+
+        @Test
+        @DisplayName("Create news - Category not found")
+        public void testCreate_CategoryNotFound() {
+            webTestClient.post().uri("/api/news")
+                    .bodyValue(new NewsDTO().setTitle("Title").setText("Text").setCategoryTitle("Missing"))
+                    .exchange()
+                    .expectStatus().isNotFound();
+        }
+
+        @Test
+        @DisplayName("Create category - Title already taken")
+        public void testCreateCategory_Conflict() {
+            webTestClient.post().uri("/api/categories")
+                    .bodyValue(new CategoryDTO().setTitle(category.getTitle()))
+                    .exchange()
+                    .expectStatus().isEqualTo(409)
+                    .expectBody()
+                    .jsonPath("$.message").isEqualTo("Category already exists with title: " + category.getTitle());
+        }
+
+        @Test
+        @DisplayName("Update category - Not Found")
+        public void testUpdateCategory_NotFound() {
+            webTestClient.put().uri("/api/categories")
+                    .bodyValue(new CategoryDTO().setId(-1L).setTitle("Missing"))
+                    .exchange()
+                    .expectStatus().isNotFound();
+        }
+
+    }
+
+    private NewsDTO create(String title) {
+        return webTestClient.post().uri("/api/news")
+                .bodyValue(new NewsDTO()
+                        .setTitle(title)
+                        .setText("Text")
+                        .setCategoryTitle(category.getTitle()))
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody(NewsDTO.class)
+                .returnResult()
+                .getResponseBody();
+    }
+
+}
@@ -1,14 +1,18 @@
 package org.example.newsfeedapiv2.repositories;
 
 import org.example.newsfeedapiv2.entity.Category;
+import org.example.newsfeedapiv2.entity.News;
+import org.example.newsfeedapiv2.projections.CategorySummary;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import org.springframework.test.context.ActiveProfiles;
 
+import java.time.Instant;
 import java.util.*;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -19,6 +23,9 @@ public class CategoryRepositoryIntegrationTest {
 
     @Autowired
     private CategoryRepository categoryRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
     private Category sampleCategory;
 
     @BeforeEach
@@ -44,6 +51,16 @@ public class CategoryRepositoryIntegrationTest {
                 .isEqualTo(expectedCategories);
     }
 
+    @Test
+    @DisplayName("Find all category summaries")
+    public void testFindAllCategorySummaries() {
+        List<CategorySummary> foundSummaries = categoryRepository.findAllSummaries();
+
+        assertThat(foundSummaries).hasSize(1);
+        assertThat(foundSummaries.get(0).getId()).isEqualTo(sampleCategory.getId());
+        assertThat(foundSummaries.get(0).getTitle()).isEqualTo(sampleCategory.getTitle());
+    }
+
     @Test
     @DisplayName("Find category by ID")
     public void testFindCategoryById() {
@@ -64,6 +81,23 @@ public class CategoryRepositoryIntegrationTest {
                 .isEqualTo(sampleCategory);
     }
 
+    @Test
+    @DisplayName("Find categories by titles")
+    public void testFindCategoriesByTitles() {
+        List<Category> foundCategories = categoryRepository.findByTitleIn(List.of(sampleCategory.getTitle(), "Missing"));
+
+        assertThat(foundCategories).containsExactly(sampleCategory);
+    }
+
+    @Test
+    @DisplayName("Find category version by ID")
+    public void testFindCategoryVersionById() {
+        entityManager.flush();
+
+        assertThat(categoryRepository.findVersionById(sampleCategory.getId()).orElseThrow().getVersion()).isZero();
+        assertThat(categoryRepository.findVersionById(-1L)).isEmpty();
+    }
+
     @Test
     @DisplayName("Update category")
     public void testUpdateCategory() {
@@ -93,4 +127,32 @@ public class CategoryRepositoryIntegrationTest {
         assertThat(isCategoryDeleted).isFalse();
     }
 
-}
\ No newline at end of file
+    @Test
+    @DisplayName("Update category title in a single statement")
+    public void testUpdateCategoryTitle() {
+        entityManager.flush();
+
+        int updated = categoryRepository.updateTitle(sampleCategory.getId(), "New title", Instant.now());
+        sampleCategory = categoryRepository.findById(sampleCategory.getId()).orElseThrow();
+
+        assertThat(updated).isEqualTo(1);
+        assertThat(sampleCategory.getTitle()).isEqualTo("New title");
+        assertThat(sampleCategory.getVersion()).isEqualTo(1);
+        assertThat(categoryRepository.updateTitle(-1L, "New title", Instant.now())).isZero();
+    }
+
+    @Test
+    @DisplayName("Delete category by ID in a single statement, cascading to its news")
+    public void testDeleteCategoryByIdInSingleStatement() {
+        News news = entityManager.persistFlushFind(new News()
+                .setTitle("Title")
+                .setText("Text")
+                .setCategory(sampleCategory));
+
+        assertThat(categoryRepository.deleteCategoryById(sampleCategory.getId())).isEqualTo(1);
+        assertThat(categoryRepository.existsById(sampleCategory.getId())).isFalse();
+        assertThat(entityManager.find(News.class, news.getId())).isNull();
+        assertThat(categoryRepository.deleteCategoryById(sampleCategory.getId())).isZero();
+    }
+
+}
@@ -0,0 +1,133 @@
+package org.example.newsfeedapiv2.repositories;
+
+import org.example.newsfeedapiv2.entity.Category;
+import org.example.newsfeedapiv2.entity.News;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:query_plan_db;DB_CLOSE_DELAY=-1",
+        "spring.liquibase.url=jdbc:h2:mem:query_plan_db;DB_CLOSE_DELAY=-1",
+        "spring.liquibase.user=sa",
+        "spring.liquibase.password=",
+        "spring.jpa.hibernate.ddl-auto=validate",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                + "org.example.newsfeedapiv2.repositories.NewsQueryPlanIntegrationTest$CapturingStatementInspector"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+public class NewsQueryPlanIntegrationTest {
+
+    @Autowired
+    private NewsRepository newsRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private DataSource dataSource;
+
+    private Category sampleCategory;
+    private News sampleNews;
+
+    @BeforeEach
+    public void setUp() {
+        sampleCategory = categoryRepository.save(new Category().setTitle("Title"));
+        sampleNews = newsRepository.save(new News()
+                .setTitle("Title")
+                .setText("Text")
+                .setCategory(sampleCategory));
+        entityManager.flush();
+        entityManager.clear();
+        CapturingStatementInspector.STATEMENTS.clear();
+    }
+
+    @Test
+    @DisplayName("Find category by title uses an index")
+    public void testFindCategoryByTitle_UsesIndex() throws SQLException {
+        categoryRepository.findByTitle(sampleCategory.getTitle());
+
+        assertThat(explainLastStatement()).contains("UQ_CATEGORIES_TITLE");
+    }
+
+    @Test
+    @DisplayName("Find news by category ID uses an index")
+    public void testFindNewsByCategoryId_UsesIndex() throws SQLException {
+        newsRepository.findByCategoryId(sampleCategory.getId());
+
+        assertThat(explainLastStatement()).doesNotContain("tableScan");
+    }
+
+    @Test
+    @DisplayName("Category feed pages use an index")
+    public void testFindNewsPagesByCategoryId_UsesIndex() throws SQLException {
+        newsRepository.findFirstPageByCategoryId(sampleCategory.getId(), Limit.of(20));
+        assertThat(explainLastStatement()).doesNotContain("tableScan");
+
+        newsRepository.findPageByCategoryIdAfter(sampleCategory.getId(), sampleNews.getDate(), sampleNews.getId(), Limit.of(20));
+        assertThat(explainLastStatement()).doesNotContain("tableScan");
+    }
+
+    @Test
+    @DisplayName("Global feed pages seek through the date index")
+    public void testFindNewsPages_UsesIndex() throws SQLException {
+        newsRepository.findFirstPage(Limit.of(20));
+        assertThat(explainLastStatement()).contains("IDX_NEWS_DATE_ID", "index sorted");
+
+        newsRepository.findPageAfter(sampleNews.getDate(), sampleNews.getId(), Limit.of(20));
+        assertThat(explainLastStatement()).contains("IDX_NEWS_DATE_ID: DATE <= ?", "index sorted");
+    }
+
+    @Test
+    @DisplayName("Archive chunks seek through the date index")
+    public void testFindKeysAfter_UsesIndex() throws SQLException {
+        newsRepository.findKeysAfter(sampleNews.getDate(), Long.MIN_VALUE, Limit.of(1000));
+        assertThat(explainLastStatement()).contains("IDX_NEWS_DATE_ID: DATE <= ?", "index sorted");
+    }
+
+    private String explainLastStatement() throws SQLException {
+        List<String> statements = CapturingStatementInspector.STATEMENTS;
+        assertThat(statements).isNotEmpty();
+
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement("EXPLAIN " + statements.get(statements.size() - 1));
+             ResultSet resultSet = statement.executeQuery()) {
+            resultSet.next();
+            return resultSet.getString(1);
+        }
+    }
+
+    public static class CapturingStatementInspector implements StatementInspector {
+
+        static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+
+    }
+
+}
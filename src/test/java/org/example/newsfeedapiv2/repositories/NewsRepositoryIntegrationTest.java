@@ -2,6 +2,9 @@ package org.example.newsfeedapiv2.repositories;
 
 import org.example.newsfeedapiv2.entity.Category;
 import org.example.newsfeedapiv2.entity.News;
+import org.example.newsfeedapiv2.projections.NewsVersion;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -9,14 +12,20 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Limit;
 import org.springframework.test.context.ActiveProfiles;
 
+import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
-@DataJpaTest
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
 @ActiveProfiles("test")
 public class NewsRepositoryIntegrationTest {
 
@@ -72,6 +81,7 @@ public class NewsRepositoryIntegrationTest {
     @Test
     @DisplayName("Find news by category ID")
     public void testFindNewsByCategoryId() {
+        entityManager.flush();
         entityManager.clear();
 
         Category foundCategory = entityManager.find(Category.class, sampleNews.getCategory().getId());
@@ -86,6 +96,126 @@ public class NewsRepositoryIntegrationTest {
         assertThat(foundNewsList.get(0).getDate()).isEqualTo(sampleNews.getDate());
     }
 
+    @Test
+    @DisplayName("Find news pages in date order")
+    public void testFindNewsPages() {
+        for (int i = 0; i < 4; i++) {
+            newsRepository.save(new News()
+                    .setTitle("Title " + i)
+                    .setText("Text")
+                    .setCategory(sampleNews.getCategory()));
+        }
+
+        List<News> expectedNewsList = newsRepository.findAll().stream()
+                .sorted(Comparator.comparing(News::getDate).thenComparing(News::getId).reversed())
+                .toList();
+
+        List<News> pagedNewsList = new ArrayList<>(newsRepository.findFirstPage(Limit.of(2)));
+        while (true) {
+            News last = pagedNewsList.get(pagedNewsList.size() - 1);
+            List<News> page = newsRepository.findPageAfter(last.getDate(), last.getId(), Limit.of(2));
+            if (page.isEmpty()) {
+                break;
+            }
+            assertThat(page).hasSizeLessThanOrEqualTo(2);
+            pagedNewsList.addAll(page);
+        }
+
+        assertThat(pagedNewsList).isEqualTo(expectedNewsList);
+    }
+
+    @Test
+    @DisplayName("Find news pages by category ID")
+    public void testFindNewsPagesByCategoryId() {
+        Category otherCategory = categoryRepository.save(new Category().setTitle("Other"));
+        News otherNews = newsRepository.save(new News()
+                .setTitle("Other")
+                .setText("Text")
+                .setCategory(otherCategory));
+
+        List<News> firstPage = newsRepository
+                .findFirstPageByCategoryId(sampleNews.getCategory().getId(), Limit.of(10));
+
+        assertThat(firstPage).containsExactly(sampleNews);
+
+        List<News> nextPage = newsRepository.findPageByCategoryIdAfter(
+                sampleNews.getCategory().getId(), sampleNews.getDate(), sampleNews.getId(), Limit.of(10));
+
+        assertThat(nextPage).isEmpty();
+
+        newsRepository.delete(otherNews);
+    }
+
+    @Test
+    @DisplayName("Stream all news")
+    public void testStreamAllNews() {
+        try (Stream<News> news = newsRepository.streamAll()) {
+            assertThat(news.toList()).containsExactly(sampleNews);
+        }
+    }
+
+    @Test
+    @DisplayName("Read news with categories in a single statement")
+    public void testReadNewsWithCategoriesInSingleStatement() {
+        for (int i = 0; i < 3; i++) {
+            Category category = categoryRepository.save(new Category().setTitle("Category " + i));
+            newsRepository.save(new News()
+                    .setTitle("Title " + i)
+                    .setText("Text")
+                    .setCategory(category));
+        }
+        Long categoryId = sampleNews.getCategory().getId();
+
+        assertSingleStatement(() -> newsRepository.findAll());
+        assertSingleStatement(() -> List.of(newsRepository.findById(sampleNews.getId()).orElseThrow()));
+        assertSingleStatement(() -> List.copyOf(newsRepository.findByCategoryId(categoryId)));
+        assertSingleStatement(() -> newsRepository.findFirstPage(Limit.of(10)));
+        assertSingleStatement(() -> newsRepository.findFirstPageByCategoryId(categoryId, Limit.of(10)));
+        assertSingleStatement(() -> {
+            try (Stream<News> news = newsRepository.streamAll()) {
+                return news.toList();
+            }
+        });
+    }
+
+    @Test
+    @DisplayName("Save news batch")
+    public void testSaveNewsBatch() {
+        List<News> newsList = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            newsList.add(new News()
+                    .setTitle("Title " + i)
+                    .setText("Text")
+                    .setCategory(sampleNews.getCategory()));
+        }
+
+        List<News> savedNewsList = newsRepository.saveAll(newsList);
+        entityManager.flush();
+
+        assertThat(savedNewsList)
+                .extracting(News::getId)
+                .doesNotContainNull()
+                .doesNotHaveDuplicates();
+        assertThat(newsRepository.count()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("Find news version by ID")
+    public void testFindNewsVersionById() {
+        entityManager.flush();
+        NewsVersion version = newsRepository.findVersionById(sampleNews.getId()).orElseThrow();
+
+        assertThat(version.getVersion()).isZero();
+        assertThat(version.getUpdatedAt()).isNotNull();
+        assertThat(version.getCategoryVersion()).isZero();
+
+        sampleNews.setTitle("New title");
+        newsRepository.saveAndFlush(sampleNews);
+
+        assertThat(newsRepository.findVersionById(sampleNews.getId()).orElseThrow().getVersion()).isEqualTo(1);
+        assertThat(newsRepository.findVersionById(-1L)).isEmpty();
+    }
+
     @Test
     @DisplayName("Update news")
     public void testUpdateNews() {
@@ -113,4 +243,64 @@ public class NewsRepositoryIntegrationTest {
         assertThat(isNewsDeleted).isFalse();
     }
 
+    @Test
+    @DisplayName("Update news content in a single statement")
+    public void testUpdateNewsContent() {
+        Category category = categoryRepository.save(new Category().setTitle("Other title"));
+        entityManager.flush();
+
+        int updated = newsRepository.updateContent(sampleNews.getId(), "New title", "New text", category,
+                Instant.now());
+        sampleNews = newsRepository.findById(sampleNews.getId()).orElseThrow();
+
+        assertThat(updated).isEqualTo(1);
+        assertThat(sampleNews.getTitle()).isEqualTo("New title");
+        assertThat(sampleNews.getText()).isEqualTo("New text");
+        assertThat(sampleNews.getCategory().getId()).isEqualTo(category.getId());
+        assertThat(sampleNews.getVersion()).isEqualTo(1);
+        assertThat(newsRepository.updateContent(-1L, "New title", "New text", category, Instant.now())).isZero();
+    }
+
+    @Test
+    @DisplayName("Patch only the given news columns")
+    public void testPatchNews() {
+        entityManager.flush();
+        Long categoryId = sampleNews.getCategory().getId();
+
+        int patched = newsRepository.patch(sampleNews.getId(), "New title", null, null, Instant.now());
+        sampleNews = newsRepository.findById(sampleNews.getId()).orElseThrow();
+
+        assertThat(patched).isEqualTo(1);
+        assertThat(sampleNews.getTitle()).isEqualTo("New title");
+        assertThat(sampleNews.getText()).isEqualTo("Text");
+        assertThat(sampleNews.getCategory().getId()).isEqualTo(categoryId);
+        assertThat(sampleNews.getVersion()).isEqualTo(1);
+        assertThat(newsRepository.patch(-1L, null, "New text", null, Instant.now())).isZero();
+    }
+
+    @Test
+    @DisplayName("Delete news by ID in a single statement")
+    public void testDeleteNewsByIdInSingleStatement() {
+        assertThat(newsRepository.deleteNewsById(sampleNews.getId())).isEqualTo(1);
+        assertThat(newsRepository.existsById(sampleNews.getId())).isFalse();
+        assertThat(newsRepository.deleteNewsById(sampleNews.getId())).isZero();
+    }
+
+    private void assertSingleStatement(Supplier<List<News>> query) {
+        entityManager.flush();
+        entityManager.clear();
+
+        Statistics statistics = entityManager.getEntityManager()
+                .getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.clear();
+
+        List<News> news = query.get();
+        news.forEach(n -> assertThat(n.getCategory().getTitle()).isNotNull());
+
+        assertThat(news).isNotEmpty();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
 }
\ No newline at end of file
@@ -0,0 +1,143 @@
+package org.example.newsfeedapiv2.search;
+
+import org.example.newsfeedapiv2.dto.NewsDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class NewsSearchIndexTest {
+
+    private NewsSearchIndex index;
+
+    @BeforeEach
+    public void setUp() {
+        index = new NewsSearchIndex();
+        index.index(news(1L, "Football final tonight", "The match starts at eight"));
+        index.index(news(2L, "Weather", "Rain expected during the football final"));
+        index.index(news(3L, "Elections", "Polling stations open at eight"));
+    }
+
+    @Test
+    @DisplayName("Search ranks title matches above text matches")
+    public void testSearch_RanksTitleMatchesFirst() {
+        List<NewsDTO> found = index.search("football final", 10);
+
+        assertThat(found).extracting(NewsDTO::getId).containsExactly(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("Search is case-insensitive and ignores punctuation")
+    public void testSearch_NormalizesTokens() {
+        assertThat(index.search("ELECTIONS!", 10)).extracting(NewsDTO::getId).containsExactly(3L);
+        assertThat(index.search("Новости", 10)).isEmpty();
+
+        index.index(news(4L, "Новости спорта", "Финал сегодня"));
+
+        assertThat(index.search("новости", 10)).extracting(NewsDTO::getId).containsExactly(4L);
+    }
+
+    @Test
+    @DisplayName("Search returns at most limit results")
+    public void testSearch_Limit() {
+        assertThat(index.search("eight", 1)).hasSize(1);
+        assertThat(index.search("eight", 10)).hasSize(2);
+        assertThat(index.search("unknown words", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Re-indexing replaces the old terms")
+    public void testIndex_ReplacesDocument() {
+        index.index(news(3L, "Elections postponed", "New date to be announced"));
+
+        assertThat(index.search("polling", 10)).isEmpty();
+        assertThat(index.search("postponed", 10)).extracting(NewsDTO::getId).containsExactly(3L);
+        assertThat(index.size()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Removed news are not found")
+    public void testRemove() {
+        index.remove(1L);
+
+        assertThat(index.search("football", 10)).extracting(NewsDTO::getId).containsExactly(2L);
+        assertThat(index.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Compaction keeps live documents searchable")
+    public void testCompaction() {
+        for (long id = 100; id < 3100; id++) {
+            index.index(news(id, "Bulk " + id, "filler text"));
+        }
+        for (long id = 100; id < 3000; id++) {
+            index.remove(id);
+        }
+
+        assertThat(index.size()).isEqualTo(103);
+        assertThat(index.search("filler", 200)).hasSize(100);
+        assertThat(index.search("football", 10)).extracting(NewsDTO::getId).containsExactly(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("Rebuild replaces the whole index")
+    public void testRebuild() {
+        index.rebuild(consumer -> consumer.accept(news(10L, "Fresh", "Only document")));
+
+        assertThat(index.size()).isEqualTo(1);
+        assertThat(index.search("football", 10)).isEmpty();
+        assertThat(index.search("fresh", 10)).extracting(NewsDTO::getId).containsExactly(10L);
+    }
+
+    @Test
+    @DisplayName("Rebuild keeps serving the old index and replays the updates made while it runs")
+    public void testRebuild_ConcurrentUpdates() {
+        index.rebuild(consumer -> {
+            consumer.accept(news(10L, "Fresh", "Built document"));
+            consumer.accept(news(11L, "Stale", "Exported before its update"));
+            CompletableFuture.runAsync(() -> {
+                assertThat(index.search("football", 10)).isNotEmpty();
+                index.index(news(11L, "Updated", "Changed during the rebuild"));
+                index.index(news(12L, "Created", "Written during the rebuild"));
+                index.remove(10L);
+            }).orTimeout(5, TimeUnit.SECONDS).join();
+        });
+
+        assertThat(index.size()).isEqualTo(2);
+        assertThat(index.search("football", 10)).isEmpty();
+        assertThat(index.search("fresh", 10)).isEmpty();
+        assertThat(index.search("stale", 10)).isEmpty();
+        assertThat(index.search("updated", 10)).extracting(NewsDTO::getId).containsExactly(11L);
+        assertThat(index.search("created", 10)).extracting(NewsDTO::getId).containsExactly(12L);
+    }
+
+    @Test
+    @DisplayName("Category renames and deletes reach the stored news")
+    public void testRenameAndRemoveCategory() {
+        index.index(news(4L, "Derby tonight", "Football again").setCategoryTitle("Sport"));
+        NewsDTO indexed = index.search("derby", 10).get(0);
+
+        index.renameCategory("Sport", "Sports");
+
+        assertThat(index.search("derby", 10)).extracting(NewsDTO::getCategoryTitle).containsExactly("Sports");
+        assertThat(indexed.getCategoryTitle()).isEqualTo("Sport");
+
+        index.removeCategory("Sports");
+
+        assertThat(index.search("derby", 10)).isEmpty();
+        assertThat(index.size()).isEqualTo(3);
+    }
+
+    private static NewsDTO news(Long id, String title, String text) {
+        return new NewsDTO()
+                .setId(id)
+                .setTitle(title)
+                .setText(text);
+    }
+
+}
@@ -0,0 +1,156 @@
+package org.example.newsfeedapiv2.services;
+
+import org.example.newsfeedapiv2.cache.NewsFeedCache;
+import org.example.newsfeedapiv2.dto.CategoryPurgeJobDTO;
+import org.example.newsfeedapiv2.entity.Category;
+import org.example.newsfeedapiv2.entity.News;
+import org.example.newsfeedapiv2.exceptions.NotFoundException;
+import org.example.newsfeedapiv2.repositories.CategoryRepository;
+import org.example.newsfeedapiv2.repositories.NewsArchiveRepository;
+import org.example.newsfeedapiv2.repositories.NewsRepository;
+import org.example.newsfeedapiv2.search.NewsSearchIndex;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+@SpringBootTest(properties = "news.purge.chunk-size=10")
+public class CategoryPurgeServiceIntegrationTest {
+
+    private static final int NEWS_COUNT = 25;
+    private static final int ARCHIVED_COUNT = 15;
+    private static final long ARCHIVED_FIRST_ID = 700_000L;
+
+    @Autowired
+    private CategoryPurgeService purgeService;
+
+    @Autowired
+    private NewsServiceImpl newsService;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private NewsRepository newsRepository;
+
+    @Autowired
+    private NewsArchiveRepository archiveRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private NewsSearchIndex searchIndex;
+
+    @Autowired
+    private NewsFeedCache feedCache;
+    private Category category;
+
+    @BeforeEach
+    public void setUp() {
+        category = categoryRepository.save(new Category().setTitle("Purge " + UUID.randomUUID()));
+        List<News> news = newsRepository.saveAll(IntStream.range(0, NEWS_COUNT)
+                .mapToObj(i -> new News()
+                        .setTitle("Purgeable " + i)
+                        .setText("Text")
+                        .setCategory(category))
+                .toList());
+        news.forEach(n -> searchIndex.index(newsService.mapToDTO(n)));
+    }
+
+    @AfterEach
+    public void tearDown() {
+        newsRepository.findIdsByCategoryIdAfter(category.getId(), Long.MIN_VALUE, Limit.unlimited())
+                .forEach(searchIndex::remove);
+        categoryRepository.deleteCategoryById(category.getId());
+    }
+
+    @Nested
+    @DisplayName("Successful scenarios")
+    class SuccessfulScenarios {
+
+        @Test
+        @DisplayName("Purge category - Deletes news in chunks, then the category")
+        public void testPurgeCategory_Success() throws InterruptedException {
+            newsService.getByCategoryId(category.getId());
+
+            CategoryPurgeJobDTO job = awaitFinished(purgeService.submit(category.getId()).getId());
+
+            assertThat(job.getStatus()).isEqualTo(CategoryPurgeJobDTO.Status.COMPLETED);
+            assertThat(job.getTotalNews()).isEqualTo(NEWS_COUNT);
+            assertThat(job.getDeletedNews()).isEqualTo(NEWS_COUNT);
+            assertThat(job.getChunks()).isEqualTo(3);
+            assertThat(job.getFinishedAt()).isAfterOrEqualTo(job.getStartedAt());
+            assertThat(job.getError()).isNull();
+
+            assertThat(categoryRepository.existsById(category.getId())).isFalse();
+            assertThat(newsRepository.countByCategoryId(category.getId())).isZero();
+            assertThat(searchIndex.search("purgeable", 100)).isEmpty();
+            assertThat(feedCache.get(category.getId())).isEmpty();
+        }
+
+        @Test
+        @DisplayName("Purge category - Deletes archived news in chunks before the category")
+        public void testPurgeCategory_ArchivedNews() throws InterruptedException {
+            IntStream.range(0, ARCHIVED_COUNT).forEach(i -> jdbcTemplate.update("""
+                            insert into news_archive (id, title, text, date, category_id)
+                            values (?, ?, 'Text', current_timestamp, ?)""",
+                    ARCHIVED_FIRST_ID + i, "Archived " + i, category.getId()));
+
+            CategoryPurgeJobDTO job = awaitFinished(purgeService.submit(category.getId()).getId());
+
+            assertThat(job.getStatus()).isEqualTo(CategoryPurgeJobDTO.Status.COMPLETED);
+            assertThat(job.getTotalNews()).isEqualTo(NEWS_COUNT + ARCHIVED_COUNT);
+            assertThat(job.getDeletedNews()).isEqualTo(NEWS_COUNT + ARCHIVED_COUNT);
+            assertThat(job.getChunks()).isEqualTo(5);
+            assertThat(archiveRepository.countByCategoryId(category.getId())).isZero();
+            assertThat(categoryRepository.existsById(category.getId())).isFalse();
+        }
+
+    }
+
+    @Nested
+    @DisplayName("Not found scenarios")
+    class NotFoundScenarios {
+
+        @Test
+        @DisplayName("Purge category - Not Found")
+        public void testPurgeCategory_NotFound() {
+            assertThatExceptionOfType(NotFoundException.class)
+                    .isThrownBy(() -> purgeService.submit(-1L));
+        }
+
+        @Test
+        @DisplayName("Get purge job - Not Found")
+        public void testGetPurgeJob_NotFound() {
+            assertThatExceptionOfType(NotFoundException.class)
+                    .isThrownBy(() -> purgeService.getById(UUID.randomUUID()));
+        }
+
+    }
+
+    private CategoryPurgeJobDTO awaitFinished(UUID jobId) throws InterruptedException {
+        for (int attempt = 0; attempt < 100; attempt++) {
+            CategoryPurgeJobDTO job = purgeService.getById(jobId);
+            if (job.getStatus() == CategoryPurgeJobDTO.Status.COMPLETED
+                    || job.getStatus() == CategoryPurgeJobDTO.Status.FAILED) {
+                return job;
+            }
+            Thread.sleep(100);
+        }
+        throw new AssertionError("Purge job " + jobId + " did not finish in time");
+    }
+
+}
@@ -1,12 +1,20 @@
 package org.example.newsfeedapiv2.services;
 
+import org.example.newsfeedapiv2.cache.CategoryCache;
+import org.example.newsfeedapiv2.cache.NewsFeedCache;
 import org.example.newsfeedapiv2.dto.CategoryDTO;
 import org.example.newsfeedapiv2.dto.NewsDTO;
+import org.example.newsfeedapiv2.dto.ResourceVersion;
 import org.example.newsfeedapiv2.entity.Category;
+import org.example.newsfeedapiv2.exceptions.BadRequestException;
+import org.example.newsfeedapiv2.exceptions.ConflictException;
 import org.example.newsfeedapiv2.exceptions.NotFoundException;
 import org.example.newsfeedapiv2.mappers.CategoryMapper;
+import org.example.newsfeedapiv2.projections.CategorySummary;
 import org.example.newsfeedapiv2.repositories.CategoryRepository;
+import org.example.newsfeedapiv2.search.NewsSearchIndex;
 import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -14,6 +22,9 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.projection.ProjectionFactory;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
 import java.time.Instant;
@@ -36,9 +47,19 @@ public class CategoryServiceImplIntegrationTest {
     @Autowired
     private CategoryMapper categoryMapper;
 
+    @Autowired
+    private CategoryCache categoryCache;
+
+    @Autowired
+    private NewsFeedCache feedCache;
+
+    @Autowired
+    private NewsSearchIndex searchIndex;
+
     @MockBean
     private CategoryRepository categoryRepository;
     private static CategoryDTO sampleCategoryDTO;
+    private final ProjectionFactory projectionFactory = new SpelAwareProxyProjectionFactory();
 
     @BeforeAll
     public static void setUp() {
@@ -54,6 +75,12 @@ public class CategoryServiceImplIntegrationTest {
                 .setNewsList(Collections.singletonList(news));
     }
 
+    @BeforeEach
+    public void clearCache() {
+        categoryCache.invalidateAll();
+        feedCache.invalidateAll();
+    }
+
     @Nested
     @DisplayName("Successful scenarios")
     class SuccessfulScenarios {
@@ -61,10 +88,12 @@ public class CategoryServiceImplIntegrationTest {
         @Test
         @DisplayName("Get all categories - Success")
         public void testGelAllCategories_Success() {
-            Collection<CategoryDTO> expectedCategoryDTOList = Collections.singletonList(sampleCategoryDTO);
+            Collection<CategoryDTO> expectedCategoryDTOList = Collections.singletonList(new CategoryDTO()
+                    .setId(sampleCategoryDTO.getId())
+                    .setTitle(sampleCategoryDTO.getTitle()));
 
-            when(categoryRepository.findAll()).thenReturn(expectedCategoryDTOList.stream()
-                    .map(categoryMapper::mapToEntity)
+            when(categoryRepository.findAllSummaries()).thenReturn(expectedCategoryDTOList.stream()
+                    .map(c -> projectionFactory.createProjection(CategorySummary.class, categoryMapper.mapToEntity(c)))
                     .toList()
             );
 
@@ -75,7 +104,8 @@ public class CategoryServiceImplIntegrationTest {
                     .isNotEmpty()
                     .isEqualTo(expectedCategoryDTOList);
 
-            verify(categoryRepository, times(1)).findAll();
+            verify(categoryRepository, times(1)).findAllSummaries();
+            verify(categoryRepository, never()).findAll();
         }
 
         @Test
@@ -90,7 +120,10 @@ public class CategoryServiceImplIntegrationTest {
 
             assertThat(foundCategoryDTO)
                     .isNotNull()
+                    .usingRecursiveComparison()
+                    .ignoringFields("newsList")
                     .isEqualTo(sampleCategoryDTO);
+            assertThat(foundCategoryDTO.getNewsList()).isNull();
 
             verify(categoryRepository, times(1)).findById(sampleCategoryDTO.getId());
         }
@@ -106,6 +139,8 @@ public class CategoryServiceImplIntegrationTest {
 
             assertThat(createdCategoryDTO)
                     .isNotNull()
+                    .usingRecursiveComparison()
+                    .ignoringFields("newsList")
                     .isEqualTo(sampleCategoryDTO);
 
             verify(categoryRepository, times(1)).save(category);
@@ -114,27 +149,44 @@ public class CategoryServiceImplIntegrationTest {
         @Test
         @DisplayName("Update category - Success")
         public void testUpdateCategory_Success() {
-            Category category = categoryMapper.mapToEntity(sampleCategoryDTO);
+            CategoryDTO expectedCategoryDTO = new CategoryDTO()
+                    .setId(sampleCategoryDTO.getId())
+                    .setTitle(sampleCategoryDTO.getTitle());
 
-            when(categoryRepository.findById(sampleCategoryDTO.getId())).thenReturn(Optional.of(category));
-            when(categoryRepository.save(any(Category.class))).thenReturn(category);
+            when(categoryRepository.updateTitle(eq(sampleCategoryDTO.getId()), eq(sampleCategoryDTO.getTitle()),
+                    any(Instant.class))).thenReturn(1);
 
             CategoryDTO updatedCategoryDTO = categoryService.update(sampleCategoryDTO);
 
             assertThat(updatedCategoryDTO)
                     .isNotNull()
-                    .isEqualTo(sampleCategoryDTO);
+                    .isEqualTo(expectedCategoryDTO);
 
-            verify(categoryRepository, times(1)).findById(sampleCategoryDTO.getId());
-            verify(categoryRepository, times(1)).save(category);
+            verify(categoryRepository, times(1)).updateTitle(eq(sampleCategoryDTO.getId()),
+                    eq(sampleCategoryDTO.getTitle()), any(Instant.class));
+            verify(categoryRepository, never()).findById(sampleCategoryDTO.getId());
+            verify(categoryRepository, never()).save(any(Category.class));
+        }
+
+        @Test
+        @DisplayName("Patch category - Success")
+        public void testPatchCategory_Success() {
+            when(categoryRepository.updateTitle(eq(sampleCategoryDTO.getId()), eq("Renamed"), any(Instant.class)))
+                    .thenReturn(1);
+
+            CategoryDTO patchedCategoryDTO = categoryService.patch(sampleCategoryDTO.getId(),
+                    new CategoryDTO().setTitle("Renamed"));
+
+            assertThat(patchedCategoryDTO.getId()).isEqualTo(sampleCategoryDTO.getId());
+            assertThat(patchedCategoryDTO.getTitle()).isEqualTo("Renamed");
+
+            verify(categoryRepository, never()).findById(sampleCategoryDTO.getId());
         }
 
         @Test
         @DisplayName("Delete category by ID - Success")
         public void deleteCategoryById_Success() {
-            Category category = categoryMapper.mapToEntity(sampleCategoryDTO);
-
-            when(categoryRepository.findById(sampleCategoryDTO.getId())).thenReturn(Optional.of(category));
+            when(categoryRepository.deleteCategoryById(sampleCategoryDTO.getId())).thenReturn(1);
 
             categoryService.delete(sampleCategoryDTO.getId());
 
@@ -142,7 +194,9 @@ public class CategoryServiceImplIntegrationTest {
 
             assertThat(isCategoryDeleted).isFalse();
 
-            verify(categoryRepository, times(1)).deleteById(sampleCategoryDTO.getId());
+            verify(categoryRepository, times(1)).deleteCategoryById(sampleCategoryDTO.getId());
+            verify(categoryRepository, never()).findById(sampleCategoryDTO.getId());
+            verify(categoryRepository, never()).deleteById(sampleCategoryDTO.getId());
         }
 
         @Test
@@ -161,6 +215,75 @@ public class CategoryServiceImplIntegrationTest {
             verify(categoryRepository, times(1)).findByTitle(sampleCategoryDTO.getTitle());
         }
 
+        @Test
+        @DisplayName("Get category by title - Served from cache")
+        public void getCategoryByTitle_Cached() {
+            Category category = categoryMapper.mapToEntity(sampleCategoryDTO)
+                    .setVersion(2L)
+                    .setUpdatedAt(Instant.now());
+
+            when(categoryRepository.findByTitle(sampleCategoryDTO.getTitle())).thenReturn(Optional.of(category));
+            long hits = categoryCache.getStats().hits();
+
+            categoryService.getCategoryByTitleOrThrow(sampleCategoryDTO.getTitle());
+            Category cachedCategory = categoryService.getCategoryByTitleOrThrow(sampleCategoryDTO.getTitle());
+
+            assertThat(cachedCategory).isEqualTo(category);
+            assertThat(categoryService.existsById(sampleCategoryDTO.getId())).isTrue();
+            assertThat(categoryCache.getStats().hits()).isEqualTo(hits + 2);
+
+            verify(categoryRepository, times(1)).findByTitle(sampleCategoryDTO.getTitle());
+            verify(categoryRepository, never()).existsById(sampleCategoryDTO.getId());
+        }
+
+        @Test
+        @DisplayName("Update category - Invalidates cache")
+        public void testUpdateCategory_InvalidatesCache() {
+            Category category = categoryMapper.mapToEntity(sampleCategoryDTO);
+
+            when(categoryRepository.findByTitle(sampleCategoryDTO.getTitle())).thenReturn(Optional.of(category));
+            when(categoryRepository.updateTitle(eq(sampleCategoryDTO.getId()), eq("Renamed"), any(Instant.class)))
+                    .thenReturn(1);
+
+            categoryService.getCategoryByTitleOrThrow(sampleCategoryDTO.getTitle());
+            feedCache.put(sampleCategoryDTO.getId(), sampleCategoryDTO.getNewsList(),
+                    new ResourceVersion("feed-1-0-1-1-0", null), feedCache.stamp(sampleCategoryDTO.getId()));
+            categoryService.update(new CategoryDTO()
+                    .setId(sampleCategoryDTO.getId())
+                    .setTitle("Renamed"));
+
+            assertThat(categoryCache.getByTitle(sampleCategoryDTO.getTitle())).isEmpty();
+            assertThat(categoryCache.getById(sampleCategoryDTO.getId())).isEmpty();
+            assertThat(feedCache.get(sampleCategoryDTO.getId())).isEmpty();
+        }
+
+        @Test
+        @DisplayName("Update and delete category - Search index follows")
+        public void testUpdateAndDeleteCategory_UpdatesSearchIndex() {
+            searchIndex.index(new NewsDTO()
+                    .setId(-100L)
+                    .setTitle("Quokka sighting")
+                    .setText("Text")
+                    .setCategoryTitle("Wildlife"));
+
+            when(categoryRepository.findTitleById(sampleCategoryDTO.getId())).thenReturn(Optional.of("Wildlife"));
+            when(categoryRepository.updateTitle(eq(sampleCategoryDTO.getId()), eq("Animals"), any(Instant.class)))
+                    .thenReturn(1);
+            categoryService.update(new CategoryDTO()
+                    .setId(sampleCategoryDTO.getId())
+                    .setTitle("Animals"));
+
+            assertThat(searchIndex.search("quokka", 10))
+                    .extracting(NewsDTO::getCategoryTitle)
+                    .containsExactly("Animals");
+
+            when(categoryRepository.findTitleById(sampleCategoryDTO.getId())).thenReturn(Optional.of("Animals"));
+            when(categoryRepository.deleteCategoryById(sampleCategoryDTO.getId())).thenReturn(1);
+            categoryService.delete(sampleCategoryDTO.getId());
+
+            assertThat(searchIndex.search("quokka", 10)).isEmpty();
+        }
+
     }
 
     @Nested
@@ -188,10 +311,48 @@ public class CategoryServiceImplIntegrationTest {
         @Test
         @DisplayName("Delete category by ID - Not Found")
         public void deleteCategoryById_NotFound() {
-            when(categoryRepository.findById(sampleCategoryDTO.getId())).thenReturn(Optional.empty());
+            when(categoryRepository.deleteCategoryById(sampleCategoryDTO.getId())).thenReturn(0);
 
             assertThatExceptionOfType(NotFoundException.class)
                     .isThrownBy(() -> categoryService.delete(sampleCategoryDTO.getId()));
+
+            verify(categoryRepository, never()).findById(sampleCategoryDTO.getId());
+        }
+
+        @Test
+        @DisplayName("Patch category - Empty patch")
+        public void patchCategory_EmptyPatch() {
+            assertThatExceptionOfType(BadRequestException.class)
+                    .isThrownBy(() -> categoryService.patch(sampleCategoryDTO.getId(), new CategoryDTO()));
+
+            verify(categoryRepository, never()).updateTitle(any(), any(), any());
+        }
+
+        @Test
+        @DisplayName("Update category - Not Found")
+        public void updateCategory_NotFound() {
+            when(categoryRepository.updateTitle(eq(sampleCategoryDTO.getId()), any(), any(Instant.class)))
+                    .thenReturn(0);
+
+            assertThatExceptionOfType(NotFoundException.class)
+                    .isThrownBy(() -> categoryService.update(sampleCategoryDTO));
+
+            verify(categoryRepository, never()).save(any(Category.class));
+        }
+
+        @Test
+        @DisplayName("Create and update category - Title already taken")
+        public void createAndUpdateCategory_TitleTaken() {
+            when(categoryRepository.save(any(Category.class)))
+                    .thenThrow(new DataIntegrityViolationException("uq_categories_title"));
+            when(categoryRepository.updateTitle(eq(sampleCategoryDTO.getId()), any(), any(Instant.class)))
+                    .thenThrow(new DataIntegrityViolationException("uq_categories_title"));
+
+            assertThatExceptionOfType(ConflictException.class)
+                    .isThrownBy(() -> categoryService.create(sampleCategoryDTO))
+                    .withMessage("Category already exists with title: " + sampleCategoryDTO.getTitle());
+            assertThatExceptionOfType(ConflictException.class)
+                    .isThrownBy(() -> categoryService.update(sampleCategoryDTO));
         }
 
     }
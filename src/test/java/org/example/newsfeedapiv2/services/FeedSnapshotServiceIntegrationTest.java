@@ -0,0 +1,133 @@
+package org.example.newsfeedapiv2.services;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.newsfeedapiv2.cache.FeedSnapshot;
+import org.example.newsfeedapiv2.cache.NewsFeedCache;
+import org.example.newsfeedapiv2.dto.NewsDTO;
+import org.example.newsfeedapiv2.entity.Category;
+import org.example.newsfeedapiv2.exceptions.NotFoundException;
+import org.example.newsfeedapiv2.repositories.CategoryRepository;
+import org.example.newsfeedapiv2.search.NewsSearchIndex;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+@SpringBootTest(properties = "server.compression.min-response-size=1B")
+public class FeedSnapshotServiceIntegrationTest {
+
+    @Autowired
+    private FeedSnapshotService snapshotService;
+
+    @Autowired
+    private NewsServiceImpl newsService;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private NewsFeedCache feedCache;
+
+    @Autowired
+    private NewsSearchIndex searchIndex;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+    private Category category;
+    private final List<NewsDTO> created = new ArrayList<>();
+
+    @BeforeEach
+    public void setUp() {
+        category = categoryRepository.save(new Category().setTitle("Snapshot " + UUID.randomUUID()));
+        created.add(create("First"));
+    }
+
+    @AfterEach
+    public void tearDown() {
+        created.forEach(news -> searchIndex.remove(news.getId()));
+        categoryRepository.deleteCategoryById(category.getId());
+        feedCache.invalidate(category.getId());
+    }
+
+    @Nested
+    @DisplayName("Successful scenarios")
+    class SuccessfulScenarios {
+
+        @Test
+        @DisplayName("Get feed snapshot - JSON and gzip of the feed, cached")
+        public void testGetByCategoryId_Success() throws IOException {
+            FeedSnapshot snapshot = snapshotService.getByCategoryId(category.getId());
+
+            assertThat(snapshot.json())
+                    .isEqualTo(objectMapper.writeValueAsBytes(newsService.getByCategoryId(category.getId())));
+            assertThat(gunzip(snapshot.gzip())).isEqualTo(snapshot.json());
+            assertThat(snapshot.version()).isEqualTo(newsService.getFeedByCategoryId(category.getId()).version());
+            assertThat(snapshotService.getByCategoryId(category.getId())).isSameAs(snapshot);
+        }
+
+        @Test
+        @DisplayName("Get feed snapshot - Rebuilt in the background after a write")
+        public void testGetByCategoryId_RebuiltAfterWrite() throws Exception {
+            FeedSnapshot before = snapshotService.getByCategoryId(category.getId());
+
+            created.add(create("Second"));
+
+            FeedSnapshot after = awaitSnapshot(before);
+            assertThat(objectMapper.readTree(after.json())).hasSize(2);
+        }
+
+    }
+
+    @Nested
+    @DisplayName("Not found scenarios")
+    class NotFoundScenarios {
+
+        @Test
+        @DisplayName("Get feed snapshot - Not Found")
+        public void testGetByCategoryId_NotFound() {
+            assertThatExceptionOfType(NotFoundException.class)
+                    .isThrownBy(() -> snapshotService.getByCategoryId(-1L));
+        }
+
+    }
+
+    private NewsDTO create(String title) {
+        return newsService.create(new NewsDTO()
+                .setTitle(title)
+                .setText("Text")
+                .setCategoryTitle(category.getTitle()));
+    }
+
+    private FeedSnapshot awaitSnapshot(FeedSnapshot previous) throws InterruptedException {
+        for (int attempt = 0; attempt < 100; attempt++) {
+            Optional<FeedSnapshot> snapshot = feedCache.getSnapshot(category.getId());
+            if (snapshot.isPresent() && snapshot.get() != previous) {
+                return snapshot.get();
+            }
+            Thread.sleep(50);
+        }
+        throw new AssertionError("Feed snapshot of category " + category.getId() + " was not rebuilt");
+    }
+
+    private static byte[] gunzip(byte[] gzip) throws IOException {
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(gzip))) {
+            return in.readAllBytes();
+        }
+    }
+
+}
@@ -0,0 +1,131 @@
+package org.example.newsfeedapiv2.services;
+
+import org.example.newsfeedapiv2.cache.NewsFeedCache;
+import org.example.newsfeedapiv2.dto.NewsDTO;
+import org.example.newsfeedapiv2.entity.Category;
+import org.example.newsfeedapiv2.entity.News;
+import org.example.newsfeedapiv2.repositories.CategoryRepository;
+import org.example.newsfeedapiv2.repositories.NewsArchiveRepository;
+import org.example.newsfeedapiv2.repositories.NewsRepository;
+import org.example.newsfeedapiv2.search.NewsSearchIndex;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {"news.archive.chunk-size=10", "news.archive.pause=0ms"})
+public class NewsArchiveServiceIntegrationTest {
+
+    private static final int NEWS_COUNT = 25;
+    private static final int OLD_NEWS_COUNT = 20;
+    private static final Duration MAX_AGE = Duration.ofDays(365);
+
+    @Autowired
+    private NewsArchiveService archiveService;
+
+    @Autowired
+    private NewsServiceImpl newsService;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private NewsRepository newsRepository;
+
+    @Autowired
+    private NewsArchiveRepository archiveRepository;
+
+    @Autowired
+    private NewsSearchIndex searchIndex;
+
+    @Autowired
+    private NewsFeedCache feedCache;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    private Category category;
+    private List<News> news;
+
+    @BeforeEach
+    public void setUp() {
+        category = categoryRepository.save(new Category().setTitle("Archive " + UUID.randomUUID()));
+        news = newsRepository.saveAll(IntStream.range(0, NEWS_COUNT)
+                .mapToObj(i -> new News()
+                        .setTitle("Archivable " + i)
+                        .setText("Text")
+                        .setCategory(category))
+                .toList());
+        news.forEach(n -> searchIndex.index(newsService.mapToDTO(n)));
+
+        Timestamp published = Timestamp.from(Instant.now().minus(MAX_AGE).minus(Duration.ofDays(30)));
+        news.subList(0, OLD_NEWS_COUNT)
+                .forEach(n -> jdbcTemplate.update("update news set date = ? where id = ?", published, n.getId()));
+    }
+
+    @AfterEach
+    public void tearDown() {
+        newsRepository.findIdsByCategoryIdAfter(category.getId(), Long.MIN_VALUE, Limit.unlimited())
+                .forEach(searchIndex::remove);
+        categoryRepository.deleteCategoryById(category.getId());
+    }
+
+    @Nested
+    @DisplayName("Successful scenarios")
+    class SuccessfulScenarios {
+
+        @Test
+        @DisplayName("Archive news - Moves old news in chunks, keeps recent ones")
+        public void testArchiveOlderThan_Success() {
+            newsService.getByCategoryId(category.getId());
+
+            long archived = archiveService.archiveOlderThan(Instant.now().minus(MAX_AGE));
+
+            assertThat(archived).isEqualTo(OLD_NEWS_COUNT);
+            assertThat(newsRepository.countByCategoryId(category.getId())).isEqualTo(NEWS_COUNT - OLD_NEWS_COUNT);
+            assertThat(archiveRepository.findAllById(news.stream().map(News::getId).toList()))
+                    .hasSize(OLD_NEWS_COUNT);
+            assertThat(searchIndex.search("archivable", 100)).hasSize(NEWS_COUNT - OLD_NEWS_COUNT);
+            assertThat(feedCache.get(category.getId())).isEmpty();
+        }
+
+        @Test
+        @DisplayName("Get news by ID - Archived news stay readable")
+        public void testGetById_Archived() {
+            News oldest = news.get(0);
+            String eTag = newsService.getVersionById(oldest.getId()).eTag();
+
+            archiveService.archiveOlderThan(Instant.now().minus(MAX_AGE));
+            NewsDTO archived = newsService.getById(oldest.getId());
+
+            assertThat(newsRepository.existsById(oldest.getId())).isFalse();
+            assertThat(archived.getTitle()).isEqualTo(oldest.getTitle());
+            assertThat(archived.getCategoryTitle()).isEqualTo(category.getTitle());
+            assertThat(newsService.getVersionById(oldest.getId()).eTag()).isEqualTo(eTag);
+        }
+
+        @Test
+        @DisplayName("Archive news - Nothing to archive")
+        public void testArchiveOlderThan_NothingOld() {
+            long archived = archiveService.archiveOlderThan(Instant.now().minus(MAX_AGE).minus(Duration.ofDays(60)));
+
+            assertThat(archived).isZero();
+            assertThat(newsRepository.countByCategoryId(category.getId())).isEqualTo(NEWS_COUNT);
+        }
+
+    }
+
+}
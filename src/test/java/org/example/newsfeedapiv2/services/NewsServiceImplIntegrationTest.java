@@ -1,25 +1,41 @@
 package org.example.newsfeedapiv2.services;
 
+import org.example.newsfeedapiv2.cache.CategoryCache;
+import org.example.newsfeedapiv2.cache.LatestNewsBuffer;
+import org.example.newsfeedapiv2.cache.NewsFeed;
+import org.example.newsfeedapiv2.cache.NewsFeedCache;
+import org.example.newsfeedapiv2.dto.NewsBatchItemDTO;
 import org.example.newsfeedapiv2.dto.NewsDTO;
+import org.example.newsfeedapiv2.dto.NewsPatchDTO;
+import org.example.newsfeedapiv2.dto.NewsPageDTO;
+import org.example.newsfeedapiv2.dto.ResourceVersion;
+import org.example.newsfeedapiv2.entity.ArchivedNews;
 import org.example.newsfeedapiv2.entity.Category;
 import org.example.newsfeedapiv2.entity.News;
+import org.example.newsfeedapiv2.exceptions.BadRequestException;
 import org.example.newsfeedapiv2.exceptions.NotFoundException;
 import org.example.newsfeedapiv2.mappers.NewsMapper;
+import org.example.newsfeedapiv2.projections.NewsVersion;
 import org.example.newsfeedapiv2.repositories.CategoryRepository;
+import org.example.newsfeedapiv2.repositories.NewsArchiveRepository;
 import org.example.newsfeedapiv2.repositories.NewsRepository;
+import org.example.newsfeedapiv2.search.NewsSearchIndex;
 import org.junit.jupiter.api.*;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.domain.Limit;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
@@ -38,6 +54,21 @@ public class NewsServiceImplIntegrationTest {
     @MockBean
     private NewsRepository newsRepository;
 
+    @MockBean
+    private NewsArchiveRepository archiveRepository;
+
+    @Autowired
+    private CategoryCache categoryCache;
+
+    @Autowired
+    private NewsSearchIndex searchIndex;
+
+    @Autowired
+    private NewsFeedCache feedCache;
+
+    @Autowired
+    private LatestNewsBuffer latestNews;
+
     @MockBean
     private CategoryRepository categoryRepository;
     private static NewsDTO sampleNewsDTO;
@@ -57,6 +88,13 @@ public class NewsServiceImplIntegrationTest {
                 .setTitle(sampleNewsDTO.getCategoryTitle());
     }
 
+    @BeforeEach
+    public void clearCache() {
+        categoryCache.invalidateAll();
+        feedCache.invalidateAll();
+        latestNews.invalidateAll();
+    }
+
     @Nested
     @DisplayName("Successful scenarios")
     class SuccessfulScenarios {
@@ -101,6 +139,25 @@ public class NewsServiceImplIntegrationTest {
             verify(newsRepository, times(1)).findById(sampleNewsDTO.getId());
         }
 
+        @Test
+        @DisplayName("Get news by ID - Falls back to the archive")
+        public void testGetNewsById_Archived() {
+            ArchivedNews archived = new ArchivedNews()
+                    .setId(sampleNewsDTO.getId())
+                    .setTitle(sampleNewsDTO.getTitle())
+                    .setText(sampleNewsDTO.getText())
+                    .setDate(sampleNewsDTO.getDate())
+                    .setCategory(sampleCategory);
+
+            when(newsRepository.findById(sampleNewsDTO.getId())).thenReturn(Optional.empty());
+            when(archiveRepository.findById(sampleNewsDTO.getId())).thenReturn(Optional.of(archived));
+
+            NewsDTO foundNewsDTO = newsService.getById(sampleNewsDTO.getId());
+
+            assertThat(foundNewsDTO).isEqualTo(sampleNewsDTO);
+            verify(archiveRepository, times(1)).findById(sampleNewsDTO.getId());
+        }
+
         @Test
         @DisplayName("Get news by Category ID - Success")
         public void testGetNewsByCategoryId_Success() {
@@ -109,7 +166,6 @@ public class NewsServiceImplIntegrationTest {
             News news = newsMapper.mapToEntity(sampleNewsDTO).setCategory(sampleCategory);
             sampleCategory.setNewsList(Collections.singletonList(news));
 
-            when(categoryRepository.existsById(sampleCategory.getId())).thenReturn(true);
             when(newsRepository.findByCategoryId(sampleCategory.getId()))
                     .thenReturn(expectedNewsDTOList.stream()
                             .map(n -> {
@@ -126,10 +182,205 @@ public class NewsServiceImplIntegrationTest {
                     .isNotEmpty()
                     .isEqualTo(expectedNewsDTOList);
 
+            verify(categoryRepository, times(0)).existsById(sampleCategory.getId());
+            verify(newsRepository, times(1)).findByCategoryId(sampleCategory.getId());
+        }
+
+        @Test
+        @DisplayName("Get news by Category ID - Empty category")
+        public void testGetNewsByCategoryId_EmptyCategory() {
+            when(newsRepository.findByCategoryId(sampleCategory.getId())).thenReturn(Collections.emptyList());
+            when(categoryRepository.existsById(sampleCategory.getId())).thenReturn(true);
+
+            List<NewsDTO> foundNewsDTOList = newsService.getByCategoryId(sampleCategory.getId());
+
+            assertThat(foundNewsDTOList).isEmpty();
+
+            verify(newsRepository, times(1)).findByCategoryId(sampleCategory.getId());
             verify(categoryRepository, times(1)).existsById(sampleCategory.getId());
+        }
+
+        @Test
+        @DisplayName("Get news by Category ID - Served from cache")
+        public void testGetNewsByCategoryId_ServedFromCache() {
+            News news = newsMapper.mapToEntity(sampleNewsDTO).setCategory(sampleCategory);
+
+            when(newsRepository.findByCategoryId(sampleCategory.getId())).thenReturn(List.of(news));
+
+            newsService.getByCategoryId(sampleCategory.getId());
+            NewsFeed feed = newsService.getFeedByCategoryId(sampleCategory.getId());
+
+            assertThat(feed.news()).containsExactly(sampleNewsDTO);
+            assertThat(feed.version()).isEqualTo(NewsFeed.versionOf(sampleCategory.getId(), List.of(sampleNewsDTO)));
+            assertThat(feedCache.getStats().hits()).isEqualTo(1);
+
             verify(newsRepository, times(1)).findByCategoryId(sampleCategory.getId());
         }
 
+        @Test
+        @DisplayName("Get latest news by Category ID - Buffered, and kept up to date on create")
+        public void testGetLatestNewsByCategoryId_FollowsCreates() {
+            News news = newsMapper.mapToEntity(sampleNewsDTO).setCategory(sampleCategory);
+            NewsDTO newerNewsDTO = new NewsDTO()
+                    .setId(2L)
+                    .setTitle("Newer title")
+                    .setText("Text")
+                    .setDate(sampleNewsDTO.getDate().plusSeconds(1))
+                    .setCategoryTitle(sampleCategory.getTitle());
+            News newerNews = newsMapper.mapToEntity(newerNewsDTO).setCategory(sampleCategory);
+            Limit bufferLimit = Limit.of(latestNews.getCapacity() + 1);
+
+            when(newsRepository.findFirstPageByCategoryId(sampleCategory.getId(), bufferLimit))
+                    .thenReturn(List.of(news));
+            when(categoryRepository.findByTitle(sampleCategory.getTitle())).thenReturn(Optional.of(sampleCategory));
+            when(newsRepository.save(newerNews)).thenReturn(newerNews);
+
+            assertThat(newsService.getLatestByCategoryId(sampleCategory.getId(), 10)).containsExactly(sampleNewsDTO);
+
+            newsService.create(newerNewsDTO);
+
+            assertThat(newsService.getLatestByCategoryId(sampleCategory.getId(), 10))
+                    .containsExactly(newerNewsDTO, sampleNewsDTO);
+            assertThat(newsService.getLatestByCategoryId(sampleCategory.getId(), 1))
+                    .containsExactly(newerNewsDTO);
+
+            verify(newsRepository, times(1)).findFirstPageByCategoryId(sampleCategory.getId(), bufferLimit);
+        }
+
+        @Test
+        @DisplayName("Update news - Invalidates old and new category feeds")
+        public void testUpdateNews_InvalidatesFeeds() {
+            Category previousCategory = new Category()
+                    .setId(2L)
+                    .setTitle("Previous category");
+            News previousNews = newsMapper.mapToEntity(sampleNewsDTO).setCategory(previousCategory);
+            News news = newsMapper.mapToEntity(sampleNewsDTO).setCategory(sampleCategory);
+
+            when(newsRepository.findByCategoryId(previousCategory.getId())).thenReturn(List.of(previousNews));
+            when(newsRepository.findByCategoryId(sampleCategory.getId())).thenReturn(Collections.emptyList());
+            when(categoryRepository.existsById(sampleCategory.getId())).thenReturn(true);
+            when(categoryRepository.findByTitle(sampleCategory.getTitle())).thenReturn(Optional.of(sampleCategory));
+            when(newsRepository.findCategoryIdById(sampleNewsDTO.getId()))
+                    .thenReturn(Optional.of(previousCategory.getId()));
+            when(newsRepository.updateContent(eq(sampleNewsDTO.getId()), any(), any(), any(), any())).thenReturn(1);
+            when(newsRepository.findById(sampleNewsDTO.getId())).thenReturn(Optional.of(news));
+
+            newsService.getByCategoryId(previousCategory.getId());
+            newsService.getByCategoryId(sampleCategory.getId());
+            newsService.update(sampleNewsDTO);
+
+            assertThat(feedCache.get(previousCategory.getId())).isEmpty();
+            assertThat(feedCache.get(sampleCategory.getId())).isEmpty();
+        }
+
+        @Test
+        @DisplayName("Delete news by ID - Invalidates its category feed")
+        public void testDeleteNews_InvalidatesFeed() {
+            News news = newsMapper.mapToEntity(sampleNewsDTO).setCategory(sampleCategory);
+
+            when(newsRepository.findByCategoryId(sampleCategory.getId())).thenReturn(List.of(news));
+            when(newsRepository.findCategoryIdById(sampleNewsDTO.getId()))
+                    .thenReturn(Optional.of(sampleCategory.getId()));
+            when(newsRepository.deleteNewsById(sampleNewsDTO.getId())).thenReturn(1);
+
+            newsService.getByCategoryId(sampleCategory.getId());
+            newsService.delete(sampleNewsDTO.getId());
+
+            assertThat(feedCache.get(sampleCategory.getId())).isEmpty();
+        }
+
+        @Test
+        @DisplayName("Get news pages - Success")
+        public void testGetNewsPages_Success() {
+            News newer = newsMapper.mapToEntity(sampleNewsDTO).setCategory(sampleCategory);
+            News older = newsMapper.mapToEntity(sampleNewsDTO)
+                    .setId(2L)
+                    .setDate(sampleNewsDTO.getDate().minusSeconds(60))
+                    .setCategory(sampleCategory);
+
+            when(newsRepository.findFirstPage(Limit.of(2))).thenReturn(List.of(newer, older));
+            when(newsRepository.findPageAfter(newer.getDate(), newer.getId(), Limit.of(2)))
+                    .thenReturn(List.of(older));
+
+            NewsPageDTO firstPage = newsService.getPage(null, 1);
+
+            assertThat(firstPage.getItems()).containsExactly(sampleNewsDTO);
+            assertThat(firstPage.getNext()).isNotNull();
+
+            NewsPageDTO secondPage = newsService.getPage(firstPage.getNext(), 1);
+
+            assertThat(secondPage.getItems()).hasSize(1);
+            assertThat(secondPage.getItems().get(0).getId()).isEqualTo(older.getId());
+            assertThat(secondPage.getNext()).isNull();
+
+            verify(newsRepository, times(1)).findFirstPage(Limit.of(2));
+            verify(newsRepository, times(1)).findPageAfter(newer.getDate(), newer.getId(), Limit.of(2));
+        }
+
+        @Test
+        @DisplayName("Get news page by Category ID - Success")
+        public void testGetNewsPageByCategoryId_Success() {
+            News news = newsMapper.mapToEntity(sampleNewsDTO).setCategory(sampleCategory);
+
+            when(newsRepository.findFirstPageByCategoryId(sampleCategory.getId(), Limit.of(21)))
+                    .thenReturn(List.of(news));
+
+            NewsPageDTO page = newsService.getPageByCategoryId(sampleCategory.getId(), null, 20);
+
+            assertThat(page.getItems()).containsExactly(sampleNewsDTO);
+            assertThat(page.getNext()).isNull();
+
+            verify(newsRepository, times(1)).findFirstPageByCategoryId(sampleCategory.getId(), Limit.of(21));
+            verify(categoryRepository, times(0)).existsById(sampleCategory.getId());
+        }
+
+        @Test
+        @DisplayName("Get news page - Limit is bounded")
+        public void testGetNewsPage_LimitBounded() {
+            when(newsRepository.findFirstPage(any(Limit.class))).thenReturn(Collections.emptyList());
+
+            newsService.getPage(null, 100_000);
+            newsService.getPage(null, 0);
+
+            verify(newsRepository, times(1)).findFirstPage(Limit.of(NewsServiceImpl.MAX_PAGE_LIMIT + 1));
+            verify(newsRepository, times(1)).findFirstPage(Limit.of(2));
+        }
+
+        @Test
+        @DisplayName("Export all news - Success")
+        public void testExportAllNews_Success() {
+            News news = newsMapper.mapToEntity(sampleNewsDTO).setCategory(sampleCategory);
+
+            when(newsRepository.streamAll()).thenReturn(Stream.of(news, news));
+
+            List<NewsDTO> exportedNewsDTOList = new ArrayList<>();
+            newsService.exportAll(exportedNewsDTOList::add);
+
+            assertThat(exportedNewsDTOList).containsExactly(sampleNewsDTO, sampleNewsDTO);
+
+            verify(newsRepository, times(1)).streamAll();
+        }
+
+        @Test
+        @DisplayName("Get news version by ID - Success")
+        public void testGetNewsVersionById_Success() {
+            Instant categoryUpdatedAt = sampleNewsDTO.getDate().plusSeconds(60);
+            NewsVersion version = mock(NewsVersion.class);
+            when(version.getVersion()).thenReturn(3L);
+            when(version.getUpdatedAt()).thenReturn(sampleNewsDTO.getDate());
+            when(version.getCategoryVersion()).thenReturn(2L);
+            when(version.getCategoryUpdatedAt()).thenReturn(categoryUpdatedAt);
+
+            when(newsRepository.findVersionById(sampleNewsDTO.getId())).thenReturn(Optional.of(version));
+
+            ResourceVersion resourceVersion = newsService.getVersionById(sampleNewsDTO.getId());
+
+            assertThat(resourceVersion.eTag()).isEqualTo("news-1-3-2");
+            assertThat(resourceVersion.lastModified()).isEqualTo(categoryUpdatedAt);
+
+            verify(newsRepository, never()).findById(any());
+        }
+
         @Test
         @DisplayName("Create news - Success")
         public void testCreateNews_Success() {
@@ -148,14 +399,62 @@ public class NewsServiceImplIntegrationTest {
             verify(newsRepository, times(1)).save(news);
         }
 
+        @Test
+        @DisplayName("Search news - Indexed on create, removed on delete")
+        public void testSearchNews_FollowsWrites() {
+            News news = newsMapper.mapToEntity(sampleNewsDTO).setCategory(sampleCategory);
+
+            when(categoryRepository.findByTitle(sampleCategory.getTitle())).thenReturn(Optional.of(sampleCategory));
+            when(newsRepository.save(any(News.class))).thenReturn(news);
+            when(newsRepository.deleteNewsById(sampleNewsDTO.getId())).thenReturn(1);
+
+            newsService.create(sampleNewsDTO);
+
+            assertThat(newsService.search(sampleNewsDTO.getTitle(), 10)).containsExactly(sampleNewsDTO);
+
+            newsService.delete(sampleNewsDTO.getId());
+
+            assertThat(newsService.search(sampleNewsDTO.getTitle(), 10)).isEmpty();
+            verify(newsRepository, never()).findAll();
+        }
+
+        @Test
+        @DisplayName("Create news batch - Success")
+        @SuppressWarnings("unchecked")
+        public void testCreateNewsBatch_Success() {
+            NewsDTO unknownCategoryNewsDTO = new NewsDTO()
+                    .setTitle("Title")
+                    .setText("Text")
+                    .setCategoryTitle("Unknown");
+            News news = newsMapper.mapToEntity(sampleNewsDTO).setCategory(sampleCategory);
+
+            when(categoryRepository.findByTitleIn(anyCollection())).thenReturn(List.of(sampleCategory));
+            when(newsRepository.saveAll(anyList())).thenReturn(List.of(news, news));
+
+            List<NewsBatchItemDTO> results = newsService.createAll(
+                    List.of(sampleNewsDTO, unknownCategoryNewsDTO, sampleNewsDTO));
+
+            assertThat(results).extracting(NewsBatchItemDTO::getStatus).containsExactly(
+                    NewsBatchItemDTO.Status.CREATED,
+                    NewsBatchItemDTO.Status.FAILED,
+                    NewsBatchItemDTO.Status.CREATED);
+            assertThat(results.get(0).getNews()).isEqualTo(sampleNewsDTO);
+            assertThat(results.get(1).getError()).isEqualTo("Category not found with title: Unknown");
+
+            verify(categoryRepository, times(1)).findByTitleIn(anyCollection());
+            verify(categoryRepository, never()).findByTitle(any());
+            verify(newsRepository, times(1)).saveAll(argThat((List<News> l) -> l.size() == 2));
+        }
+
         @Test
         @DisplayName("Update news - Success")
         public void testUpdateNews_Success() {
             News news = newsMapper.mapToEntity(sampleNewsDTO).setCategory(sampleCategory);
 
-            when(newsRepository.findById(sampleNewsDTO.getId())).thenReturn(Optional.of(news));
             when(categoryRepository.findByTitle(sampleCategory.getTitle())).thenReturn(Optional.of(sampleCategory));
-            when(newsRepository.save(any(News.class))).thenReturn(news);
+            when(newsRepository.updateContent(eq(sampleNewsDTO.getId()), eq(sampleNewsDTO.getTitle()),
+                    eq(sampleNewsDTO.getText()), eq(sampleCategory), any(Instant.class))).thenReturn(1);
+            when(newsRepository.findById(sampleNewsDTO.getId())).thenReturn(Optional.of(news));
 
             NewsDTO updatedNewsDTO = newsService.update(sampleNewsDTO);
 
@@ -163,25 +462,73 @@ public class NewsServiceImplIntegrationTest {
                     .isNotNull()
                     .isEqualTo(sampleNewsDTO);
 
-            verify(newsRepository, times(1)).findById(sampleNewsDTO.getId());
             verify(categoryRepository, times(1)).findByTitle(sampleCategory.getTitle());
-            verify(newsRepository, times(1)).save(news);
+            verify(newsRepository, times(1)).updateContent(eq(sampleNewsDTO.getId()), eq(sampleNewsDTO.getTitle()),
+                    eq(sampleNewsDTO.getText()), eq(sampleCategory), any(Instant.class));
+            verify(newsRepository, times(1)).findById(sampleNewsDTO.getId());
+            verify(newsRepository, never()).save(any(News.class));
         }
 
         @Test
-        @DisplayName("Delete news by ID - Success")
-        public void deleteNewsById_Success() {
-            News news = newsMapper.mapToEntity(sampleNewsDTO);
+        @DisplayName("Patch news - Title only, no category lookup")
+        public void testPatchNews_TitleOnly() {
+            News news = newsMapper.mapToEntity(sampleNewsDTO).setCategory(sampleCategory);
+
+            when(newsRepository.patch(eq(sampleNewsDTO.getId()), eq(sampleNewsDTO.getTitle()), isNull(), isNull(),
+                    any(Instant.class))).thenReturn(1);
+            when(newsRepository.findById(sampleNewsDTO.getId())).thenReturn(Optional.of(news));
+
+            NewsDTO patchedNewsDTO = newsService.patch(sampleNewsDTO.getId(),
+                    new NewsPatchDTO().setTitle(sampleNewsDTO.getTitle()));
+
+            assertThat(patchedNewsDTO).isEqualTo(sampleNewsDTO);
 
+            verify(categoryRepository, never()).findByTitle(any());
+            verify(newsRepository, never()).updateContent(any(), any(), any(), any(), any());
+            verify(newsRepository, never()).save(any(News.class));
+        }
+
+        @Test
+        @DisplayName("Patch news - Category change invalidates both feeds")
+        public void testPatchNews_CategoryChange() {
+            Category previousCategory = new Category()
+                    .setId(2L)
+                    .setTitle("Previous category");
+            News previousNews = newsMapper.mapToEntity(sampleNewsDTO).setCategory(previousCategory);
+            News news = newsMapper.mapToEntity(sampleNewsDTO).setCategory(sampleCategory);
+
+            when(newsRepository.findByCategoryId(previousCategory.getId())).thenReturn(List.of(previousNews));
+            when(newsRepository.findByCategoryId(sampleCategory.getId())).thenReturn(Collections.emptyList());
+            when(categoryRepository.existsById(sampleCategory.getId())).thenReturn(true);
+            when(categoryRepository.findByTitle(sampleCategory.getTitle())).thenReturn(Optional.of(sampleCategory));
+            when(newsRepository.findCategoryIdById(sampleNewsDTO.getId()))
+                    .thenReturn(Optional.of(previousCategory.getId()));
+            when(newsRepository.patch(eq(sampleNewsDTO.getId()), isNull(), isNull(), eq(sampleCategory),
+                    any(Instant.class))).thenReturn(1);
             when(newsRepository.findById(sampleNewsDTO.getId())).thenReturn(Optional.of(news));
 
+            newsService.getByCategoryId(previousCategory.getId());
+            newsService.getByCategoryId(sampleCategory.getId());
+            newsService.patch(sampleNewsDTO.getId(), new NewsPatchDTO().setCategoryTitle(sampleCategory.getTitle()));
+
+            assertThat(feedCache.get(previousCategory.getId())).isEmpty();
+            assertThat(feedCache.get(sampleCategory.getId())).isEmpty();
+        }
+
+        @Test
+        @DisplayName("Delete news by ID - Success")
+        public void deleteNewsById_Success() {
+            when(newsRepository.deleteNewsById(sampleNewsDTO.getId())).thenReturn(1);
+
             newsService.delete(sampleNewsDTO.getId());
 
             boolean isNewsDeleted = newsRepository.existsById(sampleNewsDTO.getId());
 
             assertThat(isNewsDeleted).isFalse();
 
-            verify(newsRepository, times(1)).deleteById(sampleNewsDTO.getId());
+            verify(newsRepository, times(1)).deleteNewsById(sampleNewsDTO.getId());
+            verify(newsRepository, never()).findById(sampleNewsDTO.getId());
+            verify(newsRepository, never()).deleteById(sampleNewsDTO.getId());
         }
 
     }
@@ -204,38 +551,132 @@ public class NewsServiceImplIntegrationTest {
         @Test
         @DisplayName("Get news by Category ID - Not Found")
         public void testGetNewsByCategoryId_NotFound() {
-            when(categoryRepository.existsById(sampleCategory.getId())).thenReturn(false);
             when(newsRepository.findByCategoryId(sampleCategory.getId())).thenReturn(Collections.emptyList());
+            when(categoryRepository.existsById(sampleCategory.getId())).thenReturn(false);
 
             assertThatExceptionOfType(NotFoundException.class)
                     .isThrownBy(() -> newsService.getByCategoryId(sampleCategory.getId()));
 
             verify(categoryRepository, times(1)).existsById(sampleCategory.getId());
-            verify(newsRepository, times(0)).findByCategoryId(sampleCategory.getId());
+            assertThat(feedCache.get(sampleCategory.getId())).isEmpty();
+        }
+
+        @Test
+        @DisplayName("Get latest news by Category ID - Not Found")
+        public void testGetLatestNewsByCategoryId_NotFound() {
+            when(newsRepository.findFirstPageByCategoryId(eq(sampleCategory.getId()), any()))
+                    .thenReturn(Collections.emptyList());
+            when(categoryRepository.existsById(sampleCategory.getId())).thenReturn(false);
+
+            assertThatExceptionOfType(NotFoundException.class)
+                    .isThrownBy(() -> newsService.getLatestByCategoryId(sampleCategory.getId(), 20));
+
+            verify(categoryRepository, times(1)).existsById(sampleCategory.getId());
+        }
+
+        @Test
+        @DisplayName("Get news page by Category ID - Not Found")
+        public void testGetNewsPageByCategoryId_NotFound() {
+            when(newsRepository.findFirstPageByCategoryId(sampleCategory.getId(), Limit.of(21)))
+                    .thenReturn(Collections.emptyList());
+            when(categoryRepository.existsById(sampleCategory.getId())).thenReturn(false);
+
+            assertThatExceptionOfType(NotFoundException.class)
+                    .isThrownBy(() -> newsService.getPageByCategoryId(sampleCategory.getId(), null, 20));
+
+            verify(categoryRepository, times(1)).existsById(sampleCategory.getId());
+        }
+
+        @Test
+        @DisplayName("Get news page - Invalid cursor")
+        public void testGetNewsPage_InvalidCursor() {
+            assertThatExceptionOfType(BadRequestException.class)
+                    .isThrownBy(() -> newsService.getPage("not a cursor", 20));
+
+            verify(newsRepository, never()).findPageAfter(any(), any(), any());
+        }
+
+        @Test
+        @DisplayName("Create news batch - Too large")
+        public void testCreateNewsBatch_TooLarge() {
+            List<NewsDTO> newsDTOList = Collections.nCopies(NewsServiceImpl.MAX_BATCH_SIZE + 1, sampleNewsDTO);
+
+            assertThatExceptionOfType(BadRequestException.class)
+                    .isThrownBy(() -> newsService.createAll(newsDTOList));
+
+            verify(newsRepository, never()).saveAll(anyList());
+        }
+
+        @Test
+        @DisplayName("Search news - Blank query")
+        public void testSearchNews_BlankQuery() {
+            assertThatExceptionOfType(BadRequestException.class)
+                    .isThrownBy(() -> newsService.search(" ", 10));
+        }
+
+        @Test
+        @DisplayName("Get news version by ID - Not Found")
+        public void testGetNewsVersionById_NotFound() {
+            when(newsRepository.findVersionById(sampleNewsDTO.getId())).thenReturn(Optional.empty());
+
+            assertThatExceptionOfType(NotFoundException.class)
+                    .isThrownBy(() -> newsService.getVersionById(sampleNewsDTO.getId()));
         }
 
         @Test
         @DisplayName("Update news - Not Found")
         public void testUpdateNews_NotFound() {
-            when(newsRepository.findById(sampleNewsDTO.getId())).thenReturn(Optional.empty());
+            when(categoryRepository.findByTitle(sampleNewsDTO.getCategoryTitle())).thenReturn(Optional.of(sampleCategory));
+            when(newsRepository.updateContent(eq(sampleNewsDTO.getId()), any(), any(), any(), any())).thenReturn(0);
+
+            assertThatExceptionOfType(NotFoundException.class)
+                    .isThrownBy(() -> newsService.update(sampleNewsDTO));
+
+            verify(newsRepository, times(1)).updateContent(eq(sampleNewsDTO.getId()), any(), any(), any(), any());
+            verify(newsRepository, never()).findById(sampleNewsDTO.getId());
+        }
+
+        @Test
+        @DisplayName("Update news - Category not found")
+        public void testUpdateNews_CategoryNotFound() {
             when(categoryRepository.findByTitle(sampleNewsDTO.getCategoryTitle())).thenReturn(Optional.empty());
 
             assertThatExceptionOfType(NotFoundException.class)
                     .isThrownBy(() -> newsService.update(sampleNewsDTO));
 
-            verify(newsRepository, times(1)).findById(sampleNewsDTO.getId());
-            verify(categoryRepository, times(0)).findByTitle(sampleNewsDTO.getCategoryTitle());
+            verify(newsRepository, never()).updateContent(any(), any(), any(), any(), any());
+        }
+
+        @Test
+        @DisplayName("Patch news - Not Found")
+        public void testPatchNews_NotFound() {
+            when(newsRepository.patch(eq(sampleNewsDTO.getId()), any(), any(), any(), any())).thenReturn(0);
+
+            assertThatExceptionOfType(NotFoundException.class)
+                    .isThrownBy(() -> newsService.patch(sampleNewsDTO.getId(), new NewsPatchDTO().setText("Text")));
+
+            verify(newsRepository, never()).findById(sampleNewsDTO.getId());
+        }
+
+        @Test
+        @DisplayName("Patch news - Empty patch")
+        public void testPatchNews_EmptyPatch() {
+            assertThatExceptionOfType(BadRequestException.class)
+                    .isThrownBy(() -> newsService.patch(sampleNewsDTO.getId(), new NewsPatchDTO()));
+
+            verify(newsRepository, never()).patch(any(), any(), any(), any(), any());
         }
 
         @Test
         @DisplayName("Delete news by ID - Not Found")
         public void deleteNewsById_NotFound() {
-            when(newsRepository.findById(sampleNewsDTO.getId())).thenReturn(Optional.empty());
+            when(newsRepository.deleteNewsById(sampleNewsDTO.getId())).thenReturn(0);
 
             assertThatExceptionOfType(NotFoundException.class)
                     .isThrownBy(() -> newsService.delete(sampleNewsDTO.getId()));
 
-            verify(newsRepository, times(1)).findById(sampleNewsDTO.getId());
+            verify(newsRepository, times(1)).deleteNewsById(sampleNewsDTO.getId());
+            verify(newsRepository, never()).findById(sampleNewsDTO.getId());
         }
 
     }
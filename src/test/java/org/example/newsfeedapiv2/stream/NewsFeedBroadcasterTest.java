@@ -0,0 +1,178 @@
+package org.example.newsfeedapiv2.stream;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import org.example.newsfeedapiv2.dto.NewsDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+public class NewsFeedBroadcasterTest {
+
+    private ObjectMapper objectMapper;
+    private List<Runnable> dispatched;
+
+    @BeforeEach
+    public void setUp() {
+        objectMapper = spy(JsonMapper.builder().findAndAddModules().build());
+        dispatched = new ArrayList<>();
+    }
+
+    @Test
+    @DisplayName("An event is serialized once and handed to every subscriber of its category only")
+    public void testOnNewsChanged_FansOutToCategory() throws Exception {
+        NewsFeedBroadcaster broadcaster = broadcaster(8);
+        for (int i = 0; i < 3; i++) {
+            broadcaster.subscribe(1L);
+        }
+        broadcaster.subscribe(2L);
+        drain();
+
+        broadcaster.onNewsChanged(event(1L));
+
+        assertThat(broadcaster.getSubscriberCount()).isEqualTo(4);
+        assertThat(dispatched).hasSize(3);
+        verify(objectMapper, times(1)).writeValueAsString(any());
+    }
+
+    @Test
+    @DisplayName("A subscriber whose buffer is full is evicted")
+    public void testOnNewsChanged_EvictsSlowSubscriber() throws Exception {
+        NewsFeedBroadcaster broadcaster = broadcaster(2);
+        broadcaster.subscribe(1L);
+
+        broadcaster.onNewsChanged(event(1L));
+        broadcaster.onNewsChanged(event(1L));
+        broadcaster.onNewsChanged(event(1L));
+
+        assertThat(broadcaster.getEvictions()).isEqualTo(1);
+        assertThat(broadcaster.getSubscriberCount()).isZero();
+        assertThat(broadcaster.getEvents()).isEqualTo(3);
+        verify(objectMapper, times(2)).writeValueAsString(any());
+    }
+
+    @Test
+    @DisplayName("A subscriber whose write is stuck is evicted and the pool gets a thread in its place")
+    public void testEvictStalledWriters() throws Exception {
+        ThreadPoolExecutor pool = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>());
+        NewsFeedBroadcaster broadcaster = new NewsFeedBroadcaster(objectMapper, 8, Duration.ofMinutes(1),
+                Duration.ZERO, pool);
+        try {
+            SseEmitter emitter = broadcaster.subscribe(1L);
+            broadcaster.subscribe(2L);
+
+            synchronized (emitter) {
+                broadcaster.onNewsChanged(event(1L));
+                awaitEvictions(broadcaster, 1);
+
+                assertThat(broadcaster.getSubscriberCount()).isEqualTo(1);
+                assertThat(pool.getCorePoolSize()).isEqualTo(2);
+            }
+            for (int i = 0; i < 100 && pool.getCorePoolSize() > 1; i++) {
+                Thread.sleep(20);
+            }
+            assertThat(pool.getCorePoolSize()).isEqualTo(1);
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("Stuck writes add no more threads than the pool has")
+    public void testEvictStalledWriters_CapsExtraThreads() throws Exception {
+        ThreadPoolExecutor pool = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>());
+        NewsFeedBroadcaster broadcaster = new NewsFeedBroadcaster(objectMapper, 8, Duration.ofMinutes(1),
+                Duration.ZERO, pool);
+        try {
+            SseEmitter first = broadcaster.subscribe(1L);
+            SseEmitter second = broadcaster.subscribe(2L);
+
+            synchronized (first) {
+                synchronized (second) {
+                    broadcaster.onNewsChanged(event(1L));
+                    broadcaster.onNewsChanged(event(2L));
+                    awaitEvictions(broadcaster, 2);
+
+                    assertThat(broadcaster.getSubscriberCount()).isZero();
+                    assertThat(pool.getCorePoolSize()).isEqualTo(2);
+                }
+            }
+            for (int i = 0; i < 100 && pool.getCorePoolSize() > 1; i++) {
+                Thread.sleep(20);
+            }
+            assertThat(pool.getCorePoolSize()).isEqualTo(1);
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("Deleting a category completes the streams of its subscribers only")
+    public void testOnCategoryDeleted() {
+        NewsFeedBroadcaster broadcaster = broadcaster(8);
+        broadcaster.subscribe(1L);
+        broadcaster.subscribe(1L);
+        broadcaster.subscribe(2L);
+        drain();
+
+        broadcaster.onCategoryDeleted(new CategoryDeletedEvent(1L));
+        drain();
+
+        assertThat(broadcaster.getSubscriberCount()).isEqualTo(1);
+        assertThat(broadcaster.getEvictions()).isZero();
+    }
+
+    @Test
+    @DisplayName("Events of a category without subscribers are not serialized")
+    public void testOnNewsChanged_NoSubscribers() throws Exception {
+        NewsFeedBroadcaster broadcaster = broadcaster(8);
+
+        broadcaster.onNewsChanged(event(1L));
+
+        assertThat(broadcaster.getEvents()).isEqualTo(1);
+        assertThat(dispatched).isEmpty();
+        verify(objectMapper, never()).writeValueAsString(any());
+    }
+
+    private NewsFeedBroadcaster broadcaster(int bufferSize) {
+        return new NewsFeedBroadcaster(objectMapper, bufferSize, Duration.ofMinutes(1), Duration.ofMinutes(1),
+                dispatched::add);
+    }
+
+    private static void awaitEvictions(NewsFeedBroadcaster broadcaster, long evictions)
+            throws InterruptedException {
+        for (int i = 0; i < 100 && broadcaster.getEvictions() < evictions; i++) {
+            broadcaster.evictStalledWriters();
+            Thread.sleep(20);
+        }
+    }
+
+    private void drain() {
+        List<Runnable> tasks = new ArrayList<>(dispatched);
+        dispatched.clear();
+        tasks.forEach(Runnable::run);
+    }
+
+    private static NewsChangedEvent event(Long categoryId) {
+        return new NewsChangedEvent(NewsChangedEvent.Type.CREATED, categoryId, new NewsDTO()
+                .setId(1L)
+                .setTitle("Title")
+                .setText("Text")
+                .setCategoryTitle("Category title"));
+    }
+
+}
@@ -0,0 +1,119 @@
+package org.example.newsfeedapiv2.stream;
+
+import org.example.newsfeedapiv2.dto.NewsDTO;
+import org.example.newsfeedapiv2.entity.Category;
+import org.example.newsfeedapiv2.repositories.CategoryRepository;
+import org.example.newsfeedapiv2.search.NewsSearchIndex;
+import org.example.newsfeedapiv2.services.CategoryServiceImpl;
+import org.example.newsfeedapiv2.services.NewsServiceImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+public class NewsFeedStreamIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private NewsServiceImpl newsService;
+
+    @Autowired
+    private CategoryServiceImpl categoryService;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private NewsFeedBroadcaster broadcaster;
+
+    @Autowired
+    private NewsSearchIndex searchIndex;
+    private Category category;
+    private NewsDTO created;
+
+    @BeforeEach
+    public void setUp() {
+        category = categoryRepository.save(new Category().setTitle("Stream " + UUID.randomUUID()));
+    }
+
+    @AfterEach
+    public void tearDown() {
+        if (created != null) {
+            searchIndex.remove(created.getId());
+        }
+        categoryRepository.deleteCategoryById(category.getId());
+    }
+
+    @Test
+    @DisplayName("News created in a category reach its open streams")
+    public void testStream_DeliversCreatedNews() throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/news/category/{id}/stream", category.getId()))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        created = newsService.create(new NewsDTO()
+                .setTitle("Streamed")
+                .setText("Text")
+                .setCategoryTitle(category.getTitle()));
+
+        String content = awaitContent(result.getResponse(), "event:created");
+        assertThat(content)
+                .startsWith(":subscribed\n\n")
+                .contains("id:" + created.getId() + "\n")
+                .contains("\"title\":\"Streamed\"");
+    }
+
+    @Test
+    @DisplayName("Deleting a category completes its open streams")
+    public void testStream_CompletedOnCategoryDelete() throws Exception {
+        mockMvc.perform(get("/api/news/category/{id}/stream", category.getId()))
+                .andExpect(request().asyncStarted());
+        int subscribers = broadcaster.getSubscriberCount();
+
+        categoryService.delete(category.getId());
+
+        for (int attempt = 0; attempt < 100 && broadcaster.getSubscriberCount() >= subscribers; attempt++) {
+            Thread.sleep(50);
+        }
+        assertThat(broadcaster.getSubscriberCount()).isEqualTo(subscribers - 1);
+    }
+
+    @Test
+    @DisplayName("Open streams do not hold database connections")
+    public void testStream_ReleasesConnection() throws Exception {
+        for (int i = 0; i < 20; i++) {
+            mockMvc.perform(get("/api/news/category/{id}/stream", category.getId()))
+                    .andExpect(request().asyncStarted());
+        }
+
+        assertThat(categoryRepository.existsById(category.getId())).isTrue();
+    }
+
+    private static String awaitContent(MockHttpServletResponse response, String expected) throws Exception {
+        for (int attempt = 0; attempt < 100; attempt++) {
+            String content = response.getContentAsString();
+            if (content.contains(expected)) {
+                return content;
+            }
+            Thread.sleep(50);
+        }
+        throw new AssertionError("Stream did not receive " + expected + ": " + response.getContentAsString());
+    }
+
+}